@@ -0,0 +1,62 @@
+package com.wootech.dropthecode.controller.auth.util;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.Token;
+import com.wootech.dropthecode.domain.VerifiedToken;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 요청마다 실행되는 토큰 발급, 서명 검증, 페이로드 추출 비용을 측정한다.
+ * TokenCache 가 생략해 주는 비용이 verify 한 번에 해당한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidityInMilliseconds", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidityInMilliseconds", 1_209_600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "benchmark-secret-key");
+        accessToken = jwtTokenProvider.createAccessToken("1", Role.STUDENT).getValue();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("1", 3_600_000L);
+    }
+
+    @Benchmark
+    public Token createAccessToken() {
+        return jwtTokenProvider.createAccessToken("1", Role.TEACHER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getPayload() {
+        return jwtTokenProvider.getPayload(accessToken);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+}
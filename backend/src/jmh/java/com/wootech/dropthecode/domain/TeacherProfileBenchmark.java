@@ -0,0 +1,40 @@
+package com.wootech.dropthecode.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 리뷰가 완료될 때마다 실행되는 리뷰 수와 평균 리뷰 시간 갱신 비용을 측정한다.
+ * 리뷰 수가 계속 늘어나지 않도록 반복마다 리뷰어를 새로 만든다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeacherProfileBenchmark {
+
+    private TeacherProfile teacherProfile;
+    private long reviewTime;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        teacherProfile = TeacherProfile.builder()
+                                       .id(1L)
+                                       .title("title")
+                                       .content("content")
+                                       .career(3)
+                                       .sumReviewCount(0)
+                                       .averageReviewTime(0.0)
+                                       .build();
+    }
+
+    @Benchmark
+    public Double updateReviewCountAndTime() {
+        reviewTime = (reviewTime + 7) % 240;
+        teacherProfile.updateReviewCountAndTime(reviewTime);
+        return teacherProfile.getAverageReviewTime();
+    }
+}
@@ -0,0 +1,97 @@
+package com.wootech.dropthecode.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.wootech.dropthecode.domain.*;
+import com.wootech.dropthecode.domain.bridge.TeacherLanguage;
+import com.wootech.dropthecode.domain.bridge.TeacherSkill;
+import com.wootech.dropthecode.dto.ReviewSummary;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 리뷰어 목록과 리뷰 목록 응답을 만들 때 엔티티를 DTO 로 옮기는 비용을 측정한다.
+ * 리뷰어 한 명은 언어 2개, 기술 3개를 가진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private TeacherProfile teacherProfile;
+    private TeacherStatistics teacherStatistics;
+    private ReviewSummary reviewSummary;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                              .id(1L)
+                              .oauthId("oauth")
+                              .email("teacher@gmail.com")
+                              .name("teacher")
+                              .imageUrl("s3://teacher")
+                              .githubUrl("https://github.com/teacher")
+                              .role(Role.TEACHER)
+                              .createdAt(LocalDateTime.now())
+                              .build();
+
+        Set<TeacherLanguage> languages = new LinkedHashSet<>();
+        Set<TeacherSkill> skills = new LinkedHashSet<>();
+        teacherProfile = TeacherProfile.builder()
+                                       .id(1L)
+                                       .title("title")
+                                       .content("content")
+                                       .career(3)
+                                       .member(member)
+                                       .languages(languages)
+                                       .skills(skills)
+                                       .sumReviewCount(10)
+                                       .averageReviewTime(1.5)
+                                       .build();
+        List.of("java", "kotlin").forEach(name -> languages.add(new TeacherLanguage(teacherProfile, Language.builder().name(name).build())));
+        List.of("spring", "jpa", "querydsl").forEach(name -> skills.add(new TeacherSkill(teacherProfile, Skill.builder().name(name).build())));
+
+        teacherStatistics = new TeacherStatistics(1L);
+        reviewSummary = ReviewSummary.builder()
+                                     .id(1L)
+                                     .title("review title")
+                                     .content("review content")
+                                     .progress(Progress.ON_GOING)
+                                     .teacherId(1L)
+                                     .teacherName("teacher")
+                                     .teacherImageUrl("s3://teacher")
+                                     .studentId(2L)
+                                     .studentName("student")
+                                     .studentImageUrl("s3://student")
+                                     .prUrl("https://github.com/pulls/1")
+                                     .createdAt(LocalDateTime.now())
+                                     .build();
+    }
+
+    @Benchmark
+    public TeacherProfileResponse teacherProfileResponse() {
+        return TeacherProfileResponse.from(teacherProfile, teacherStatistics);
+    }
+
+    @Benchmark
+    public ReviewResponse reviewResponse() {
+        return ReviewResponse.from(reviewSummary);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(20)
+    public List<TeacherProfileResponse> teacherPage() {
+        return IntStream.range(0, 20)
+                        .mapToObj(i -> TeacherProfileResponse.from(teacherProfile, teacherStatistics))
+                        .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,63 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 연결 수가 늘어도 회원 한 명의 emitter 조회와 연결, 해제 비용이 일정한지 확인한다.
+ * 회원마다 두 개의 탭이 연결된 상황을 가정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmitterRepositoryBenchmark {
+    private static final int EMITTERS_PER_MEMBER = 2;
+
+    @Param({"10000", "100000"})
+    private int connections;
+
+    private EmitterRepository emitterRepository;
+    private int members;
+
+    @Setup
+    public void setUp() {
+        emitterRepository = new EmitterRepository();
+        members = connections / EMITTERS_PER_MEMBER;
+        for (long memberId = 0; memberId < members; memberId++) {
+            for (int tab = 0; tab < EMITTERS_PER_MEMBER; tab++) {
+                emitterRepository.save(memberId, memberId + "_" + tab, new SseEmitter());
+            }
+        }
+    }
+
+    private long randomMemberId() {
+        return ThreadLocalRandom.current().nextInt(members);
+    }
+
+    @Benchmark
+    public Map<String, SseEmitter> findAllByMemberId() {
+        return emitterRepository.findAllByMemberId(randomMemberId());
+    }
+
+    @Benchmark
+    public SseEmitter connectAndDisconnect() {
+        long memberId = randomMemberId();
+        String emitterId = memberId + "_benchmark";
+        SseEmitter emitter = emitterRepository.save(memberId, emitterId, new SseEmitter());
+        emitterRepository.deleteById(memberId, emitterId);
+        return emitter;
+    }
+
+    @Benchmark
+    public int countEmitters() {
+        return emitterRepository.countEmitters();
+    }
+}
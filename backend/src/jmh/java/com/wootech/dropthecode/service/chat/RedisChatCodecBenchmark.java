@@ -0,0 +1,69 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 기존 JSON 경로(Jackson2JsonRedisSerializer 직렬화, String 변환 후 재파싱)와 바이너리 직렬화를 비교한다.
+ * 메시지당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisChatCodecBenchmark {
+
+    @Param({"16", "512"})
+    private int messageLength;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisSerializer stringSerializer = new StringRedisSerializer();
+    private final Jackson2JsonRedisSerializer<String> jsonSerializer = new Jackson2JsonRedisSerializer<>(String.class);
+    private final RedisChatSerializer redisChatSerializer = new RedisChatSerializer();
+
+    private RedisChat chat;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        chat = new RedisChat(1L, 2L, 3L, "안녕하세요 리뷰 부탁드립니다!".repeat(messageLength / 16 + 1).substring(0, messageLength));
+        jsonBytes = serializeJson(chat);
+        binaryBytes = redisChatSerializer.serialize(chat);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serializeJson(RedisChat chat) {
+        return ((Jackson2JsonRedisSerializer<Object>) (Jackson2JsonRedisSerializer<?>) jsonSerializer).serialize(chat);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return serializeJson(chat);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return redisChatSerializer.serialize(chat);
+    }
+
+    @Benchmark
+    public RedisChat jsonDeserialize() throws IOException {
+        String message = stringSerializer.deserialize(jsonBytes);
+        return objectMapper.readValue(message, RedisChat.class);
+    }
+
+    @Benchmark
+    public RedisChat binaryDeserialize() {
+        return redisChatSerializer.deserialize(binaryBytes);
+    }
+}
@@ -0,0 +1,56 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Redis 에서 받은 채팅 메시지를 디코딩해 STOMP 구독 채널로 넘기기까지의 비용을 측정한다.
+ * 브로커로 보내는 채널은 메시지를 Blackhole 로 흘려 전송 비용을 제외한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSubscriberBenchmark {
+    private static final byte[] PATTERN = RedisSubscriber.ROOMS.getTopic().getBytes(StandardCharsets.UTF_8);
+
+    @Param({"16", "512"})
+    private int messageLength;
+
+    private final RedisChatSerializer redisChatSerializer = new RedisChatSerializer();
+
+    private RedisSubscriber redisSubscriber;
+    private Message message;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        SimpMessagingTemplate messageTemplate = new SimpMessagingTemplate((sent, timeout) -> {
+            blackhole.consume(sent);
+            return true;
+        });
+        redisSubscriber = new RedisSubscriber(redisChatSerializer, messageTemplate);
+
+        String text = "안녕하세요 리뷰 부탁드립니다!".repeat(messageLength / 16 + 1).substring(0, messageLength);
+        byte[] channel = "/rooms/1".getBytes(StandardCharsets.UTF_8);
+        message = new DefaultMessage(channel, redisChatSerializer.serialize(new RedisChat(1L, 2L, 3L, text)));
+    }
+
+    @Benchmark
+    public RedisChat decode() {
+        return redisChatSerializer.deserialize(message.getBody());
+    }
+
+    @Benchmark
+    public void onMessage() {
+        redisSubscriber.onMessage(message, PATTERN);
+    }
+}
@@ -0,0 +1,193 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.lang.reflect.Type;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.wootech.dropthecode.dto.request.ChatRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatStormLoadTest extends LoadTest {
+    private static final String CONNECT = "STOMP CONNECT /ws-connection";
+    private static final String DELIVERY = "STOMP SEND /publish/rooms/{id} -> MESSAGE";
+    private static final String WARM_UP = "warm-up";
+    private static final String STORM = "storm|";
+
+    @Value("${loadtest.chat.rooms}")
+    private int rooms;
+
+    @Value("${loadtest.chat.messages-per-session}")
+    private int messagesPerSession;
+
+    /**
+     * 세션별 전송 제한(chat.websocket.rate-limit)에 걸리지 않는 전송 간격
+     */
+    @Value("${loadtest.chat.send-interval}")
+    private Duration sendInterval;
+
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUpStompClient() {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new CompositeMessageConverter(
+                List.of(new StringMessageConverter(), new MappingJackson2MessageConverter())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("여러 채팅방의 두 참여자가 동시에 메시지를 주고받을 때 전달 시간을 잰다")
+    void chatStorm() throws Exception {
+        // given
+        int roomCount = Math.min(rooms, repeatCount);
+        // 한 방의 두 세션이 보낸 메시지를 두 세션 모두 받는다
+        CountDownLatch delivered = new CountDownLatch(roomCount * 2 * messagesPerSession * 2);
+        List<Participant> participants = new ArrayList<>();
+        recorder.start();
+
+        try {
+            for (int room = 0; room < roomCount; room++) {
+                long base = (long) room * MEMBERS_PER_REPEAT;
+                long studentId = base + 2;
+                long teacherId = base + 3;
+                Long roomId = createRoom(studentId, teacherId);
+                if (Objects.isNull(roomId)) {
+                    continue;
+                }
+                participants.add(connect(roomId, studentId, teacherId, delivered));
+                participants.add(connect(roomId, teacherId, studentId, delivered));
+            }
+            for (Participant participant : participants) {
+                participant.warmUp();
+            }
+
+            // when
+            run(participants.size(), index -> participants.get(index).storm());
+            delivered.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            recorder.stop();
+            participants.forEach(Participant::disconnect);
+        }
+
+        // then
+        recorder.fail(DELIVERY, delivered.getCount());
+        LoadTestReport report = report("chat-storm");
+        assertThat(report.getErrors()).isZero();
+    }
+
+    private Long createRoom(long studentId, long teacherId) {
+        HttpResponse<String> response = send("GET /rooms", request("/rooms?studentId=" + studentId + "&teacherId=" + teacherId).GET().build(),
+                HttpStatus.OK.value());
+        if (Objects.isNull(response)) {
+            return null;
+        }
+        return read(response).path("roomId").asLong();
+    }
+
+    private Participant connect(Long roomId, long senderId, long receiverId, CountDownLatch delivered) throws Exception {
+        StompSessionHandlerAdapter sessionHandler = new StompSessionHandlerAdapter() {
+        };
+        long startedAt = System.nanoTime();
+        StompSession session = stompClient.connect("ws://localhost:{port}/ws-connection?{token}", sessionHandler, port, accessToken(senderId))
+                                          .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        recorder.record(CONNECT, System.nanoTime() - startedAt, true);
+
+        Participant participant = new Participant(session, roomId, senderId, receiverId, delivered);
+        session.subscribe("/subscribe/rooms/" + roomId, participant);
+        return participant;
+    }
+
+    /**
+     * 구독이 실제로 등록되었는지 알 수 있도록 자신이 보낸 준비 메시지를 받을 때까지 기다린 뒤 메시지를 보낸다.
+     * 보낸 시각을 메시지에 담아 받은 쪽에서 전달 시간을 계산한다.
+     */
+    private class Participant implements StompFrameHandler {
+        private final StompSession session;
+        private final Long roomId;
+        private final long senderId;
+        private final long receiverId;
+        private final CountDownLatch delivered;
+        private final CountDownLatch ready = new CountDownLatch(1);
+        private final String warmUpMessage;
+
+        private Participant(StompSession session, Long roomId, long senderId, long receiverId, CountDownLatch delivered) {
+            this.session = session;
+            this.roomId = roomId;
+            this.senderId = senderId;
+            this.receiverId = receiverId;
+            this.delivered = delivered;
+            this.warmUpMessage = WARM_UP + senderId;
+        }
+
+        private void warmUp() throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (ready.getCount() > 0 && System.nanoTime() < deadline) {
+                send(warmUpMessage);
+                ready.await(sendInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void storm() throws InterruptedException {
+            for (int i = 0; i < messagesPerSession; i++) {
+                send(STORM + System.nanoTime());
+                Thread.sleep(sendInterval.toMillis());
+            }
+        }
+
+        private void send(String message) {
+            session.send("/publish/rooms/" + roomId, new ChatRequest(senderId, receiverId, message));
+        }
+
+        private void disconnect() {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            String message = (String) payload;
+            if (message.equals(warmUpMessage)) {
+                ready.countDown();
+                return;
+            }
+            if (message.startsWith(STORM)) {
+                long sentAt = Long.parseLong(message.substring(STORM.length()));
+                recorder.record(DELIVERY, System.nanoTime() - sentAt, true);
+                delivered.countDown();
+            }
+        }
+    }
+}
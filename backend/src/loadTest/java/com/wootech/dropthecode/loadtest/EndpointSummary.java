@@ -0,0 +1,69 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 한 endpoint 의 요청 수, 실패 수, 초당 처리량과 백분위 지연 시간(ms)을 담는다.
+ */
+public class EndpointSummary {
+    private final String endpoint;
+    private final long count;
+    private final long errors;
+    private final double throughput;
+    private final double p50;
+    private final double p95;
+    private final double p99;
+    private final double max;
+
+    public EndpointSummary(String endpoint, long count, long errors, Duration elapsed,
+                           long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+        this.endpoint = endpoint;
+        this.count = count;
+        this.errors = errors;
+        this.throughput = round(elapsed.isZero() ? 0 : count / (elapsed.toNanos() / 1_000_000_000.0));
+        this.p50 = toMillis(p50Nanos);
+        this.p95 = toMillis(p95Nanos);
+        this.p99 = toMillis(p99Nanos);
+        this.max = toMillis(maxNanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP95() {
+        return p95;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,90 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 요청마다 걸린 시간을 endpoint 별로 모아 백분위 지연 시간과 처리량을 계산한다.
+ * 처리량은 start 부터 stop 까지의 시간으로 나눠 구한다.
+ */
+public class LatencyRecorder {
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private volatile long startedAt = System.nanoTime();
+    private volatile long stoppedAt;
+
+    public void start() {
+        startedAt = System.nanoTime();
+        stoppedAt = 0;
+    }
+
+    public void stop() {
+        stoppedAt = System.nanoTime();
+    }
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    /**
+     * 응답을 받지 못해 지연 시간을 잴 수 없는 요청은 실패 횟수로만 센다.
+     */
+    public void fail(String endpoint, long count) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).fail(count);
+    }
+
+    public LoadTestReport report(String scenario) {
+        long endedAt = stoppedAt == 0 ? System.nanoTime() : stoppedAt;
+        Duration elapsed = Duration.ofNanos(endedAt - startedAt);
+        List<EndpointSummary> endpoints = samples.entrySet()
+                                                 .stream()
+                                                 .sorted(Map.Entry.comparingByKey())
+                                                 .map(entry -> entry.getValue().summarize(entry.getKey(), elapsed))
+                                                 .collect(Collectors.toList());
+        return new LoadTestReport(scenario, elapsed, endpoints);
+    }
+
+    /**
+     * 정렬된 값에서 nearest-rank 방식으로 백분위 값을 구한다.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        private long unanswered;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void fail(long count) {
+            errors += count;
+            unanswered += count;
+        }
+
+        synchronized EndpointSummary summarize(String endpoint, Duration elapsed) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointSummary(endpoint, size + unanswered, errors, elapsed,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootech.dropthecode.controller.auth.util.JwtTokenProvider;
+import com.wootech.dropthecode.domain.Role;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * pt-init 으로 만든 데이터에 시나리오별 부하를 주고 endpoint 별 지연 시간과 처리량을 기록한다.
+ * pt-init 의 MySQL, Redis 설정은 loadtest 프로필이 H2 와 Embedded Redis 로 덮어쓴다.
+ */
+@Tag("load")
+@ActiveProfiles({"local", "pt-init", "loadtest"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class LoadTest {
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    /**
+     * pt-init 은 한 묶음마다 id 가 연속된 6명의 선생님 회원을 만든다.
+     */
+    protected static final int MEMBERS_PER_REPEAT = 6;
+
+    @LocalServerPort
+    protected int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Value("${pt-init.repeat-count}")
+    protected int repeatCount;
+
+    @Value("${loadtest.workers}")
+    protected int workers;
+
+    @Value("${loadtest.iterations}")
+    protected int iterations;
+
+    @Value("${loadtest.timeout}")
+    protected Duration timeout;
+
+    @Value("${loadtest.report-dir}")
+    private String reportDir;
+
+    protected HttpClient httpClient;
+    protected LatencyRecorder recorder;
+
+    @BeforeEach
+    public void setUp() {
+        httpClient = HttpClient.newBuilder()
+                               .version(HttpClient.Version.HTTP_1_1)
+                               .connectTimeout(Duration.ofSeconds(10))
+                               .build();
+        recorder = new LatencyRecorder();
+    }
+
+    protected int memberCount() {
+        return repeatCount * MEMBERS_PER_REPEAT;
+    }
+
+    protected String accessToken(long memberId) {
+        return jwtTokenProvider.createAccessToken(String.valueOf(memberId), Role.TEACHER).getValue();
+    }
+
+    protected HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                          .timeout(Duration.ofSeconds(30));
+    }
+
+    protected HttpRequest.Builder request(String path, long memberId) {
+        return request(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken(memberId));
+    }
+
+    protected HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    protected JsonNode read(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 요청에 걸린 시간을 endpoint 이름으로 기록하고, 기대한 상태 코드가 아니거나 응답을 받지 못하면 실패로 센다.
+     * 실패하면 null 을 반환하므로 시나리오는 다음 단계를 건너뛴다.
+     */
+    protected HttpResponse<String> send(String endpoint, HttpRequest request, int expectedStatus) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() == expectedStatus;
+            recorder.record(endpoint, System.nanoTime() - startedAt, success);
+            return success ? response : null;
+        } catch (IOException e) {
+            log.debug("부하 테스트 요청 실패 [endpoint={}]", endpoint, e);
+            recorder.fail(endpoint, 1);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 0 부터 tasks - 1 까지의 번호를 workers 개의 스레드가 차례로 가져가 실행한다.
+     * 번호로 사용할 회원과 검색 조건을 정하므로 같은 설정이면 같은 요청이 만들어진다.
+     */
+    protected void run(int tasks, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        AtomicInteger sequence = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int index = sequence.getAndIncrement(); index < tasks; index = sequence.getAndIncrement()) {
+                        task.run(index);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("부하 테스트 시나리오를 끝내지 못했습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    protected LoadTestReport report(String scenario) {
+        LoadTestReport report = recorder.report(scenario);
+        Path file = report.write(objectMapper, Paths.get(reportDir));
+        log.info("부하 테스트 결과 [file={}]\n{}", file, report.toTable());
+        return report;
+    }
+
+    @FunctionalInterface
+    protected interface Task {
+        void run(int index) throws Exception;
+    }
+}
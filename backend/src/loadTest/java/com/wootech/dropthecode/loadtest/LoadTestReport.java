@@ -0,0 +1,67 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 시나리오 한 번의 결과로, 이후 성능 작업과 비교할 수 있도록 {시나리오}.json 으로 저장한다.
+ */
+public class LoadTestReport {
+    private static final String ROW_FORMAT = "%-45s %8s %7s %10s %9s %9s %9s %9s%n";
+
+    private final String scenario;
+    private final long elapsedMillis;
+    private final List<EndpointSummary> endpoints;
+
+    public LoadTestReport(String scenario, Duration elapsed, List<EndpointSummary> endpoints) {
+        this.scenario = scenario;
+        this.elapsedMillis = elapsed.toMillis();
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    public long getErrors() {
+        return endpoints.stream()
+                        .mapToLong(EndpointSummary::getErrors)
+                        .sum();
+    }
+
+    public Path write(ObjectMapper objectMapper, Path directory) {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(scenario + ".json");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("부하 테스트 결과를 저장하지 못했습니다.", e);
+        }
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("[%s] %d ms%n", scenario, elapsedMillis));
+        table.append(String.format(ROW_FORMAT, "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (EndpointSummary endpoint : endpoints) {
+            table.append(String.format(ROW_FORMAT, endpoint.getEndpoint(), endpoint.getCount(), endpoint.getErrors(),
+                    endpoint.getThroughput(), endpoint.getP50(), endpoint.getP95(), endpoint.getP99(), endpoint.getMax()));
+        }
+        return table.toString();
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public List<EndpointSummary> getEndpoints() {
+        return endpoints;
+    }
+}
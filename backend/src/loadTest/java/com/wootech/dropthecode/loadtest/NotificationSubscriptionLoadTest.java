@@ -0,0 +1,157 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.wootech.dropthecode.dto.request.ReviewRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationSubscriptionLoadTest extends LoadTest {
+    private static final String CONNECT = "SSE GET /subscribe (connect)";
+    private static final String DELIVERY = "SSE notification (POST /reviews -> event)";
+
+    @Value("${loadtest.sse.subscribers}")
+    private int subscribers;
+
+    @Test
+    @DisplayName("선생님들이 동시에 알림을 구독한 상태에서 리뷰 요청 알림을 받기까지의 시간을 잰다")
+    void subscribeAtScale() throws Exception {
+        // given
+        int count = Math.min(subscribers, memberCount());
+        CountDownLatch connected = new CountDownLatch(count);
+        CountDownLatch delivered = new CountDownLatch(count);
+        List<Subscriber> subscriptions = new ArrayList<>();
+        recorder.start();
+
+        try {
+            for (long teacherId = 1; teacherId <= count; teacherId++) {
+                Subscriber subscriber = new Subscriber(connected, delivered);
+                subscriptions.add(subscriber);
+                httpClient.sendAsync(request("/subscribe", teacherId).header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                                                                   .GET()
+                                                                   .build(), HttpResponse.BodyHandlers.fromLineSubscriber(subscriber))
+                          .whenComplete((response, error) -> subscriber.fail());
+            }
+            connected.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            // when
+            run(count, index -> {
+                long teacherId = index + 1L;
+                long studentId = teacherId % 2 == 0 ? teacherId - 1 : teacherId + 1;
+                Subscriber subscriber = subscriptions.get(index);
+                subscriber.requested();
+                send("POST /reviews", request("/reviews", studentId)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(json(reviewRequest(studentId, teacherId)))
+                        .build(), HttpStatus.CREATED.value());
+            });
+            delivered.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            recorder.stop();
+            subscriptions.forEach(Subscriber::close);
+        }
+
+        // then
+        recorder.fail(CONNECT, connected.getCount());
+        recorder.fail(DELIVERY, delivered.getCount());
+        LoadTestReport report = report("sse-subscription");
+        assertThat(report.getErrors()).isZero();
+    }
+
+    private ReviewRequest reviewRequest(long studentId, long teacherId) {
+        return ReviewRequest.builder()
+                            .studentId(studentId)
+                            .teacherId(teacherId)
+                            .title("알림 부하 테스트")
+                            .content("알림 부하 테스트 리뷰 요청")
+                            .prUrl("https://github.com/woowacourse-teams/2021-drop-the-code/pull/1")
+                            .build();
+    }
+
+    /**
+     * 연결 직후 오는 더미 이벤트로 연결 시간을, 그 다음 이벤트로 리뷰 요청부터 알림 수신까지의 시간을 잰다.
+     */
+    private class Subscriber implements Flow.Subscriber<String> {
+        private final CountDownLatch connected;
+        private final CountDownLatch delivered;
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong requestedAt = new AtomicLong();
+        private final AtomicBoolean open = new AtomicBoolean();
+        private final AtomicBoolean received = new AtomicBoolean();
+        private volatile Flow.Subscription subscription;
+
+        private Subscriber(CountDownLatch connected, CountDownLatch delivered) {
+            this.connected = connected;
+            this.delivered = delivered;
+        }
+
+        private void requested() {
+            requestedAt.set(System.nanoTime());
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("data:")) {
+                return;
+            }
+            if (open.compareAndSet(false, true)) {
+                recorder.record(CONNECT, System.nanoTime() - startedAt, true);
+                connected.countDown();
+                return;
+            }
+            if (requestedAt.get() != 0 && received.compareAndSet(false, true)) {
+                recorder.record(DELIVERY, System.nanoTime() - requestedAt.get(), true);
+                delivered.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail();
+        }
+
+        @Override
+        public void onComplete() {
+            fail();
+        }
+
+        /**
+         * 더미 이벤트를 받기 전에 연결이 끊기면 연결 실패로 세고, 수신 대기 중인 시나리오가 기다리지 않도록 한다.
+         */
+        private void fail() {
+            if (open.compareAndSet(false, true)) {
+                recorder.fail(CONNECT, 1);
+                connected.countDown();
+            }
+        }
+
+        private void close() {
+            open.set(true);
+            if (Objects.nonNull(subscription)) {
+                subscription.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.wootech.dropthecode.dto.request.FeedbackRequest;
+import com.wootech.dropthecode.dto.request.ReviewRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewLifecycleLoadTest extends LoadTest {
+
+    @Test
+    @DisplayName("리뷰 요청부터 수락, 완료, 피드백까지 한 리뷰의 상태 변경을 반복한다")
+    void reviewLifecycle() throws Exception {
+        // given
+        recorder.start();
+
+        // when
+        run(workers * iterations, index -> {
+            // 같은 선생님의 통계를 동시에 갱신하지 않도록 번호마다 다른 묶음의 학생과 선생님을 고른다
+            long base = (long) (index % repeatCount) * MEMBERS_PER_REPEAT;
+            long studentId = base + 2;
+            long teacherId = base + 3;
+
+            requestReview(index, studentId, teacherId).ifPresent(reviewId -> {
+                send("GET /reviews/{id}", request("/reviews/" + reviewId).GET().build(), HttpStatus.OK.value());
+                boolean finished = patch("PATCH /reviews/{id}/accept", "/reviews/" + reviewId + "/accept", teacherId)
+                        && patch("PATCH /reviews/{id}/complete", "/reviews/" + reviewId + "/complete", teacherId)
+                        && finish(reviewId, studentId);
+                if (finished) {
+                    send("GET /reviews/{id}", request("/reviews/" + reviewId).GET().build(), HttpStatus.OK.value());
+                }
+            });
+
+            send("GET /reviews/student/{id}", request("/reviews/student/" + studentId + "?size=10", studentId).GET().build(), HttpStatus.OK.value());
+            send("GET /reviews/teacher/{id}", request("/reviews/teacher/" + teacherId + "?size=10").GET().build(), HttpStatus.OK.value());
+        });
+        recorder.stop();
+
+        // then
+        LoadTestReport report = report("review-lifecycle");
+        assertThat(report.getErrors()).isZero();
+    }
+
+    private Optional<Long> requestReview(int index, long studentId, long teacherId) {
+        ReviewRequest reviewRequest = ReviewRequest.builder()
+                                                   .studentId(studentId)
+                                                   .teacherId(teacherId)
+                                                   .title("부하 테스트 리뷰 요청 " + index)
+                                                   .content("부하 테스트 리뷰 요청 내용")
+                                                   .prUrl("https://github.com/woowacourse-teams/2021-drop-the-code/pull/" + index)
+                                                   .build();
+        HttpResponse<String> response = send("POST /reviews", request("/reviews", studentId)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(json(reviewRequest))
+                .build(), HttpStatus.CREATED.value());
+        if (Objects.isNull(response)) {
+            return Optional.empty();
+        }
+
+        return response.headers()
+                       .firstValue(HttpHeaders.LOCATION)
+                       .map(location -> Long.parseLong(location.substring(location.lastIndexOf('/') + 1)));
+    }
+
+    private boolean patch(String endpoint, String path, long memberId) {
+        HttpResponse<String> response = send(endpoint, request(path, memberId)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build(), HttpStatus.NO_CONTENT.value());
+        return Objects.nonNull(response);
+    }
+
+    private boolean finish(long reviewId, long studentId) {
+        HttpResponse<String> response = send("PATCH /reviews/{id}/finish", request("/reviews/" + reviewId + "/finish", studentId)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method("PATCH", json(new FeedbackRequest(5, "부하 테스트 피드백")))
+                .build(), HttpStatus.NO_CONTENT.value());
+        return Objects.nonNull(response);
+    }
+}
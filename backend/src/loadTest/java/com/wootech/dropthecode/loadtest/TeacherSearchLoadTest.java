@@ -0,0 +1,72 @@
+package com.wootech.dropthecode.loadtest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.springframework.http.HttpStatus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeacherSearchLoadTest extends LoadTest {
+    /**
+     * pt-init 의 언어, 기술 조합에 맞춘 검색 조건
+     */
+    private static final List<String> FILTERS = List.of(
+            "language=java&skills=spring",
+            "language=javascript&skills=vue&skills=react",
+            "language=python&skills=django",
+            "language=kotlin&career=5",
+            "language=java&career=3"
+    );
+    private static final int PAGE_SIZE = 20;
+    private static final int CURSOR_PAGES = 3;
+
+    @Test
+    @DisplayName("조건별 선생님 목록 조회, 커서 페이지 넘기기, 선생님 상세 조회를 반복한다")
+    void searchTeachers() throws Exception {
+        // given
+        recorder.start();
+
+        // when
+        run(workers * iterations, index -> {
+            String filter = FILTERS.get(index % FILTERS.size());
+            send("GET /teachers (offset)", request("/teachers?" + filter + "&page=" + index % 5 + "&size=" + PAGE_SIZE).GET().build(),
+                    HttpStatus.OK.value());
+            browseByCursor(filter);
+
+            long teacherId = index % memberCount() + 1L;
+            send("GET /teachers/{id}", request("/teachers/" + teacherId).GET().build(), HttpStatus.OK.value());
+            send("GET /languages", request("/languages").GET().build(), HttpStatus.OK.value());
+        });
+        recorder.stop();
+
+        // then
+        LoadTestReport report = report("teacher-search");
+        assertThat(report.getErrors()).isZero();
+    }
+
+    private void browseByCursor(String filter) {
+        String cursor = "";
+        for (int page = 0; page < CURSOR_PAGES; page++) {
+            String path = "/teachers?" + filter + "&size=" + PAGE_SIZE + "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+            HttpResponse<String> response = send("GET /teachers (cursor)", request(path).GET().build(), HttpStatus.OK.value());
+            if (Objects.isNull(response)) {
+                return;
+            }
+
+            JsonNode body = read(response);
+            if (!body.path("hasNext").asBoolean() || body.path("nextCursor").isNull()) {
+                return;
+            }
+            cursor = body.path("nextCursor").asText();
+        }
+    }
+}
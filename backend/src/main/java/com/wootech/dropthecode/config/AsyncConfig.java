@@ -0,0 +1,72 @@
+package com.wootech.dropthecode.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String HEARTBEAT_EXECUTOR = "heartbeatExecutor";
+
+    private static final int NOTIFICATION_CORE_POOL_SIZE = 2;
+    private static final int NOTIFICATION_MAX_POOL_SIZE = 4;
+    private static final int NOTIFICATION_QUEUE_CAPACITY = 1_000;
+    private static final int NOTIFICATION_AWAIT_TERMINATION_SECONDS = 10;
+
+    private static final int HEARTBEAT_POOL_SIZE = 2;
+    private static final int HEARTBEAT_QUEUE_CAPACITY = 100;
+
+    /**
+     * 알림 저장과 SSE 전송을 담당하는 실행기
+     * 큐가 가득 차면 이벤트를 발행한 스레드에서 직접 처리해 알림이 유실되지 않도록 한다.
+     */
+    @Bean(NOTIFICATION_EXECUTOR)
+    public TaskExecutor notificationExecutor(@Value("${notification.dispatcher.async:true}") boolean async) {
+        if (!async) {
+            return new SyncTaskExecutor();
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(NOTIFICATION_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(NOTIFICATION_MAX_POOL_SIZE);
+        executor.setQueueCapacity(NOTIFICATION_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(NOTIFICATION_AWAIT_TERMINATION_SECONDS);
+        return executor;
+    }
+
+    /**
+     * SSE 하트비트 전송을 담당하는 실행기
+     * 알림 전송과 스레드를 나눠 쓰지 않고, 큐가 가득 차면 다음 주기에 다시 보내므로 해당 묶음을 버린다.
+     */
+    @Bean(HEARTBEAT_EXECUTOR)
+    public TaskExecutor heartbeatExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(HEARTBEAT_POOL_SIZE);
+        executor.setMaxPoolSize(HEARTBEAT_POOL_SIZE);
+        executor.setQueueCapacity(HEARTBEAT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("sse-heartbeat-");
+        executor.setRejectedExecutionHandler((task, pool) -> log.warn("SSE 하트비트 실행기가 가득 차 전송을 건너뜁니다."));
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (exception, method, params) -> log.error("비동기 작업 오류 [method={}]", method.getName(), exception);
+    }
+}
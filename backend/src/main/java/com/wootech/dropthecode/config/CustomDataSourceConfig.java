@@ -1,11 +1,17 @@
 package com.wootech.dropthecode.config;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 
 import com.wootech.dropthecode.repository.replication.CustomDataSourceProperties;
+import com.wootech.dropthecode.repository.replication.ReadYourWrites;
+import com.wootech.dropthecode.repository.replication.Replica;
+import com.wootech.dropthecode.repository.replication.ReplicaSelector;
 import com.wootech.dropthecode.repository.replication.ReplicationRoutingDataSource;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -17,6 +23,7 @@ import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -49,21 +56,53 @@ public class CustomDataSourceConfig {
         return hikariDataSource;
     }
 
+    /**
+     * slave 헬스 체크용 DataSource
+     * 풀 없이 매번 연결하고, 응답하지 않는 slave 에서 오래 기다리지 않도록 연결과 읽기 제한 시간을 짧게 둔다.
+     */
+    public DataSource createProbeDataSource(String url) {
+        CustomDataSourceProperties.Probe probe = databaseProperty.getProbe();
+        Properties properties = new Properties();
+        properties.setProperty("connectTimeout", String.valueOf(probe.getConnectTimeout().toMillis()));
+        properties.setProperty("socketTimeout", String.valueOf(probe.getValidationTimeout().toMillis()));
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, databaseProperty.getUsername(), databaseProperty.getPassword());
+        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        dataSource.setConnectionProperties(properties);
+        return dataSource;
+    }
+
     @Bean
     public DataSource dataSource() {
         return new LazyConnectionDataSourceProxy(routingDataSource());
     }
 
+    @Bean
+    public ReplicaSelector replicaSelector() {
+        List<Replica> replicas = databaseProperty.getSlave()
+                                                 .values()
+                                                 .stream()
+                                                 .map(slave -> new Replica(slave.getName(), createDataSource(slave.getUrl()),
+                                                         createProbeDataSource(slave.getUrl()), slave.getWeight()))
+                                                 .collect(Collectors.toList());
+        return new ReplicaSelector(replicas, databaseProperty.getProbe());
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(databaseProperty.getReadYourWritesWindow());
+    }
+
     @Bean
     public DataSource routingDataSource() {
         DataSource master = createDataSource(databaseProperty.getUrl());
 
         Map<Object, Object> dataSourceMap = new LinkedHashMap<>();
-        dataSourceMap.put("master", master);
-        databaseProperty.getSlave()
-                        .forEach((key, value) -> dataSourceMap.put(value.getName(), createDataSource(value.getUrl())));
+        dataSourceMap.put(ReplicationRoutingDataSource.MASTER, master);
+        replicaSelector().getReplicas()
+                         .forEach(replica -> dataSourceMap.put(replica.getName(), replica.getDataSource()));
 
-        ReplicationRoutingDataSource replicationRoutingDataSource = new ReplicationRoutingDataSource();
+        ReplicationRoutingDataSource replicationRoutingDataSource = new ReplicationRoutingDataSource(replicaSelector(), readYourWrites());
         replicationRoutingDataSource.setDefaultTargetDataSource(master);
         replicationRoutingDataSource.setTargetDataSources(dataSourceMap);
         return replicationRoutingDataSource;
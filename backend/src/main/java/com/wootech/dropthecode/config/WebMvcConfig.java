@@ -5,6 +5,9 @@ import java.util.List;
 import com.wootech.dropthecode.controller.auth.AuthenticationInterceptor;
 import com.wootech.dropthecode.controller.auth.GetAuthenticationInterceptor;
 import com.wootech.dropthecode.controller.auth.LoginMemberArgumentResolver;
+import com.wootech.dropthecode.controller.auth.ReplicationMemberInterceptor;
+import com.wootech.dropthecode.controller.cache.ResponseCache;
+import com.wootech.dropthecode.controller.cache.ResponseCacheInterceptor;
 import com.wootech.dropthecode.service.AuthService;
 
 import org.springframework.context.annotation.Configuration;
@@ -17,9 +20,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AuthService authService;
+    private final ResponseCache responseCache;
 
-    public WebMvcConfig(AuthService authService) {
+    public WebMvcConfig(AuthService authService, ResponseCache responseCache) {
         this.authService = authService;
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -35,10 +40,14 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReplicationMemberInterceptor(authService))
+                .addPathPatterns("/**");
         registry.addInterceptor(new AuthenticationInterceptor(authService))
                 .addPathPatterns("/teachers", "/teachers/me", "/members/me", "/reviews", "/reviews/**", "/logout", "/notifications/**");
         registry.addInterceptor(new GetAuthenticationInterceptor(authService))
                 .addPathPatterns("/reviews/student/**", "/members/me", "/subscribe", "/notifications", "/token/chatting");
+        registry.addInterceptor(new ResponseCacheInterceptor(responseCache))
+                .addPathPatterns("/languages", "/teachers/*", "/reviews/*");
     }
 
     @Override
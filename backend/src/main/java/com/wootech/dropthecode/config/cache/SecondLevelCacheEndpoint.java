@@ -0,0 +1,93 @@
+package com.wootech.dropthecode.config.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * 2차 캐시 영역별 적중률을 /actuator/l2cache 로 노출한다.
+ * 실제 적중률을 보고 ehcache.xml 의 영역 크기를 정할 수 있도록 hibernate.generate_statistics 를 켜야 값이 집계된다.
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+    private final Statistics statistics;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public CacheStatisticsReport report() {
+        Map<String, RegionReport> regions = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+              .forEach(region -> regions.put(region, RegionReport.of(statistics.getDomainDataRegionStatistics(region))));
+
+        RegionReport queryCache = new RegionReport(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount());
+        return new CacheStatisticsReport(statistics.isStatisticsEnabled(), queryCache, regions);
+    }
+
+    @ReadOperation
+    public RegionReport region(@Selector String region) {
+        boolean exists = Arrays.asList(statistics.getSecondLevelCacheRegionNames()).contains(region);
+        if (!exists) {
+            return null;
+        }
+        return RegionReport.of(statistics.getDomainDataRegionStatistics(region));
+    }
+
+    @Getter
+    public static class CacheStatisticsReport {
+        private final boolean statisticsEnabled;
+        private final RegionReport queryCache;
+        private final Map<String, RegionReport> regions;
+
+        public CacheStatisticsReport(boolean statisticsEnabled, RegionReport queryCache, Map<String, RegionReport> regions) {
+            this.statisticsEnabled = statisticsEnabled;
+            this.queryCache = queryCache;
+            this.regions = regions;
+        }
+    }
+
+    /**
+     * JCache 는 영역의 항목 수와 크기를 알려주지 않으므로 적중, 실패, 저장 횟수만 집계한다.
+     */
+    @Getter
+    public static class RegionReport {
+        private final long hitCount;
+        private final long missCount;
+        private final long putCount;
+        private final double hitRatio;
+
+        public RegionReport(long hitCount, long missCount, long putCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.putCount = putCount;
+            this.hitRatio = hitRatioOf(hitCount, missCount);
+        }
+
+        public static RegionReport of(CacheRegionStatistics statistics) {
+            return new RegionReport(statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount());
+        }
+
+        private static double hitRatioOf(long hitCount, long missCount) {
+            long total = hitCount + missCount;
+            if (total == 0) {
+                return 0;
+            }
+            return Math.round((double) hitCount / total * 1000) / 1000.0;
+        }
+    }
+}
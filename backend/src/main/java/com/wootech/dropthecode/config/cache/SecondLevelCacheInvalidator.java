@@ -0,0 +1,42 @@
+package com.wootech.dropthecode.config.cache;
+
+import javax.persistence.EntityManagerFactory;
+
+import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationListener;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 바뀐 선생님 프로필을 이 노드의 2차 캐시에서 지운다.
+ * TeacherLanguage, TeacherSkill 은 추가되거나 삭제될 뿐 바뀌지 않으므로 프로필의 컬렉션 캐시만 지운다.
+ */
+@Component
+public class SecondLevelCacheInvalidator implements CacheInvalidationListener {
+    private static final String LANGUAGES = TeacherProfile.class.getName() + ".languages";
+    private static final String SKILLS = TeacherProfile.class.getName() + ".skills";
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.is(CacheInvalidation.Target.TEACHER)) {
+            cache.evictEntityData(TeacherProfile.class, invalidation.getId());
+            cache.evictCollectionData(LANGUAGES, invalidation.getId());
+            cache.evictCollectionData(SKILLS, invalidation.getId());
+            return;
+        }
+        if (invalidation.is(CacheInvalidation.Target.ALL_TEACHERS)) {
+            cache.evictEntityData(TeacherProfile.class);
+            cache.evictCollectionData(LANGUAGES);
+            cache.evictCollectionData(SKILLS);
+        }
+    }
+}
@@ -1,29 +1,51 @@
 package com.wootech.dropthecode.config.chat;
 
+import com.wootech.dropthecode.service.cache.CacheInvalidationPublisher;
+import com.wootech.dropthecode.service.cache.CacheInvalidationSubscriber;
+import com.wootech.dropthecode.service.chat.RedisChat;
+import com.wootech.dropthecode.service.chat.RedisChatSerializer;
+import com.wootech.dropthecode.service.chat.RedisSubscriber;
+import com.wootech.dropthecode.service.notification.RedisNotificationPublisher;
+import com.wootech.dropthecode.service.notification.RedisNotificationSubscriber;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory,
+                                                              RedisSubscriber redisSubscriber,
+                                                              RedisNotificationSubscriber redisNotificationSubscriber,
+                                                              CacheInvalidationSubscriber cacheInvalidationSubscriber,
+                                                              WebSocketProperties webSocketProperties) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        // 외부 브로커를 사용하면 브로커가 노드 간 전달을 맡으므로 채팅방 구독을 등록하지 않는다.
+        if (webSocketProperties.getBroker().getMode() == WebSocketProperties.BrokerMode.SIMPLE) {
+            container.addMessageListener(redisSubscriber, RedisSubscriber.ROOMS);
+        }
+        container.addMessageListener(redisNotificationSubscriber, RedisNotificationPublisher.TOPIC);
+        container.addMessageListener(cacheInvalidationSubscriber, CacheInvalidationPublisher.TOPIC);
         return container;
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    public RedisChatSerializer redisChatSerializer() {
+        return new RedisChatSerializer();
+    }
+
+    @Bean
+    public RedisTemplate<String, RedisChat> chatRedisTemplate(RedisConnectionFactory connectionFactory, RedisChatSerializer redisChatSerializer) {
+        RedisTemplate<String, RedisChat> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(String.class));
+        redisTemplate.setValueSerializer(redisChatSerializer);
         return redisTemplate;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.wootech.dropthecode.config.chat;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 토큰 버킷으로 SEND 프레임의 전송 빈도를 제한한다.
+ * 한도를 넘은 메시지는 inbound 채널에 들어가지 않고 버려진다.
+ */
+@Slf4j
+public class StompRateLimitInterceptor implements ChannelInterceptor, MeterBinder {
+    private final double permitsPerMillis;
+    private final int burst;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong limited = new AtomicLong();
+
+    public StompRateLimitInterceptor(double messagesPerSecond, int burst) {
+        this(messagesPerSecond, burst, System::currentTimeMillis);
+    }
+
+    StompRateLimitInterceptor(double messagesPerSecond, int burst, LongSupplier clock) {
+        this.permitsPerMillis = messagesPerSecond / 1000;
+        this.burst = burst;
+        this.clock = clock;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (Objects.isNull(accessor) || Objects.isNull(accessor.getSessionId())) {
+            return message;
+        }
+
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            buckets.remove(accessor.getSessionId());
+            return message;
+        }
+
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            TokenBucket bucket = buckets.computeIfAbsent(accessor.getSessionId(), id -> new TokenBucket(burst, clock.getAsLong()));
+            if (!bucket.tryAcquire(clock.getAsLong())) {
+                limited.incrementAndGet();
+                log.debug("채팅 전송 빈도 제한 [sessionId={}]", accessor.getSessionId());
+                return null;
+            }
+        }
+        return message;
+    }
+
+    public long countLimited() {
+        return limited.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("chat.rate.limited", limited, AtomicLong::get)
+                       .description("전송 빈도 제한으로 버려진 채팅 메시지 수")
+                       .register(registry);
+    }
+
+    private class TokenBucket {
+        private double tokens;
+        private long lastRefillAt;
+
+        private TokenBucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefillAt = now;
+        }
+
+        private synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(burst, tokens + (now - lastRefillAt) * permitsPerMillis);
+            lastRefillAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
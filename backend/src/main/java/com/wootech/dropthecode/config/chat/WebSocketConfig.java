@@ -1,23 +1,57 @@
 package com.wootech.dropthecode.config.chat;
 
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import static com.wootech.dropthecode.config.chat.WebSocketProperties.BrokerMode.RELAY;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketProperties.class)
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private static final String BROKER_PREFIX = "/subscribe";
+
     private final StompHandler stompHandler;
+    private final WebSocketProperties properties;
 
-    public WebSocketConfig(StompHandler stompHandler) {
+    public WebSocketConfig(StompHandler stompHandler, WebSocketProperties properties) {
         this.stompHandler = stompHandler;
+        this.properties = properties;
+    }
+
+    @Bean
+    public StompRateLimitInterceptor stompRateLimitInterceptor() {
+        WebSocketProperties.RateLimit rateLimit = properties.getRateLimit();
+        return new StompRateLimitInterceptor(rateLimit.getMessagesPerSecond(), rateLimit.getBurst());
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/subscribe");
+        WebSocketProperties.Broker broker = properties.getBroker();
+        if (broker.getMode() == RELAY) {
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay(BROKER_PREFIX)
+                                                         .setRelayHost(broker.getRelayHost())
+                                                         .setRelayPort(broker.getRelayPort())
+                                                         .setClientLogin(broker.getLogin())
+                                                         .setClientPasscode(broker.getPasscode())
+                                                         .setSystemLogin(broker.getLogin())
+                                                         .setSystemPasscode(broker.getPasscode());
+            if (Objects.nonNull(broker.getVirtualHost())) {
+                relay.setVirtualHost(broker.getVirtualHost());
+            }
+        } else {
+            registry.enableSimpleBroker(BROKER_PREFIX);
+        }
         registry.setApplicationDestinationPrefixes("/publish");
     }
 
@@ -27,4 +61,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .addInterceptors(stompHandler)
                 .setAllowedOrigins("*");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, properties.getInbound());
+        registration.interceptors(stompRateLimitInterceptor());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, properties.getOutbound());
+    }
+
+    /**
+     * 느린 클라이언트가 outbound 스레드를 붙잡지 않도록 세션별 전송 버퍼와 전송 시간을 제한한다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = properties.getTransport();
+        registration.setMessageSizeLimit((int) transport.getMessageSizeLimit().toBytes())
+                    .setSendBufferSizeLimit((int) transport.getSendBufferSizeLimit().toBytes())
+                    .setSendTimeLimit((int) transport.getSendTimeLimit().toMillis());
+    }
+
+    private void configureExecutor(ChannelRegistration registration, WebSocketProperties.Channel channel) {
+        registration.taskExecutor()
+                    .corePoolSize(channel.getCorePoolSize())
+                    .maxPoolSize(channel.getMaxPoolSize())
+                    .queueCapacity(channel.getQueueCapacity())
+                    .keepAliveSeconds((int) channel.getKeepAlive().getSeconds());
+    }
+}
@@ -0,0 +1,67 @@
+package com.wootech.dropthecode.config.chat;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.websocket")
+public class WebSocketProperties {
+    private final Broker broker = new Broker();
+    private final Channel inbound = new Channel();
+    private final Channel outbound = new Channel();
+    private final Transport transport = new Transport();
+    private final RateLimit rateLimit = new RateLimit();
+
+    public enum BrokerMode {
+        /**
+         * 노드마다 메모리 브로커를 두고 Redis 로 노드 간 메시지를 전달한다.
+         */
+        SIMPLE,
+
+        /**
+         * 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)에 구독과 전달을 위임한다.
+         */
+        RELAY
+    }
+
+    @Getter
+    @Setter
+    public static class Broker {
+        private BrokerMode mode = BrokerMode.SIMPLE;
+        private String relayHost = "localhost";
+        private int relayPort = 61613;
+        private String login = "guest";
+        private String passcode = "guest";
+        private String virtualHost;
+    }
+
+    @Getter
+    @Setter
+    public static class Channel {
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+        private int queueCapacity = 10_000;
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+
+    @Getter
+    @Setter
+    public static class Transport {
+        private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+        private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+        private Duration sendTimeLimit = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private double messagesPerSecond = 10;
+        private int burst = 20;
+    }
+}
@@ -6,6 +6,8 @@ import com.wootech.dropthecode.dto.response.ChatResponse;
 import com.wootech.dropthecode.dto.response.LatestChatResponse;
 import com.wootech.dropthecode.service.ChattingService;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,12 +23,21 @@ public class ChattingController {
     }
 
     @GetMapping("/messages/{userId}")
-    public ResponseEntity<List<LatestChatResponse>> findAllLatestChats(@PathVariable Long userId) {
-        return ResponseEntity.ok(chattingService.findAllLatestChats(userId));
+    public ResponseEntity<List<LatestChatResponse>> findAllLatestChats(@PathVariable Long userId, @PageableDefault Pageable pageable) {
+        return ResponseEntity.ok(chattingService.findAllLatestChats(userId, pageable));
     }
 
+    /**
+     * @param roomId 채팅방 id
+     * @param before 이 메시지 id 보다 이전 메시지를 조회
+     * @param after  이 메시지 id 보다 이후 메시지를 조회
+     * @param limit  조회할 메시지 개수(최대 100)
+     */
     @GetMapping("/messages")
-    public ResponseEntity<List<ChatResponse>> findAllChats(@RequestParam("roomId") Long roomId) {
-        return ResponseEntity.ok(chattingService.findAllChats(roomId));
+    public ResponseEntity<List<ChatResponse>> findAllChats(@RequestParam("roomId") Long roomId,
+                                                           @RequestParam(required = false) Long before,
+                                                           @RequestParam(required = false) Long after,
+                                                           @RequestParam(defaultValue = "30") int limit) {
+        return ResponseEntity.ok(chattingService.findAllChats(roomId, before, after, limit));
     }
 }
@@ -85,10 +85,12 @@ public class MemberController {
     }
 
     @ModelAttribute("filter")
-    public TeacherFilterRequest filter(@ModelAttribute TechSpec techSpec, @RequestParam(defaultValue = "0") Integer career) {
+    public TeacherFilterRequest filter(@ModelAttribute TechSpec techSpec, @RequestParam(defaultValue = "0") Integer career,
+                                       @RequestParam(required = false) String cursor) {
         TeacherFilterRequest teacherFilterRequest = new TeacherFilterRequest();
         teacherFilterRequest.setTechSpec(techSpec);
         teacherFilterRequest.setCareer(career);
+        teacherFilterRequest.setCursor(cursor);
         return teacherFilterRequest;
     }
 
@@ -5,12 +5,12 @@ import javax.validation.Valid;
 import com.wootech.dropthecode.dto.request.ChatRequest;
 import com.wootech.dropthecode.dto.request.RoomRequest;
 import com.wootech.dropthecode.dto.response.RoomIdResponse;
+import com.wootech.dropthecode.service.chat.ChatBroadcaster;
+import com.wootech.dropthecode.service.chat.ChatWriteBehind;
 import com.wootech.dropthecode.service.chat.RedisChat;
-import com.wootech.dropthecode.service.chat.RedisPublisher;
 import com.wootech.dropthecode.service.ChattingService;
 import com.wootech.dropthecode.service.RoomService;
 
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -20,19 +20,25 @@ import org.springframework.web.bind.annotation.*;
 public class RoomController {
     private final RoomService roomService;
     private final ChattingService chattingService;
-    private final RedisPublisher redisPublisher;
+    private final ChatWriteBehind chatWriteBehind;
+    private final ChatBroadcaster chatBroadcaster;
 
-    public RoomController(RoomService roomService, ChattingService chattingService, RedisPublisher redisPublisher) {
+    public RoomController(RoomService roomService, ChattingService chattingService, ChatWriteBehind chatWriteBehind, ChatBroadcaster chatBroadcaster) {
         this.roomService = roomService;
         this.chattingService = chattingService;
-        this.redisPublisher = redisPublisher;
+        this.chatWriteBehind = chatWriteBehind;
+        this.chatBroadcaster = chatBroadcaster;
     }
 
+    /**
+     * 메시지를 검증해 저장 큐에 넣은 뒤 바로 전달하고, 실제 저장은 {@link ChatWriteBehind} 가 묶어서 처리한다.
+     */
     @MessageMapping("/rooms/{roomId}")
     public void publish(@DestinationVariable Long roomId, @RequestBody @Valid ChatRequest chatRequest) {
-        chattingService.save(roomId, chatRequest);
-        ChannelTopic channelTopic = new ChannelTopic("/rooms/" + roomId);
-        redisPublisher.publishChattingMessage(channelTopic, new RedisChat(roomId, chatRequest.getSenderId(), chatRequest.getReceiverId(), chatRequest.getMessage()));
+        chattingService.validate(roomId, chatRequest);
+        RedisChat redisChat = new RedisChat(roomId, chatRequest.getSenderId(), chatRequest.getReceiverId(), chatRequest.getMessage());
+        chatWriteBehind.append(redisChat);
+        chatBroadcaster.broadcast(redisChat);
     }
 
     @GetMapping("/rooms")
@@ -11,10 +11,13 @@ import com.wootech.dropthecode.service.AuthService;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String LOGIN_MEMBER_ATTRIBUTE = LoginMemberArgumentResolver.class.getName() + ".loginMember";
+
     private final AuthService authService;
 
     public LoginMemberArgumentResolver(AuthService authService) {
@@ -30,8 +33,15 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Object resolved = webRequest.getAttribute(LOGIN_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (Objects.nonNull(resolved)) {
+            return resolved;
+        }
+
         String accessToken = AuthorizationExtractor
                 .extract(Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class)));
-        return authService.findMemberByToken(accessToken);
+        LoginMember loginMember = authService.findMemberByToken(accessToken);
+        webRequest.setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember, RequestAttributes.SCOPE_REQUEST);
+        return loginMember;
     }
 }
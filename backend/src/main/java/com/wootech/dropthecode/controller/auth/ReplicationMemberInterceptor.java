@@ -0,0 +1,31 @@
+package com.wootech.dropthecode.controller.auth;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.wootech.dropthecode.controller.auth.util.AuthorizationExtractor;
+import com.wootech.dropthecode.repository.replication.ReplicationContext;
+import com.wootech.dropthecode.service.AuthService;
+
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 토큰이 있는 모든 요청에 회원 id 를 묶어, 방금 쓴 회원의 읽기는 @Login 인자가 없는 API 에서도 master 로 보낸다.
+ * 인증이 필요 없는 API 도 지나가므로 토큰이 없거나 유효하지 않아도 요청을 막지 않는다.
+ */
+public class ReplicationMemberInterceptor implements HandlerInterceptor {
+    private final AuthService authService;
+
+    public ReplicationMemberInterceptor(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String accessToken = AuthorizationExtractor.extract(request);
+        Long memberId = authService.findMemberIdByToken(accessToken);
+        ReplicationContext.bindMember(new ServletRequestAttributes(request), memberId);
+        return true;
+    }
+}
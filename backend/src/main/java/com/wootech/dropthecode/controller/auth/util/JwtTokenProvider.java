@@ -2,9 +2,13 @@ package com.wootech.dropthecode.controller.auth.util;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 
+import com.wootech.dropthecode.domain.Role;
 import com.wootech.dropthecode.domain.Token;
+import com.wootech.dropthecode.domain.VerifiedToken;
 import com.wootech.dropthecode.exception.AuthenticationException;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +18,8 @@ import io.jsonwebtoken.*;
 
 @Component
 public class JwtTokenProvider {
+    private static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.access-token.expire-length:10000}")
     private long accessTokenValidityInMilliseconds;
     @Value("${jwt.refresh-token.expire-length:10000}")
@@ -21,8 +27,13 @@ public class JwtTokenProvider {
     @Value("${jwt.token.secret-key:secret-key}")
     private String secretKey;
 
-    public Token createAccessToken(String payload) {
-        String value = createToken(payload, accessTokenValidityInMilliseconds);
+    /**
+     * 요청마다 회원을 조회하지 않도록 access token 에 회원 id 와 role 을 담는다.
+     */
+    public Token createAccessToken(String payload, Role role) {
+        Claims claims = Jwts.claims().setSubject(payload);
+        claims.put(ROLE_CLAIM, role.name());
+        String value = createToken(claims, accessTokenValidityInMilliseconds);
         return new Token(value, accessTokenValidityInMilliseconds);
     }
 
@@ -35,7 +46,10 @@ public class JwtTokenProvider {
     }
 
     public String createToken(String payload, long expireLength) {
-        Claims claims = Jwts.claims().setSubject(payload);
+        return createToken(Jwts.claims().setSubject(payload), expireLength);
+    }
+
+    private String createToken(Claims claims, long expireLength) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + expireLength);
 
@@ -57,6 +71,22 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * 한 번의 파싱으로 서명과 만료 시각을 검증하고 클레임을 함께 반환한다.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration.before(new Date())) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(claims.getSubject(), roleOf(claims), issuedAtOf(claims), expiration.getTime()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
             Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
@@ -66,4 +96,20 @@ public class JwtTokenProvider {
             return false;
         }
     }
+
+    private Role roleOf(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (Objects.isNull(role)) {
+            return null;
+        }
+        return Role.valueOf(role);
+    }
+
+    private long issuedAtOf(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        if (Objects.isNull(issuedAt)) {
+            return 0L;
+        }
+        return issuedAt.getTime();
+    }
 }
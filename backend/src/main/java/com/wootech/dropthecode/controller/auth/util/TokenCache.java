@@ -0,0 +1,190 @@
+package com.wootech.dropthecode.controller.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import com.wootech.dropthecode.domain.LoginMember;
+import com.wootech.dropthecode.domain.VerifiedToken;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationListener;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 검증을 마친 access token 을 짧은 TTL 동안 보관해 요청마다 서명을 다시 검증하지 않도록 한다.
+ * 원본 토큰 대신 SHA-256 해시를 키로 쓰고, 항목은 토큰 만료 시각보다 늦게 남지 않는다.
+ * 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 만료가 가까운 항목부터 일부만 지운다.
+ * 탈퇴한 회원의 토큰은 캐시에 남아 있어도 거부되어야 하므로 회원 id 로 지우고, 다른 노드에서 탈퇴한 회원도 이벤트를 받아 지운다.
+ */
+@Component
+public class TokenCache implements MeterBinder, CacheInvalidationListener {
+    private static final int EVICTION_RATIO = 10;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public TokenCache(@Value("${jwt.cache.ttl:30s}") Duration ttl,
+                      @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this(ttl, maxSize, System::currentTimeMillis);
+    }
+
+    TokenCache(Duration ttl, int maxSize, LongSupplier currentTimeMillis) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public VerifiedToken getToken(String token) {
+        Entry entry = find(token);
+        if (Objects.isNull(entry)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.verifiedToken;
+    }
+
+    public LoginMember getLoginMember(String token) {
+        Entry entry = find(token);
+        if (Objects.isNull(entry) || Objects.isNull(entry.loginMember)) {
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.loginMember;
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        put(token, verifiedToken, null);
+    }
+
+    public void put(String token, VerifiedToken verifiedToken, LoginMember loginMember) {
+        long now = currentTimeMillis.getAsLong();
+        long expiresAt = Math.min(verifiedToken.getExpiresAt(), now + ttlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+        }
+        entries.put(hash(token), new Entry(verifiedToken, loginMember, expiresAt));
+    }
+
+    public void evict(String token) {
+        if (Objects.isNull(token)) {
+            return;
+        }
+        entries.remove(hash(token));
+    }
+
+    public void evictAllByMemberId(Long memberId) {
+        entries.values().removeIf(entry -> entry.memberId.equals(memberId));
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.is(CacheInvalidation.Target.MEMBER)) {
+            evictAllByMemberId(invalidation.getId());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.token.cache.size", this, TokenCache::size)
+             .description("캐시된 access token 수")
+             .register(registry);
+        FunctionCounter.builder("auth.token.cache.hits", hits, AtomicLong::get)
+                       .description("서명 검증을 생략한 요청 수")
+                       .register(registry);
+        FunctionCounter.builder("auth.token.cache.misses", misses, AtomicLong::get)
+                       .description("서명을 검증한 요청 수")
+                       .register(registry);
+    }
+
+    private Entry find(String token) {
+        if (Objects.isNull(token)) {
+            return null;
+        }
+
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (entry.expiresAt <= currentTimeMillis.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 살아 있는 항목으로 가득 차도 캐시 전체를 비우지 않고, 최대 크기의 1/10 만큼만 만료가 가까운 순서로 지운다.
+     */
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int overflow = entries.size() - maxSize + 1;
+        if (overflow <= 0) {
+            return;
+        }
+
+        List<String> oldest = entries.entrySet()
+                                     .stream()
+                                     .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                                     .limit(Math.max(overflow, maxSize / EVICTION_RATIO))
+                                     .map(Map.Entry::getKey)
+                                     .collect(Collectors.toList());
+        oldest.forEach(entries::remove);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static class Entry {
+        private final Long memberId;
+        private final VerifiedToken verifiedToken;
+        private final LoginMember loginMember;
+        private final long expiresAt;
+
+        private Entry(VerifiedToken verifiedToken, LoginMember loginMember, long expiresAt) {
+            this.memberId = verifiedToken.getMemberId();
+            this.verifiedToken = verifiedToken;
+            this.loginMember = loginMember;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
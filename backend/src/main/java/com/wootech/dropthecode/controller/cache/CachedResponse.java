@@ -0,0 +1,25 @@
+package com.wootech.dropthecode.controller.cache;
+
+import org.springframework.util.DigestUtils;
+
+import lombok.Getter;
+
+/**
+ * 직렬화가 끝난 응답 본문과 본문으로 계산한 strong ETag
+ */
+@Getter
+public class CachedResponse {
+    private final String contentType;
+    private final byte[] body;
+    private final String etag;
+
+    private CachedResponse(String contentType, byte[] body, String etag) {
+        this.contentType = contentType;
+        this.body = body;
+        this.etag = etag;
+    }
+
+    public static CachedResponse of(String contentType, byte[] body) {
+        return new CachedResponse(contentType, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
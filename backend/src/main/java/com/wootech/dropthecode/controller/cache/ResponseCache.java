@@ -0,0 +1,265 @@
+package com.wootech.dropthecode.controller.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+
+import com.wootech.dropthecode.service.LanguageCatalogChangedEvent;
+import com.wootech.dropthecode.service.MemberProfileChangedEvent;
+import com.wootech.dropthecode.service.ReviewChangedEvent;
+import com.wootech.dropthecode.service.TeacherChangedEvent;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationListener;
+import com.wootech.dropthecode.service.cache.CacheInvalidationPublisher;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 자주 읽히고 드물게 바뀌는 GET 응답을 직렬화된 바이트로 보관한다.
+ * 데이터를 바꾼 트랜잭션이 커밋되면 도메인 이벤트를 받아 해당 응답을 지우고, 지운 뒤 grace 동안은 다시 저장하지 않는다.
+ * slave 가 아직 복제하지 못한 이전 값이 캐시에 다시 들어가는 것을 막기 위함이다.
+ * 리뷰어와 리뷰 응답은 지운 뒤 Redis 로 다른 노드에도 알려 같은 응답을 지우게 한다.
+ * 다른 노드는 이벤트를 받기 전까지, 이벤트가 유실되면 TTL 이 지날 때까지 이전 응답을 내보낼 수 있다.
+ */
+@Component
+public class ResponseCache implements MeterBinder, CacheInvalidationListener {
+    private static final String LANGUAGES = "/languages";
+    private static final String TEACHERS = "/teachers/";
+    private static final String REVIEWS = "/reviews/";
+    private static final List<Pattern> CACHEABLE_PATHS = List.of(
+            Pattern.compile("^/languages$"),
+            Pattern.compile("^/teachers/\\d+$"),
+            Pattern.compile("^/reviews/\\d+$")
+    );
+    private static final int EVICTION_RATIO = 10;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final long ttlMillis;
+    private final long graceMillis;
+    private final int maxSize;
+    private final LongSupplier currentTimeMillis;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Autowired
+    public ResponseCache(@Value("${response-cache.ttl:1m}") Duration ttl,
+                         @Value("${response-cache.eviction-grace:10s}") Duration grace,
+                         @Value("${response-cache.max-size:10000}") int maxSize,
+                         CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this(ttl, grace, maxSize, System::currentTimeMillis, cacheInvalidationPublisher);
+    }
+
+    ResponseCache(Duration ttl, Duration grace, int maxSize, LongSupplier currentTimeMillis,
+                  CacheInvalidationPublisher cacheInvalidationPublisher) {
+        this.ttlMillis = ttl.toMillis();
+        this.graceMillis = grace.toMillis();
+        this.maxSize = maxSize;
+        this.currentTimeMillis = currentTimeMillis;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+    }
+
+    /**
+     * 캐시할 수 있는 요청이면 키로 쓸 경로를, 아니면 null 을 반환한다.
+     * 쿼리 스트링이 있는 요청은 응답이 달라질 수 있으므로 캐시하지 않는다.
+     */
+    public static String keyOf(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || Objects.nonNull(request.getQueryString())) {
+            return null;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return CACHEABLE_PATHS.stream().anyMatch(pattern -> pattern.matcher(path).matches()) ? path : null;
+    }
+
+    public long currentTimeMillis() {
+        return currentTimeMillis.getAsLong();
+    }
+
+    public CachedResponse get(String key) {
+        Entry entry = entries.get(key);
+        if (Objects.isNull(entry) || entry.isTombstone()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAt <= currentTimeMillis.getAsLong()) {
+            entries.remove(key, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.response;
+    }
+
+    /**
+     * startedAt 이후에 응답이 지워졌거나 아직 grace 중이면 저장하지 않는다.
+     */
+    public void put(String key, CachedResponse response, long startedAt) {
+        long now = currentTimeMillis.getAsLong();
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+        }
+
+        entries.compute(key, (k, existing) -> {
+            if (Objects.nonNull(existing) && existing.isTombstone()
+                    && (startedAt <= existing.evictedAt || now < existing.evictedAt + graceMillis)) {
+                return existing;
+            }
+            return Entry.of(response, now + ttlMillis);
+        });
+    }
+
+    public void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictTeacher(TeacherChangedEvent event) {
+        evictTeacher(event.getTeacherId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictReview(ReviewChangedEvent event) {
+        evictReview(event.getReviewId());
+    }
+
+    /**
+     * 바뀐 회원의 리뷰어 응답과 회원이 참여한 리뷰 응답만 지운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictMemberProfile(MemberProfileChangedEvent event) {
+        evictTeacher(event.getMemberId());
+        event.getReviewIds().forEach(this::evictReview);
+    }
+
+    private void evictTeacher(Long teacherId) {
+        evict(TEACHERS + teacherId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.Target.TEACHER, teacherId);
+    }
+
+    private void evictReview(Long reviewId) {
+        evict(REVIEWS + reviewId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.Target.REVIEW, reviewId);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.getTarget()) {
+            case TEACHER:
+                evict(TEACHERS + invalidation.getId());
+                break;
+            case REVIEW:
+                evict(REVIEWS + invalidation.getId());
+                break;
+            case ALL_TEACHERS:
+                evictStartingWith(TEACHERS);
+                break;
+            case ALL_REVIEWS:
+                evictStartingWith(REVIEWS);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictLanguages(LanguageCatalogChangedEvent event) {
+        evict(LANGUAGES);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(String key) {
+        long now = currentTimeMillis.getAsLong();
+        entries.put(key, Entry.tombstone(now, now + Math.max(ttlMillis, graceMillis)));
+    }
+
+    private void evictStartingWith(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 살아 있는 응답으로 가득 차도 캐시 전체를 비우지 않고, 최대 크기의 1/10 만큼만 만료가 가까운 순서로 지운다.
+     * 지운 표시는 grace 동안 이전 응답이 다시 저장되는 것을 막아야 하므로 남겨 둔다.
+     */
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int overflow = entries.size() - maxSize + 1;
+        if (overflow <= 0) {
+            return;
+        }
+
+        List<String> oldest = entries.entrySet()
+                                     .stream()
+                                     .filter(entry -> !entry.getValue().isTombstone())
+                                     .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                                     .limit(Math.max(overflow, maxSize / EVICTION_RATIO))
+                                     .map(Map.Entry::getKey)
+                                     .collect(Collectors.toList());
+        oldest.forEach(entries::remove);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("http.response.cache.size", this, ResponseCache::size)
+             .description("캐시된 응답 수")
+             .register(registry);
+        FunctionCounter.builder("http.response.cache.hits", hits, AtomicLong::get)
+                       .description("캐시된 본문으로 응답한 요청 수")
+                       .register(registry);
+        FunctionCounter.builder("http.response.cache.misses", misses, AtomicLong::get)
+                       .description("컨트롤러까지 전달된 요청 수")
+                       .register(registry);
+        FunctionCounter.builder("http.response.cache.not-modified", notModified, AtomicLong::get)
+                       .description("본문 없이 304 로 응답한 요청 수")
+                       .register(registry);
+    }
+
+    private static class Entry {
+        private final CachedResponse response;
+        private final long evictedAt;
+        private final long expiresAt;
+
+        private Entry(CachedResponse response, long evictedAt, long expiresAt) {
+            this.response = response;
+            this.evictedAt = evictedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private static Entry of(CachedResponse response, long expiresAt) {
+            return new Entry(response, 0L, expiresAt);
+        }
+
+        private static Entry tombstone(long evictedAt, long expiresAt) {
+            return new Entry(null, evictedAt, expiresAt);
+        }
+
+        private boolean isTombstone() {
+            return Objects.isNull(response);
+        }
+    }
+}
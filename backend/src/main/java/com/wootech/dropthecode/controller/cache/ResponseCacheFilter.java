@@ -0,0 +1,55 @@
+package com.wootech.dropthecode.controller.cache;
+
+import java.io.IOException;
+import java.util.Objects;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 캐시할 수 있는 GET 요청의 응답 본문을 모아 두었다가 ResponseCache 에 저장한다.
+ * 저장한 본문의 ETag 가 If-None-Match 와 같으면 본문을 보내지 않고 304 로 응답한다.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return Objects.isNull(ResponseCache.keyOf(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        updateResponse(request, response, responseWrapper);
+    }
+
+    private void updateResponse(HttpServletRequest request, HttpServletResponse rawResponse,
+                                ContentCachingResponseWrapper responseWrapper) throws IOException {
+        Object startedAt = request.getAttribute(ResponseCacheInterceptor.STARTED_AT_ATTRIBUTE);
+        if (Objects.nonNull(startedAt) && responseWrapper.getStatus() == HttpStatus.OK.value()) {
+            CachedResponse cached = CachedResponse.of(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+            responseCache.put(ResponseCache.keyOf(request), cached, (long) startedAt);
+
+            if (new ServletWebRequest(request, rawResponse).checkNotModified(cached.getEtag())) {
+                responseCache.recordNotModified();
+                return;
+            }
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,50 @@
+package com.wootech.dropthecode.controller.cache;
+
+import java.io.IOException;
+import java.util.Objects;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 캐시된 응답이 있으면 컨트롤러를 호출하지 않고 바로 응답한다.
+ * If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답한다.
+ * CORS 헤더가 붙은 뒤에 실행되도록 필터가 아닌 인터셉터에서 처리한다.
+ */
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+    static final String STARTED_AT_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".startedAt";
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheInterceptor(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String key = ResponseCache.keyOf(request);
+        if (Objects.isNull(key)) {
+            return true;
+        }
+
+        CachedResponse cached = responseCache.get(key);
+        if (Objects.isNull(cached)) {
+            request.setAttribute(STARTED_AT_ATTRIBUTE, responseCache.currentTimeMillis());
+            return true;
+        }
+
+        if (new ServletWebRequest(request, response).checkNotModified(cached.getEtag())) {
+            responseCache.recordNotModified();
+            return false;
+        }
+
+        response.setContentType(cached.getContentType());
+        response.setContentLength(cached.getBody().length);
+        response.setHeader(HttpHeaders.ETAG, cached.getEtag());
+        response.getOutputStream().write(cached.getBody());
+        return false;
+    }
+}
@@ -2,6 +2,7 @@ package com.wootech.dropthecode.domain;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import javax.persistence.*;
 
 import com.wootech.dropthecode.domain.chatting.Room;
@@ -72,6 +73,10 @@ public class Member extends BaseEntity {
         return this.role == role;
     }
 
+    public boolean hasSameProfile(String name, String imageUrl) {
+        return Objects.equals(this.name, name) && Objects.equals(this.imageUrl, imageUrl);
+    }
+
     public boolean hasSameId(Long id) {
         return this.id.equals(id);
     }
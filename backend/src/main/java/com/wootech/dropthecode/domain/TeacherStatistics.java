@@ -0,0 +1,146 @@
+package com.wootech.dropthecode.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰어별 리뷰 상태 개수와 피드백 별점 통계
+ * 리뷰 상태 변경과 피드백 작성 시 증분으로 갱신되고, 주기적으로 원본 데이터와 대조해 보정된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class TeacherStatistics {
+    private static final Duration ACTIVITY_TOLERANCE = Duration.ofMinutes(1);
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long pendingCount = 0L;
+
+    @Column(nullable = false)
+    private Long deniedCount = 0L;
+
+    @Column(nullable = false)
+    private Long onGoingCount = 0L;
+
+    @Column(nullable = false)
+    private Long teacherCompletedCount = 0L;
+
+    @Column(nullable = false)
+    private Long finishedCount = 0L;
+
+    @Column(nullable = false)
+    private Long starSum = 0L;
+
+    @Column(nullable = false)
+    private Long starCount = 0L;
+
+    private LocalDateTime lastActivityAt;
+
+    public TeacherStatistics(Long id) {
+        this.id = id;
+    }
+
+    public long countOf(Progress progress) {
+        switch (progress) {
+            case PENDING:
+                return pendingCount;
+            case DENIED:
+                return deniedCount;
+            case ON_GOING:
+                return onGoingCount;
+            case TEACHER_COMPLETED:
+                return teacherCompletedCount;
+            case FINISHED:
+                return finishedCount;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 리뷰 상태입니다.");
+        }
+    }
+
+    public void increase(Progress progress, long amount) {
+        switch (progress) {
+            case PENDING:
+                pendingCount += amount;
+                break;
+            case DENIED:
+                deniedCount += amount;
+                break;
+            case ON_GOING:
+                onGoingCount += amount;
+                break;
+            case TEACHER_COMPLETED:
+                teacherCompletedCount += amount;
+                break;
+            case FINISHED:
+                finishedCount += amount;
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 리뷰 상태입니다.");
+        }
+    }
+
+    public void addStar(long sum, long count) {
+        starSum += sum;
+        starCount += count;
+    }
+
+    public void recordActivity(LocalDateTime activityAt) {
+        if (Objects.isNull(activityAt)) {
+            return;
+        }
+
+        if (Objects.isNull(lastActivityAt) || lastActivityAt.isBefore(activityAt)) {
+            lastActivityAt = activityAt;
+        }
+    }
+
+    public double averageStar() {
+        if (starCount == 0) {
+            return 0;
+        }
+        return Math.round((double) starSum / starCount * 10) / 10.0;
+    }
+
+    public boolean hasSameValues(TeacherStatistics other) {
+        return pendingCount.equals(other.pendingCount)
+                && deniedCount.equals(other.deniedCount)
+                && onGoingCount.equals(other.onGoingCount)
+                && teacherCompletedCount.equals(other.teacherCompletedCount)
+                && finishedCount.equals(other.finishedCount)
+                && starSum.equals(other.starSum)
+                && starCount.equals(other.starCount)
+                && isSameActivity(other.lastActivityAt);
+    }
+
+    /**
+     * 증분 갱신 시각과 리뷰의 수정 시각은 약간 어긋날 수 있으므로 허용 오차 이내면 같은 값으로 본다.
+     */
+    private boolean isSameActivity(LocalDateTime activityAt) {
+        if (Objects.isNull(lastActivityAt) || Objects.isNull(activityAt)) {
+            return Objects.equals(lastActivityAt, activityAt);
+        }
+        return Duration.between(lastActivityAt, activityAt).abs().compareTo(ACTIVITY_TOLERANCE) <= 0;
+    }
+
+    public void overwrite(TeacherStatistics other) {
+        this.pendingCount = other.pendingCount;
+        this.deniedCount = other.deniedCount;
+        this.onGoingCount = other.onGoingCount;
+        this.teacherCompletedCount = other.teacherCompletedCount;
+        this.finishedCount = other.finishedCount;
+        this.starSum = other.starSum;
+        this.starCount = other.starCount;
+        this.lastActivityAt = other.lastActivityAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.wootech.dropthecode.domain;
+
+import java.util.Objects;
+
+import lombok.Getter;
+
+/**
+ * 서명과 만료 시각 검증을 마친 토큰의 클레임
+ * role 클레임이 없는 이전 토큰은 role 이 null 이다.
+ */
+@Getter
+public class VerifiedToken {
+    private final String subject;
+    private final Role role;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    public VerifiedToken(String subject, Role role, long issuedAt, long expiresAt) {
+        this.subject = subject;
+        this.role = role;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean hasRole() {
+        return Objects.nonNull(role);
+    }
+
+    public Long getMemberId() {
+        return Long.parseLong(subject);
+    }
+}
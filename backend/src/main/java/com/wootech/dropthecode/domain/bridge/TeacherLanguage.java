@@ -8,7 +8,13 @@ import com.wootech.dropthecode.domain.TeacherProfile;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+@Cacheable
+@org.hibernate.annotations.Cache(
+        usage = CacheConcurrencyStrategy.READ_WRITE,
+        region = "teacherLanguage"
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
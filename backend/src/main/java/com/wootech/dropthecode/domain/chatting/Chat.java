@@ -13,6 +13,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Entity
 public class Chat extends BaseEntity {
+    public static final int SNIPPET_LENGTH = 255;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, foreignKey = @ForeignKey(name = "fk_chat_to_room"))
     private Room room;
@@ -40,4 +42,23 @@ public class Chat extends BaseEntity {
     public Long getRoomId() {
         return room.getId();
     }
+
+    /**
+     * 메시지함에 보여줄 앞부분의 내용
+     */
+    public String getSnippet() {
+        return snippetOf(content);
+    }
+
+    public static String snippetOf(String content) {
+        if (content.length() <= SNIPPET_LENGTH) {
+            return content;
+        }
+
+        int end = SNIPPET_LENGTH;
+        if (Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+        }
+        return content.substring(0, end);
+    }
 }
@@ -1,5 +1,6 @@
 package com.wootech.dropthecode.domain.chatting;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.*;
@@ -14,6 +15,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "room_teacherId_studentId", columnNames = {"teacher_id", "student_id"}))
 public class Room extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, foreignKey = @ForeignKey(name = "fk_room_to_teacher"))
@@ -27,6 +29,17 @@ public class Room extends BaseEntity {
     @OrderBy("createdAt desc")
     private List<Chat> chats = new ArrayList<>();
 
+    /**
+     * 메시지함 조회 시 채팅 목록을 읽지 않도록 마지막 메시지를 함께 보관한다.
+     */
+    private Long lastChatId;
+
+    private String lastChatContent;
+
+    private Long lastChatSenderId;
+
+    private LocalDateTime lastChatAt;
+
     @Builder
     public Room(Member teacher, Member student) {
         this.teacher = teacher;
@@ -39,12 +52,4 @@ public class Room extends BaseEntity {
         }
         return student;
     }
-
-    public Chat getLatestChat() {
-        return chats.get(0);
-    }
-
-    public boolean hasMessage() {
-        return !chats.isEmpty();
-    }
 }
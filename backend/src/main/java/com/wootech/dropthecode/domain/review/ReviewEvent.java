@@ -0,0 +1,20 @@
+package com.wootech.dropthecode.domain.review;
+
+import lombok.Getter;
+
+/**
+ * 리뷰 상태가 변경되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후 다른 스레드에서 처리되므로 엔티티 대신 식별자만 담는다.
+ */
+@Getter
+public class ReviewEvent {
+    private final Long receiverId;
+    private final Long reviewId;
+    private final String content;
+
+    public ReviewEvent(Long receiverId, Long reviewId, String content) {
+        this.receiverId = receiverId;
+        this.reviewId = reviewId;
+        this.content = content;
+    }
+}
@@ -0,0 +1,74 @@
+package com.wootech.dropthecode.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.exception.TeacherException;
+
+import lombok.Getter;
+
+/**
+ * 리뷰어 목록 커서 페이지네이션에서 마지막으로 조회한 리뷰어의 정렬 키와 id
+ * 클라이언트에게는 Base64 로 인코딩된 불투명한 문자열로만 전달된다.
+ */
+@Getter
+public class TeacherCursor {
+    public static final String ID = "id";
+    public static final String CAREER = "career";
+    public static final String SUM_REVIEW_COUNT = "sumReviewCount";
+    public static final String AVERAGE_REVIEW_TIME = "averageReviewTime";
+
+    private static final String DELIMITER = ":";
+
+    private final String property;
+    private final Double value;
+    private final Long id;
+
+    public TeacherCursor(String property, Double value, Long id) {
+        this.property = property;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static TeacherCursor of(String property, TeacherProfile teacherProfile) {
+        return new TeacherCursor(property, sortValueOf(property, teacherProfile), teacherProfile.getId());
+    }
+
+    private static Double sortValueOf(String property, TeacherProfile teacherProfile) {
+        switch (property) {
+            case ID:
+                return teacherProfile.getId().doubleValue();
+            case CAREER:
+                return teacherProfile.getCareer().doubleValue();
+            case SUM_REVIEW_COUNT:
+                return Objects.isNull(teacherProfile.getSumReviewCount()) ? 0 : teacherProfile.getSumReviewCount().doubleValue();
+            case AVERAGE_REVIEW_TIME:
+                return Objects.isNull(teacherProfile.getAverageReviewTime()) ? 0 : teacherProfile.getAverageReviewTime();
+            default:
+                throw new TeacherException("커서 페이지네이션을 지원하지 않는 정렬 조건입니다.");
+        }
+    }
+
+    public static TeacherCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new TeacherCursor(parts[0], Double.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new TeacherException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = property + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void validateProperty(String property) {
+        if (!this.property.equals(property)) {
+            throw new TeacherException("커서의 정렬 조건이 요청의 정렬 조건과 다릅니다.");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.wootech.dropthecode.dto;
+
+/**
+ * 리뷰어 목록 필터링 및 정렬에 사용되는 리뷰어 컬럼
+ */
+public interface TeacherSortKey {
+    Long getId();
+
+    Integer getCareer();
+
+    Integer getSumReviewCount();
+
+    Double getAverageReviewTime();
+}
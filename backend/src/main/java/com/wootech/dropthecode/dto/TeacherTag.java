@@ -0,0 +1,10 @@
+package com.wootech.dropthecode.dto;
+
+/**
+ * 리뷰어 id 와 리뷰어가 가진 언어 혹은 기술 id 쌍
+ */
+public interface TeacherTag {
+    Long getTeacherId();
+
+    Long getTagId();
+}
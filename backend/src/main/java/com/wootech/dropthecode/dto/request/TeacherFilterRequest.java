@@ -1,5 +1,6 @@
 package com.wootech.dropthecode.dto.request;
 
+import java.util.Objects;
 import javax.validation.Valid;
 import javax.validation.constraints.PositiveOrZero;
 
@@ -27,9 +28,23 @@ public class TeacherFilterRequest {
     @PositiveOrZero
     private Integer career;
 
+    /**
+     * 커서 페이지네이션 커서 (첫 페이지는 빈 문자열, 전달하지 않으면 오프셋 페이지네이션)
+     */
+    private String cursor;
+
     @Builder
-    public TeacherFilterRequest(TechSpec techSpec, Integer career) {
+    public TeacherFilterRequest(TechSpec techSpec, Integer career, String cursor) {
         this.techSpec = techSpec;
         this.career = career;
+        this.cursor = cursor;
+    }
+
+    public boolean isCursorPagination() {
+        return Objects.nonNull(cursor);
+    }
+
+    public boolean isFirstCursorPage() {
+        return cursor.isEmpty();
     }
 }
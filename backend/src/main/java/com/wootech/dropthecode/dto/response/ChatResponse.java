@@ -11,6 +11,11 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 public class ChatResponse {
+    /**
+     * 메시지 아이디
+     */
+    private Long id;
+
     /**
      * 송신자 아이디
      */
@@ -52,9 +57,10 @@ public class ChatResponse {
     private LocalDateTime createdAt;
 
     @Builder
-    public ChatResponse(Long senderId, String senderName, String senderImageUrl,
+    public ChatResponse(Long id, Long senderId, String senderName, String senderImageUrl,
                         Long receiverId, String receiverName, String receiverImageUrl,
                         String message, LocalDateTime createdAt) {
+        this.id = id;
         this.senderId = senderId;
         this.senderName = senderName;
         this.senderImageUrl = senderImageUrl;
@@ -67,6 +73,7 @@ public class ChatResponse {
 
     public static ChatResponse from(Chat chat) {
         return ChatResponse.builder()
+                           .id(chat.getId())
                            .senderId(chat.getSender().getId())
                            .senderName(chat.getSender().getName())
                            .senderImageUrl(chat.getSender().getImageUrl())
@@ -3,7 +3,7 @@ package com.wootech.dropthecode.dto.response;
 import java.time.LocalDateTime;
 
 import com.wootech.dropthecode.domain.Member;
-import com.wootech.dropthecode.domain.chatting.Chat;
+import com.wootech.dropthecode.domain.chatting.Room;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -52,14 +52,15 @@ public class LatestChatResponse {
         this.createdAt = createdAt;
     }
 
-    public static LatestChatResponse of(Member partner, Chat latestChat) {
+    public static LatestChatResponse of(Room room, Long memberId) {
+        Member partner = room.getPartner(memberId);
         return LatestChatResponse.builder()
-                                 .roomId(latestChat.getRoomId())
+                                 .roomId(room.getId())
                                  .id(partner.getId())
                                  .name(partner.getName())
                                  .imageUrl(partner.getImageUrl())
-                                 .latestMessage(latestChat.getContent())
-                                 .createdAt(latestChat.getCreatedAt())
+                                 .latestMessage(room.getLastChatContent())
+                                 .createdAt(room.getLastChatAt())
                                  .build();
     }
 }
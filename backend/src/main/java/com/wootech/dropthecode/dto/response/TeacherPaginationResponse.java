@@ -12,12 +12,32 @@ public class TeacherPaginationResponse {
     private final List<TeacherProfileResponse> teacherProfiles;
 
     /**
-     * 총 페이지 수
+     * 총 페이지 수 (커서 페이지네이션에서는 전체 개수를 세지 않으므로 null)
      */
     private final Integer pageCount;
 
+    /**
+     * 다음 페이지 커서 (커서 페이지네이션에서 다음 페이지가 없으면 null)
+     */
+    private final String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final Boolean hasNext;
+
     public TeacherPaginationResponse(List<TeacherProfileResponse> teacherProfiles, Integer pageCount) {
+        this(teacherProfiles, pageCount, null, null);
+    }
+
+    private TeacherPaginationResponse(List<TeacherProfileResponse> teacherProfiles, Integer pageCount, String nextCursor, Boolean hasNext) {
         this.teacherProfiles = teacherProfiles;
         this.pageCount = pageCount;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static TeacherPaginationResponse ofCursor(List<TeacherProfileResponse> teacherProfiles, String nextCursor, boolean hasNext) {
+        return new TeacherPaginationResponse(teacherProfiles, null, nextCursor, hasNext);
     }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.domain.TeacherStatistics;
 import com.wootech.dropthecode.domain.bridge.TeacherLanguage;
 import com.wootech.dropthecode.domain.bridge.TeacherSkill;
 
@@ -67,8 +68,17 @@ public class TeacherProfileResponse {
      */
     private final TechSpecResponse techSpec;
 
-    @Builder
+    /**
+     * 리뷰 및 피드백 통계
+     */
+    private final TeacherStatisticsResponse statistics;
+
     public TeacherProfileResponse(Long id, String email, String name, String imageUrl, String githubUrl, String title, String content, Integer career, Integer sumReviewCount, Double averageReviewTime, TechSpecResponse techSpec) {
+        this(id, email, name, imageUrl, githubUrl, title, content, career, sumReviewCount, averageReviewTime, techSpec, null);
+    }
+
+    @Builder
+    public TeacherProfileResponse(Long id, String email, String name, String imageUrl, String githubUrl, String title, String content, Integer career, Integer sumReviewCount, Double averageReviewTime, TechSpecResponse techSpec, TeacherStatisticsResponse statistics) {
         this.id = id;
         this.email = email;
         this.name = name;
@@ -80,9 +90,10 @@ public class TeacherProfileResponse {
         this.sumReviewCount = sumReviewCount;
         this.averageReviewTime = averageReviewTime;
         this.techSpec = techSpec;
+        this.statistics = statistics;
     }
 
-    public static TeacherProfileResponse from(TeacherProfile teacherProfile) {
+    public static TeacherProfileResponse from(TeacherProfile teacherProfile, TeacherStatistics teacherStatistics) {
         final List<LanguageResponse> languageResponses = teacherProfile.getLanguages()
                                                                        .stream()
                                                                        .map(TeacherLanguage::getLanguage)
@@ -108,6 +119,7 @@ public class TeacherProfileResponse {
                 teacherProfile.getCareer(),
                 teacherProfile.getSumReviewCount(),
                 teacherProfile.getAverageReviewTime(),
-                techSpecResponse);
+                techSpecResponse,
+                TeacherStatisticsResponse.from(teacherStatistics));
     }
 }
@@ -0,0 +1,78 @@
+package com.wootech.dropthecode.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.wootech.dropthecode.domain.Progress;
+import com.wootech.dropthecode.domain.TeacherStatistics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class TeacherStatisticsResponse {
+    /**
+     * 수락 대기중인 리뷰 개수
+     */
+    private final Long pendingCount;
+
+    /**
+     * 거절한 리뷰 개수
+     */
+    private final Long deniedCount;
+
+    /**
+     * 진행중인 리뷰 개수
+     */
+    private final Long onGoingCount;
+
+    /**
+     * 리뷰어가 완료한 리뷰 개수
+     */
+    private final Long teacherCompletedCount;
+
+    /**
+     * 완료된 리뷰 개수
+     */
+    private final Long finishedCount;
+
+    /**
+     * 피드백 평균 별점
+     */
+    private final Double averageStar;
+
+    /**
+     * 피드백 개수
+     */
+    private final Long starCount;
+
+    /**
+     * 마지막 활동 시간
+     */
+    private final LocalDateTime lastActivityAt;
+
+    @Builder
+    public TeacherStatisticsResponse(Long pendingCount, Long deniedCount, Long onGoingCount, Long teacherCompletedCount,
+                                     Long finishedCount, Double averageStar, Long starCount, LocalDateTime lastActivityAt) {
+        this.pendingCount = pendingCount;
+        this.deniedCount = deniedCount;
+        this.onGoingCount = onGoingCount;
+        this.teacherCompletedCount = teacherCompletedCount;
+        this.finishedCount = finishedCount;
+        this.averageStar = averageStar;
+        this.starCount = starCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public static TeacherStatisticsResponse from(TeacherStatistics teacherStatistics) {
+        return TeacherStatisticsResponse.builder()
+                                        .pendingCount(teacherStatistics.countOf(Progress.PENDING))
+                                        .deniedCount(teacherStatistics.countOf(Progress.DENIED))
+                                        .onGoingCount(teacherStatistics.countOf(Progress.ON_GOING))
+                                        .teacherCompletedCount(teacherStatistics.countOf(Progress.TEACHER_COMPLETED))
+                                        .finishedCount(teacherStatistics.countOf(Progress.FINISHED))
+                                        .averageStar(teacherStatistics.averageStar())
+                                        .starCount(teacherStatistics.getStarCount())
+                                        .lastActivityAt(teacherStatistics.getLastActivityAt())
+                                        .build();
+    }
+}
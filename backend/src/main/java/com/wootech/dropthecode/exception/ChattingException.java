@@ -0,0 +1,9 @@
+package com.wootech.dropthecode.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ChattingException extends DropTheCodeException {
+    public ChattingException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
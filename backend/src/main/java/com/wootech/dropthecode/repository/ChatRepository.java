@@ -1,8 +1,40 @@
 package com.wootech.dropthecode.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import com.wootech.dropthecode.domain.chatting.Chat;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+/**
+ * 채팅 내역은 (room_id, created_at) 인덱스를 타도록 생성 시각과 id 를 키로 하는 커서 방식으로 조회한다.
+ */
 public interface ChatRepository extends JpaRepository<Chat, Long> {
+
+    @Query("select c.createdAt from Chat c where c.id = :id and c.room.id = :roomId")
+    Optional<LocalDateTime> findCreatedAtByIdAndRoomId(@Param("id") Long id, @Param("roomId") Long roomId);
+
+    @Query("select c from Chat c join fetch c.sender join fetch c.receiver " +
+            "where c.room.id = :roomId " +
+            "order by c.createdAt desc, c.id desc")
+    List<Chat> findLatest(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query("select c from Chat c join fetch c.sender join fetch c.receiver " +
+            "where c.room.id = :roomId " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Chat> findAllBefore(@Param("roomId") Long roomId, @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id, Pageable pageable);
+
+    @Query("select c from Chat c join fetch c.sender join fetch c.receiver " +
+            "where c.room.id = :roomId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Chat> findAllAfter(@Param("roomId") Long roomId, @Param("createdAt") LocalDateTime createdAt,
+                            @Param("id") Long id, Pageable pageable);
 }
@@ -1,60 +1,92 @@
 package com.wootech.dropthecode.repository;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 이 노드에 연결된 SseEmitter 를 회원 id 별로 보관한다.
+ * 조회와 삭제는 해당 회원의 emitter 수에만 비례한다.
+ * 재전송을 위한 이벤트는 모든 노드가 공유하도록 {@link NotificationEventStore} 에 보관한다.
+ */
 @Repository
-public class EmitterRepository {
+public class EmitterRepository implements MeterBinder {
 
-    public final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
 
-    public SseEmitter save(String id, SseEmitter sseEmitter) {
-        emitters.put(id, sseEmitter);
+    /**
+     * 회원의 마지막 emitter 를 지우면서 맵을 제거하는 deleteById 와 겹쳐도 새 emitter 가 제거된 맵에 들어가지 않도록
+     * 같은 키의 compute 안에서 추가한다.
+     */
+    public SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter) {
+        emitters.compute(memberId, (id, memberEmitters) -> {
+            if (Objects.isNull(memberEmitters)) {
+                memberEmitters = new ConcurrentHashMap<>();
+            }
+            memberEmitters.put(emitterId, sseEmitter);
+            return memberEmitters;
+        });
         return sseEmitter;
     }
 
-    public void saveEventCache(String id, Object event) {
-        eventCache.put(id, event);
+    public Map<String, SseEmitter> findAllByMemberId(Long memberId) {
+        return copyOf(emitters.get(memberId));
+    }
+
+    /**
+     * 하트비트 전송을 위해 모든 회원의 emitter 스냅샷을 반환한다.
+     */
+    public Map<Long, Map<String, SseEmitter>> findAll() {
+        Map<Long, Map<String, SseEmitter>> snapshot = new HashMap<>();
+        emitters.forEach((memberId, memberEmitters) -> snapshot.put(memberId, copyOf(memberEmitters)));
+        return snapshot;
+    }
+
+    public void deleteById(Long memberId, String emitterId) {
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            memberEmitters.remove(emitterId);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
     }
 
-    public Map<String, SseEmitter> findAllStartWithById(String id) {
-        return emitters.entrySet().stream()
-                       .filter(entry -> entry.getKey().startsWith(id))
-                       .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void deleteAllByMemberId(Long memberId) {
+        emitters.remove(memberId);
     }
 
-    public Map<String, Object> findAllEventCacheStartWithId(String id) {
-        return eventCache.entrySet().stream()
-                         .filter(entry -> entry.getKey().startsWith(id))
-                         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public int countMembers() {
+        return emitters.size();
     }
 
-    public void deleteAllStartWithId(String id) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(id)) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public int countEmitters() {
+        return emitters.values()
+                       .stream()
+                       .mapToInt(Map::size)
+                       .sum();
     }
 
-    public void deleteById(String id) {
-        emitters.remove(id);
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.members", this, EmitterRepository::countMembers)
+             .description("SSE 를 구독 중인 회원 수")
+             .register(registry);
+        Gauge.builder("sse.emitters", this, EmitterRepository::countEmitters)
+             .description("연결된 SseEmitter 수")
+             .register(registry);
     }
 
-    public void deleteAllEventCacheStartWithId(String id) {
-        eventCache.forEach(
-                (key, data) -> {
-                    if (key.startsWith(id)) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    private static Map<String, SseEmitter> copyOf(Map<String, SseEmitter> values) {
+        if (Objects.isNull(values)) {
+            return Collections.emptyMap();
+        }
+        return new HashMap<>(values);
     }
 }
@@ -8,4 +8,6 @@ import org.springframework.data.domain.Pageable;
 
 public interface FeedbackRepositoryCustom {
     Page<FeedbackResponse> findAll(FeedbackSearchCondition condition, Pageable pageable);
+
+    void evictCount(Long teacherId, Long studentId);
 }
@@ -1,5 +1,6 @@
 package com.wootech.dropthecode.repository;
 
+import java.time.Duration;
 import java.util.Objects;
 import javax.persistence.EntityManager;
 
@@ -10,6 +11,8 @@ import com.wootech.dropthecode.domain.Feedback;
 import com.wootech.dropthecode.dto.request.FeedbackSearchCondition;
 import com.wootech.dropthecode.dto.response.FeedbackResponse;
 import com.wootech.dropthecode.dto.response.ProfileResponse;
+import com.wootech.dropthecode.repository.support.CountCache;
+import com.wootech.dropthecode.repository.support.CountStrategy;
 import com.wootech.dropthecode.repository.support.Querydsl4RepositorySupport;
 
 import org.springframework.data.domain.Page;
@@ -20,6 +23,9 @@ import static com.wootech.dropthecode.domain.QMember.member;
 import static com.wootech.dropthecode.domain.review.QReview.review;
 
 public class FeedbackRepositoryCustomImpl extends Querydsl4RepositorySupport implements FeedbackRepositoryCustom {
+    private static final Duration COUNT_CACHE_TTL = Duration.ofSeconds(10);
+
+    private final CountCache countCache = new CountCache(COUNT_CACHE_TTL);
 
     public FeedbackRepositoryCustomImpl(EntityManager entityManager) {
         super(Feedback.class);
@@ -27,7 +33,32 @@ public class FeedbackRepositoryCustomImpl extends Querydsl4RepositorySupport imp
 
     @Override
     public Page<FeedbackResponse> findAll(FeedbackSearchCondition condition, Pageable pageable) {
-        return applyPagination(pageable, contentQuery -> feedbackContentQuery(feedbackCondition(condition)));
+        return applyPagination(pageable, contentQuery -> feedbackContentQuery(feedbackCondition(condition)),
+                CountStrategy.cached(countCache, countCacheKey(condition.getTeacherId(), condition.getStudentId()),
+                        () -> feedbackCountQuery(feedbackCondition(condition))));
+    }
+
+    /**
+     * 새 피드백이 포함되는 조회 조건(선생님, 학생, 둘 다, 조건 없음)의 count 를 비운다.
+     */
+    @Override
+    public void evictCount(Long teacherId, Long studentId) {
+        countCache.evict(countCacheKey(teacherId, studentId));
+        countCache.evict(countCacheKey(teacherId, null));
+        countCache.evict(countCacheKey(null, studentId));
+        countCache.evict(countCacheKey(null, null));
+    }
+
+    private String countCacheKey(Long teacherId, Long studentId) {
+        return teacherId + ":" + studentId;
+    }
+
+    private JPAQuery<Long> feedbackCountQuery(BooleanExpression condition) {
+        return getQueryFactory()
+                .select(feedback.count())
+                .from(feedback)
+                .join(feedback.review, review)
+                .where(condition);
     }
 
     private JPAQuery<FeedbackResponse> feedbackContentQuery(BooleanExpression condition) {
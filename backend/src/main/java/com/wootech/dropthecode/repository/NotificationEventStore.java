@@ -0,0 +1,91 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootech.dropthecode.dto.response.NotificationResponse;
+import com.wootech.dropthecode.service.notification.NotificationMessage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 노드가 바뀌어도 Last-Event-ID 로 재전송할 수 있도록 회원별 알림 이벤트를 Redis 에 보관한다.
+ * 이벤트는 id 를 score 로 하는 sorted set 에 저장되며, 최대 개수와 최대 보관 시간이 제한된다.
+ */
+@Repository
+public class NotificationEventStore {
+    private static final String EVENT_ID_KEY = "notification:event-id";
+    private static final String EVENTS_KEY_PREFIX = "notification:events:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final Duration maxAge;
+
+    public NotificationEventStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                  @Value("${notification.replay.max-size:100}") int maxSize,
+                                  @Value("${notification.replay.max-age:30m}") Duration maxAge) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 모든 노드에서 단조 증가하는 이벤트 id 를 발급받아 알림을 저장한다.
+     */
+    public NotificationMessage append(Long receiverId, NotificationResponse notification) {
+        Long eventId = Objects.requireNonNull(redisTemplate.opsForValue().increment(EVENT_ID_KEY));
+        NotificationMessage message = new NotificationMessage(receiverId, eventId, System.currentTimeMillis(), notification);
+
+        String key = keyOf(receiverId);
+        redisTemplate.opsForZSet().add(key, write(message), eventId);
+        redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+        redisTemplate.expire(key, maxAge);
+        return message;
+    }
+
+    public List<NotificationMessage> findAllAfter(Long receiverId, long lastEventId) {
+        Set<String> events = redisTemplate.opsForZSet().rangeByScore(keyOf(receiverId), lastEventId + 1, Double.POSITIVE_INFINITY);
+        if (Objects.isNull(events)) {
+            return List.of();
+        }
+
+        long oldest = System.currentTimeMillis() - maxAge.toMillis();
+        return events.stream()
+                     .map(this::read)
+                     .filter(message -> message.getCreatedAt() >= oldest)
+                     .collect(Collectors.toList());
+    }
+
+    public void deleteAllByMemberId(Long memberId) {
+        redisTemplate.delete(keyOf(memberId));
+    }
+
+    private String keyOf(Long memberId) {
+        return EVENTS_KEY_PREFIX + memberId;
+    }
+
+    private String write(NotificationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 직렬화 에러", e);
+        }
+    }
+
+    private NotificationMessage read(String event) {
+        try {
+            return objectMapper.readValue(event, NotificationMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("파싱 에러", e);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.wootech.dropthecode.repository;
 
+import java.util.List;
+
 import com.wootech.dropthecode.domain.review.Review;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
+
+    @Query("select r.id from Review r where r.teacher.id = :memberId or r.student.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
 }
@@ -1,7 +1,10 @@
 package com.wootech.dropthecode.repository;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import javax.persistence.EntityManager;
 
 import com.querydsl.core.types.Projections;
@@ -9,9 +12,11 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.wootech.dropthecode.domain.Progress;
 import com.wootech.dropthecode.domain.QMember;
+import com.wootech.dropthecode.domain.TeacherStatistics;
 import com.wootech.dropthecode.domain.review.Review;
 import com.wootech.dropthecode.dto.ReviewSummary;
 import com.wootech.dropthecode.dto.request.ReviewSearchCondition;
+import com.wootech.dropthecode.repository.support.CountStrategy;
 import com.wootech.dropthecode.repository.support.Querydsl4RepositorySupport;
 
 import org.springframework.data.domain.Page;
@@ -30,12 +35,36 @@ public class ReviewRepositoryCustomImpl extends Querydsl4RepositorySupport imple
 
     @Override
     public Page<ReviewSummary> searchPageByStudentId(Long id, ReviewSearchCondition condition, Pageable pageable) {
-        return applyPagination(pageable, contentQuery -> reviewSummaryContentQuery(studentReviewCondition(id, condition)));
+        return applyPagination(pageable, contentQuery -> reviewSummaryContentQuery(studentReviewCondition(id, condition)),
+                CountStrategy.exact(() -> reviewCountQuery(review.teacher, member, condition.getName(), studentReviewCondition(id, condition))));
     }
 
     @Override
     public Page<ReviewSummary> searchPageByTeacherId(Long id, ReviewSearchCondition condition, Pageable pageable) {
-        return applyPagination(pageable, contentQuery -> reviewSummaryContentQuery(teacherReviewCondition(id, condition)));
+        return applyPagination(pageable, contentQuery -> reviewSummaryContentQuery(teacherReviewCondition(id, condition)),
+                teacherReviewCountStrategy(id, condition));
+    }
+
+    /**
+     * 이름 조건이 없으면 리뷰 상태별로 관리되는 선생님 통계 카운터를 전체 개수로 사용한다.
+     * 통계가 아직 만들어지지 않았거나 이름 조건이 있으면 count 쿼리로 구한다.
+     */
+    private CountStrategy teacherReviewCountStrategy(Long id, ReviewSearchCondition condition) {
+        Supplier<JPAQuery<Long>> countQuery = () -> reviewCountQuery(review.student, memberSub, condition.getName(), teacherReviewCondition(id, condition));
+        if (!isEmpty(condition.getName())) {
+            return CountStrategy.exact(countQuery);
+        }
+
+        return CountStrategy.estimated(() -> {
+            TeacherStatistics statistics = getEntityManager().find(TeacherStatistics.class, id);
+            if (Objects.isNull(statistics)) {
+                return countQuery.get().fetchOne();
+            }
+            List<Progress> progress = condition.getProgress().isEmpty() ? Arrays.asList(Progress.values()) : condition.getProgress();
+            return progress.stream()
+                           .mapToLong(statistics::countOf)
+                           .sum();
+        });
     }
 
     @Override
@@ -58,6 +87,20 @@ public class ReviewRepositoryCustomImpl extends Querydsl4RepositorySupport imple
                 .where(condition);
     }
 
+    /**
+     * 이름 조건이 있을 때만 상대방 회원을 조인하는 count 쿼리
+     */
+    private JPAQuery<Long> reviewCountQuery(QMember counterpart, QMember alias, String name, BooleanExpression condition) {
+        JPAQuery<Long> query = getQueryFactory()
+                .select(review.count())
+                .from(review);
+
+        if (!isEmpty(name)) {
+            query.join(counterpart, alias);
+        }
+        return query.where(condition);
+    }
+
     private BooleanExpression studentReviewCondition(Long id, ReviewSearchCondition condition) {
         return studentIdEq(id)
                 .and(memberNameEq(condition.getName(), member))
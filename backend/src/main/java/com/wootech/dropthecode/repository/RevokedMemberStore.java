@@ -0,0 +1,49 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 탈퇴한 회원의 access token 을 거부하기 위해 회원별 폐기 시각을 Redis 에 보관한다.
+ * 폐기 시각 이전에 발급된 토큰만 거부하므로 다시 로그인하면 새 토큰은 그대로 사용할 수 있다.
+ * 그 전에 발급된 토큰이 모두 만료되는 access token 유효 기간이 지나면 기록도 함께 만료된다.
+ */
+@Repository
+public class RevokedMemberStore {
+    private static final String REVOKED_KEY_PREFIX = "member:revoked:";
+    private static final long SECOND_MILLIS = 1000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+
+    public RevokedMemberStore(StringRedisTemplate redisTemplate,
+                              @Value("${jwt.access-token.expire-length:10000}") long accessTokenValidityInMilliseconds) {
+        this.redisTemplate = redisTemplate;
+        this.retention = Duration.ofMillis(accessTokenValidityInMilliseconds);
+    }
+
+    public void revoke(Long memberId) {
+        String revokedAt = String.valueOf(System.currentTimeMillis());
+        redisTemplate.opsForValue().set(keyOf(memberId), revokedAt, retention);
+    }
+
+    /**
+     * 토큰의 iat 는 초 단위이므로 폐기 시각도 초 단위로 내림해 비교한다.
+     */
+    public boolean isRevoked(Long memberId, long issuedAt) {
+        String revokedAt = redisTemplate.opsForValue().get(keyOf(memberId));
+        if (Objects.isNull(revokedAt)) {
+            return false;
+        }
+        long revokedSecond = Long.parseLong(revokedAt) / SECOND_MILLIS * SECOND_MILLIS;
+        return issuedAt < revokedSecond;
+    }
+
+    private String keyOf(Long memberId) {
+        return REVOKED_KEY_PREFIX + memberId;
+    }
+}
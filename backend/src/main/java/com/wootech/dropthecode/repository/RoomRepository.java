@@ -1,11 +1,14 @@
 package com.wootech.dropthecode.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.wootech.dropthecode.domain.chatting.Room;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +20,24 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<Room> findByTeacherIdAndStudentId(@Param("teacherId") Long teacherId, @Param("studentId") Long studentId);
 
     List<Room> findByTeacherIdOrStudentId(Long teacherId, Long studentId);
+
+    /**
+     * 메시지가 있는 채팅방을 마지막 메시지 시간의 역순으로 조회한다.
+     * (teacher_id, last_chat_at), (student_id, last_chat_at) 인덱스를 사용한다.
+     */
+    @Query("select r from Room r join fetch r.teacher join fetch r.student " +
+            "where (r.teacher.id = :memberId or r.student.id = :memberId) and r.lastChatAt is not null " +
+            "order by r.lastChatAt desc, r.id desc")
+    List<Room> findAllWithLastChatByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 동시에 저장된 메시지 중 더 오래된 메시지가 마지막 메시지를 덮어쓰지 않도록 조건부로 갱신한다.
+     */
+    @Modifying
+    @Query("update Room r " +
+            "set r.lastChatId = :chatId, r.lastChatContent = :content, r.lastChatSenderId = :senderId, r.lastChatAt = :createdAt " +
+            "where r.id = :roomId " +
+            "and (r.lastChatAt is null or r.lastChatAt < :createdAt or (r.lastChatAt = :createdAt and r.lastChatId < :chatId))")
+    int updateLastChat(@Param("roomId") Long roomId, @Param("chatId") Long chatId, @Param("content") String content,
+                       @Param("senderId") Long senderId, @Param("createdAt") LocalDateTime createdAt);
 }
@@ -5,11 +5,17 @@ import java.util.List;
 import com.wootech.dropthecode.domain.Language;
 import com.wootech.dropthecode.domain.Skill;
 import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.dto.TeacherCursor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface TeacherFilterRepository {
 
     Page<TeacherProfile> findAll(Language language, List<Skill> skills, int career, Pageable pageable);
+
+    List<TeacherProfile> findAllByIds(List<Long> ids);
+
+    Slice<TeacherProfile> findAllByCursor(Language language, List<Skill> skills, int career, TeacherCursor cursor, Pageable pageable);
 }
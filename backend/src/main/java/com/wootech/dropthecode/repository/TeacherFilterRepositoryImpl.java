@@ -1,23 +1,27 @@
 package com.wootech.dropthecode.repository;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.wootech.dropthecode.domain.Language;
 import com.wootech.dropthecode.domain.Skill;
 import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.dto.TeacherCursor;
+import com.wootech.dropthecode.exception.TeacherException;
+import com.wootech.dropthecode.repository.support.CountStrategy;
 import com.wootech.dropthecode.repository.support.Querydsl4RepositorySupport;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 
@@ -31,6 +35,19 @@ import static com.wootech.dropthecode.domain.bridge.QTeacherSkill.teacherSkill;
 @Repository
 public class TeacherFilterRepositoryImpl extends Querydsl4RepositorySupport implements TeacherFilterRepository {
 
+    /**
+     * 커서 페이지네이션에서 사용할 수 있는 정렬 키
+     * null 이 섞인 컬럼은 seek 조건에서 누락되지 않도록 0 으로 치환한다.
+     */
+    private static final Map<String, NumberExpression<Double>> CURSOR_SORT_KEYS = new HashMap<>();
+
+    static {
+        CURSOR_SORT_KEYS.put(TeacherCursor.ID, Expressions.numberTemplate(Double.class, "{0}", teacherProfile.id));
+        CURSOR_SORT_KEYS.put(TeacherCursor.CAREER, Expressions.numberTemplate(Double.class, "{0}", teacherProfile.career));
+        CURSOR_SORT_KEYS.put(TeacherCursor.SUM_REVIEW_COUNT, Expressions.numberTemplate(Double.class, "coalesce({0}, 0)", teacherProfile.sumReviewCount));
+        CURSOR_SORT_KEYS.put(TeacherCursor.AVERAGE_REVIEW_TIME, Expressions.numberTemplate(Double.class, "coalesce({0}, 0)", teacherProfile.averageReviewTime));
+    }
+
     public TeacherFilterRepositoryImpl() {
         super(TeacherProfile.class);
     }
@@ -42,6 +59,86 @@ public class TeacherFilterRepositoryImpl extends Querydsl4RepositorySupport impl
         return new PageImpl<>(teacherProfiles, pageable, teacherIds.getTotalElements());
     }
 
+    @Override
+    public Slice<TeacherProfile> findAllByCursor(Language language, List<Skill> skills, int career, TeacherCursor cursor, Pageable pageable) {
+        final Sort.Order order = cursorSortOrder(pageable);
+        final NumberExpression<Double> sortKey = CURSOR_SORT_KEYS.get(order.getProperty());
+        final Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+
+        List<Long> ids = getQueryFactory().select(teacherProfile.id)
+                                          .from(teacherProfile)
+                                          .where(teacherFilterCondition(language, skills, career),
+                                                  seekCondition(sortKey, order.isAscending(), cursor))
+                                          .orderBy(new OrderSpecifier<>(direction, sortKey), new OrderSpecifier<>(direction, teacherProfile.id))
+                                          .limit(pageable.getPageSize() + 1L)
+                                          .fetch();
+
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids = ids.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(findAllByIds(ids), pageable, hasNext);
+    }
+
+    private Sort.Order cursorSortOrder(Pageable pageable) {
+        Sort.Order order = pageable.getSort()
+                                   .stream()
+                                   .findFirst()
+                                   .orElse(Sort.Order.asc(TeacherCursor.ID));
+
+        if (!CURSOR_SORT_KEYS.containsKey(order.getProperty())) {
+            throw new TeacherException("커서 페이지네이션을 지원하지 않는 정렬 조건입니다.");
+        }
+        return order;
+    }
+
+    private BooleanExpression seekCondition(NumberExpression<Double> sortKey, boolean ascending, TeacherCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        if (ascending) {
+            return sortKey.gt(cursor.getValue())
+                          .or(sortKey.eq(cursor.getValue()).and(teacherProfile.id.gt(cursor.getId())));
+        }
+        return sortKey.lt(cursor.getValue())
+                      .or(sortKey.eq(cursor.getValue()).and(teacherProfile.id.lt(cursor.getId())));
+    }
+
+    private BooleanBuilder teacherFilterCondition(Language language, List<Skill> skills, int career) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(teacherProfile.id.in(
+                JPAExpressions.select(teacherLanguage.teacherProfile.id)
+                              .from(teacherLanguage)
+                              .where(teacherLanguage.language.id.eq(language.getId()))));
+        builder.and(teacherProfile.career.goe(career));
+
+        if (!skills.isEmpty()) {
+            builder.and(teacherProfile.id.in(
+                    JPAExpressions.select(teacherSkill.teacherProfile.id)
+                                  .from(teacherSkill)
+                                  .where(teacherSkill.skill.in(skills))));
+        }
+        return builder;
+    }
+
+    @Override
+    public List<TeacherProfile> findAllByIds(List<Long> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, TeacherProfile> teacherProfiles = findAllByIdsQuery(ids).fetch()
+                                                                          .stream()
+                                                                          .collect(Collectors.toMap(TeacherProfile::getId, Function.identity()));
+        fetchTags(ids);
+        return ids.stream()
+                  .map(teacherProfiles::get)
+                  .filter(Objects::nonNull)
+                  .collect(Collectors.toList());
+    }
+
     private List<TeacherProfile> findAllByIds(Page<Long> teacherIds, Pageable pageable) {
         List<Long> ids = teacherIds.getContent();
 
@@ -49,21 +146,43 @@ public class TeacherFilterRepositoryImpl extends Querydsl4RepositorySupport impl
             return new ArrayList<>();
         }
 
-        final JPAQuery<TeacherProfile> query = getQueryFactory().select(teacherProfile)
-                                                                .from(teacherProfile).distinct()
-                                                                .innerJoin(teacherProfile.languages, teacherLanguage).fetchJoin()
-                                                                .innerJoin(teacherLanguage.language, language).fetchJoin()
-                                                                .leftJoin(teacherProfile.skills, teacherSkill).fetchJoin()
-                                                                .leftJoin(teacherSkill.skill, skill).fetchJoin()
-                                                                .innerJoin(teacherProfile.member).fetchJoin()
-                                                                .where(teacherProfile.id.in(ids));
+        final JPAQuery<TeacherProfile> query = findAllByIdsQuery(ids);
 
         for (Sort.Order order : pageable.getSort()) {
             PathBuilder<TeacherProfile> orderByExpression = new PathBuilder<>(TeacherProfile.class, "teacherProfile");
             query.orderBy(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, orderByExpression.get(order.getProperty())));
         }
 
-        return query.fetch();
+        List<TeacherProfile> teacherProfiles = query.fetch();
+        fetchTags(ids);
+        return teacherProfiles;
+    }
+
+    private JPAQuery<TeacherProfile> findAllByIdsQuery(List<Long> ids) {
+        return getQueryFactory().select(teacherProfile)
+                                .from(teacherProfile)
+                                .innerJoin(teacherProfile.member).fetchJoin()
+                                .where(teacherProfile.id.in(ids));
+    }
+
+    /**
+     * 언어와 기술을 한 번에 fetch join 하면 리뷰어마다 언어 수 x 기술 수 만큼 행이 생긴다.
+     * 이미 영속성 컨텍스트에 올라온 리뷰어에 컬렉션을 하나씩 fetch join 해 행 수가 언어 수 + 기술 수 만큼만 늘게 한다.
+     */
+    private void fetchTags(List<Long> ids) {
+        getQueryFactory().select(teacherProfile)
+                         .from(teacherProfile)
+                         .leftJoin(teacherProfile.languages, teacherLanguage).fetchJoin()
+                         .leftJoin(teacherLanguage.language, language).fetchJoin()
+                         .where(teacherProfile.id.in(ids))
+                         .fetch();
+
+        getQueryFactory().select(teacherProfile)
+                         .from(teacherProfile)
+                         .leftJoin(teacherProfile.skills, teacherSkill).fetchJoin()
+                         .leftJoin(teacherSkill.skill, skill).fetchJoin()
+                         .where(teacherProfile.id.in(ids))
+                         .fetch();
     }
 
     private Page<Long> findTeacherProfileIdsByPageable(Language language, List<Skill> skills, int career, Pageable pageable) {
@@ -83,6 +202,8 @@ public class TeacherFilterRepositoryImpl extends Querydsl4RepositorySupport impl
         }
 
         query.where(builder);
-        return applyPagination(pageable, query);
+        JPAQuery<Long> countQuery = query.clone()
+                                         .select(teacherProfile.id.countDistinct());
+        return applyPagination(pageable, query, CountStrategy.exact(() -> countQuery));
     }
 }
@@ -1,15 +1,27 @@
 package com.wootech.dropthecode.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.dto.TeacherSortKey;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TeacherProfileRepository extends JpaRepository<TeacherProfile, Long>, TeacherFilterRepository {
+public interface TeacherProfileRepository extends JpaRepository<TeacherProfile, Long>, TeacherFilterRepository, TeacherProfileRepositoryCustom {
 
     @EntityGraph(attributePaths = {"languages.language", "skills.skill"}, type = EntityGraph.EntityGraphType.LOAD)
     @Override
     Optional<TeacherProfile> findById(Long id);
+
+    @Query("select t.id as id, t.career as career, t.sumReviewCount as sumReviewCount, t.averageReviewTime as averageReviewTime " +
+            "from TeacherProfile t")
+    List<TeacherSortKey> findAllSortKeys();
+
+    @Query("select t.id as id, t.career as career, t.sumReviewCount as sumReviewCount, t.averageReviewTime as averageReviewTime " +
+            "from TeacherProfile t where t.id = :id")
+    Optional<TeacherSortKey> findSortKeyById(@Param("id") Long id);
 }
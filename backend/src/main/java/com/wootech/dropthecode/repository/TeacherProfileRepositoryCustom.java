@@ -0,0 +1,9 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.Optional;
+
+import com.wootech.dropthecode.domain.TeacherProfile;
+
+public interface TeacherProfileRepositoryCustom {
+    Optional<TeacherProfile> findByIdForUpdate(Long id);
+}
@@ -0,0 +1,30 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.Objects;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import com.wootech.dropthecode.domain.TeacherProfile;
+
+public class TeacherProfileRepositoryCustomImpl implements TeacherProfileRepositoryCustom {
+    private final EntityManager entityManager;
+
+    public TeacherProfileRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 2차 캐시나 영속성 컨텍스트에 남아 있던 값이 아닌 DB 의 값을 잠근 채 다시 읽는다.
+     * 읽은 값으로 새 값을 계산해 저장하는 쓰기 경로에서 사용한다.
+     */
+    @Override
+    public Optional<TeacherProfile> findByIdForUpdate(Long id) {
+        TeacherProfile teacherProfile = entityManager.find(TeacherProfile.class, id);
+        if (Objects.isNull(teacherProfile)) {
+            return Optional.empty();
+        }
+        entityManager.refresh(teacherProfile, LockModeType.PESSIMISTIC_WRITE);
+        return Optional.of(teacherProfile);
+    }
+}
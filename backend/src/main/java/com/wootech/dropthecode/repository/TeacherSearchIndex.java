@@ -0,0 +1,358 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import com.wootech.dropthecode.dto.TeacherSortKey;
+import com.wootech.dropthecode.repository.bridge.TeacherLanguageRepository;
+import com.wootech.dropthecode.repository.bridge.TeacherSkillRepository;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationListener;
+import com.wootech.dropthecode.util.AfterCommit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰어 목록 필터링을 위한 메모리 색인
+ * 언어/기술별로 리뷰어 id 비트셋을, 연차는 정렬된 맵으로 유지해 DB 에서는 최종 페이지의 리뷰어만 조회하도록 한다.
+ * 색인은 노드마다 따로 가지며 결과적 일관성만 보장한다.
+ * 이 노드의 변경은 트랜잭션이 커밋된 이후에 반영되고, 다른 노드의 변경은 캐시 무효화 이벤트를 받아 해당 리뷰어를 DB 에서 다시 읽어 반영한다.
+ * pub/sub 은 메시지를 잃을 수 있으므로 주기적으로 전체 색인을 다시 만들어 그 사이의 차이를 없앤다.
+ */
+@Slf4j
+@Repository
+public class TeacherSearchIndex implements CacheInvalidationListener {
+    private static final String ID = "id";
+    private static final Map<String, Comparator<Row>> SORT_KEYS = new HashMap<>();
+
+    static {
+        SORT_KEYS.put(ID, Comparator.comparingInt(row -> row.id));
+        SORT_KEYS.put("career", Comparator.comparingInt(row -> row.career));
+        SORT_KEYS.put("sumReviewCount", Comparator.comparingInt(row -> row.sumReviewCount));
+        SORT_KEYS.put("averageReviewTime", Comparator.comparingDouble(row -> row.averageReviewTime));
+    }
+
+    private final TeacherProfileRepository teacherProfileRepository;
+    private final TeacherLanguageRepository teacherLanguageRepository;
+    private final TeacherSkillRepository teacherSkillRepository;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+    private Index index = new Index();
+    private List<Consumer<Index>> pendingUpdates;
+    private volatile boolean ready = false;
+
+    public TeacherSearchIndex(TeacherProfileRepository teacherProfileRepository,
+                              TeacherLanguageRepository teacherLanguageRepository,
+                              TeacherSkillRepository teacherSkillRepository,
+                              @Value("${teacher.search-index.enabled:false}") boolean enabled) {
+        this.teacherProfileRepository = teacherProfileRepository;
+        this.teacherLanguageRepository = teacherLanguageRepository;
+        this.teacherSkillRepository = teacherSkillRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 새 색인을 잠금 밖에서 만든 뒤 교체한다.
+     * 만드는 동안 반영된 변경은 DB 를 읽은 시점 이후의 것일 수 있으므로 기록해 두었다가 교체하기 전에 새 색인에 다시 적용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${teacher.search-index.rebuild-interval:PT10M}",
+            initialDelayString = "${teacher.search-index.rebuild-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (rebuildMonitor) {
+            long start = System.currentTimeMillis();
+            writeLock(() -> pendingUpdates = new ArrayList<>());
+            try {
+                Index rebuilt = new Index();
+                teacherProfileRepository.findAllSortKeys().forEach(sortKey -> rebuilt.putRow(new Row(sortKey)));
+                teacherLanguageRepository.findAllTeacherTags().forEach(tag -> rebuilt.setLanguage(tag.getTagId(), tag.getTeacherId()));
+                teacherSkillRepository.findAllTeacherTags().forEach(tag -> rebuilt.setSkill(tag.getTagId(), tag.getTeacherId()));
+
+                int size = writeLock(() -> {
+                    pendingUpdates.forEach(update -> update.accept(rebuilt));
+                    index = rebuilt;
+                    ready = true;
+                    return rebuilt.teachers.size();
+                });
+                log.info("리뷰어 검색 색인 생성 완료 [teachers={}, elapsed={}ms]", size, System.currentTimeMillis() - start);
+            } finally {
+                writeLock(() -> pendingUpdates = null);
+            }
+        }
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (invalidation.is(CacheInvalidation.Target.TEACHER)) {
+                reload(invalidation.getId());
+                return;
+            }
+            if (invalidation.is(CacheInvalidation.Target.ALL_TEACHERS)) {
+                build();
+            }
+        } catch (DataAccessException e) {
+            log.warn("리뷰어 검색 색인 갱신 실패, 다음 재생성 때 반영됩니다 [target={}, id={}]", invalidation.getTarget(), invalidation.getId(), e);
+        }
+    }
+
+    private void reload(Long teacherId) {
+        Optional<TeacherSortKey> sortKey = teacherProfileRepository.findSortKeyById(teacherId);
+        if (sortKey.isEmpty()) {
+            apply(target -> target.removeRow(teacherId));
+            return;
+        }
+
+        List<Long> languageIds = teacherLanguageRepository.findTagIdsByTeacherId(teacherId);
+        List<Long> skillIds = teacherSkillRepository.findTagIdsByTeacherId(teacherId);
+        apply(target -> target.replaceRow(new Row(sortKey.get()), languageIds, skillIds));
+    }
+
+    /**
+     * 정렬 키마다 미리 정렬해 둔 순서를 따라가므로 정렬 조건이 하나인 경우만 지원한다.
+     */
+    public boolean supports(Sort sort) {
+        return ready && sort.stream().count() <= 1 && sort.stream().allMatch(order -> SORT_KEYS.containsKey(order.getProperty()));
+    }
+
+    public Page<Long> search(Long languageId, List<Long> skillIds, int career, Pageable pageable) {
+        return readLock(() -> index.search(languageId, skillIds, career, pageable));
+    }
+
+    public void put(Long teacherId, Integer career, Integer sumReviewCount, Double averageReviewTime,
+                    List<Long> languageIds, List<Long> skillIds) {
+        afterCommit(() -> apply(target -> target.replaceRow(new Row(teacherId, career, sumReviewCount, averageReviewTime), languageIds, skillIds)));
+    }
+
+    public void updateSortKeys(Long teacherId, Integer sumReviewCount, Double averageReviewTime) {
+        afterCommit(() -> apply(target -> target.updateSortKeys(teacherId, sumReviewCount, averageReviewTime)));
+    }
+
+    public void remove(Long teacherId) {
+        afterCommit(() -> apply(target -> target.removeRow(teacherId)));
+    }
+
+    /**
+     * 재생성 중이면 새 색인에도 다시 적용할 수 있도록 변경을 기록한다.
+     */
+    private void apply(Consumer<Index> update) {
+        writeLock(() -> {
+            update.accept(index);
+            if (Objects.nonNull(pendingUpdates)) {
+                pendingUpdates.add(update);
+            }
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (enabled) {
+            AfterCommit.run(runnable);
+        }
+    }
+
+    private <T> T readLock(Supplier<T> supplier) {
+        lock.readLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T writeLock(Supplier<T> supplier) {
+        lock.writeLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static <K> BitSet bitSetOf(Map<K, BitSet> index, K key) {
+        return index.computeIfAbsent(key, ignored -> new BitSet());
+    }
+
+    private static int toIndex(Long teacherId) {
+        return Math.toIntExact(teacherId);
+    }
+
+    private static int valueOrZero(Integer value) {
+        return Objects.isNull(value) ? 0 : value;
+    }
+
+    private static double valueOrZero(Double value) {
+        return Objects.isNull(value) ? 0 : value;
+    }
+
+    /**
+     * 읽기/쓰기 잠금 안에서만 접근하는 색인 본체
+     * id 를 제외한 정렬 키마다 오름차순, 내림차순으로 정렬된 리뷰어를 유지하고, 같은 값이면 id 오름차순으로 정렬한다.
+     */
+    private static class Index {
+        private final Map<Long, BitSet> languages = new HashMap<>();
+        private final Map<Long, BitSet> skills = new HashMap<>();
+        private final NavigableMap<Integer, BitSet> careers = new TreeMap<>();
+        private final Map<Integer, Row> teachers = new HashMap<>();
+        private final Map<String, NavigableSet<Row>> ascending = new HashMap<>();
+        private final Map<String, NavigableSet<Row>> descending = new HashMap<>();
+
+        private Index() {
+            SORT_KEYS.forEach((property, comparator) -> {
+                if (!ID.equals(property)) {
+                    ascending.put(property, new TreeSet<>(comparator.thenComparing(SORT_KEYS.get(ID))));
+                    descending.put(property, new TreeSet<>(comparator.reversed().thenComparing(SORT_KEYS.get(ID))));
+                }
+            });
+        }
+
+        private Page<Long> search(Long languageId, List<Long> skillIds, int career, Pageable pageable) {
+            BitSet result = (BitSet) languages.getOrDefault(languageId, new BitSet()).clone();
+
+            if (!skillIds.isEmpty()) {
+                BitSet skillMatches = new BitSet();
+                skillIds.forEach(skillId -> skillMatches.or(skills.getOrDefault(skillId, new BitSet())));
+                result.and(skillMatches);
+            }
+
+            BitSet careerMatches = new BitSet();
+            careers.tailMap(career, true).values().forEach(careerMatches::or);
+            result.and(careerMatches);
+
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            long skipped = 0;
+            PrimitiveIterator.OfInt candidates = orderOf(result, pageable.getSort());
+            while (candidates.hasNext() && ids.size() < pageable.getPageSize()) {
+                int id = candidates.nextInt();
+                if (!result.get(id)) {
+                    continue;
+                }
+                if (skipped < pageable.getOffset()) {
+                    skipped++;
+                    continue;
+                }
+                ids.add((long) id);
+            }
+            return new PageImpl<>(ids, pageable, result.cardinality());
+        }
+
+        /**
+         * 필터링된 리뷰어를 정렬하지 않고, 미리 정렬된 순서에서 페이지를 채울 때까지만 따라간다.
+         */
+        private PrimitiveIterator.OfInt orderOf(BitSet matches, Sort sort) {
+            Sort.Order order = sort.stream()
+                                   .findFirst()
+                                   .orElse(Sort.Order.asc(ID));
+            if (ID.equals(order.getProperty())) {
+                return order.isAscending()
+                        ? matches.stream().iterator()
+                        : IntStream.iterate(matches.length() - 1, id -> id >= 0, id -> matches.previousSetBit(id - 1)).iterator();
+            }
+
+            NavigableSet<Row> rows = order.isAscending() ? ascending.get(order.getProperty()) : descending.get(order.getProperty());
+            return rows.stream().mapToInt(row -> row.id).iterator();
+        }
+
+        private void setLanguage(Long languageId, Long teacherId) {
+            bitSetOf(languages, languageId).set(toIndex(teacherId));
+        }
+
+        private void setSkill(Long skillId, Long teacherId) {
+            bitSetOf(skills, skillId).set(toIndex(teacherId));
+        }
+
+        private void replaceRow(Row row, List<Long> languageIds, List<Long> skillIds) {
+            removeRow((long) row.id);
+            putRow(row);
+            languageIds.forEach(languageId -> bitSetOf(languages, languageId).set(row.id));
+            skillIds.forEach(skillId -> bitSetOf(skills, skillId).set(row.id));
+        }
+
+        private void updateSortKeys(Long teacherId, Integer sumReviewCount, Double averageReviewTime) {
+            Row row = teachers.get(toIndex(teacherId));
+            if (Objects.isNull(row)) {
+                return;
+            }
+
+            removeOrder(row);
+            row.sumReviewCount = valueOrZero(sumReviewCount);
+            row.averageReviewTime = valueOrZero(averageReviewTime);
+            addOrder(row);
+        }
+
+        private void putRow(Row row) {
+            teachers.put(row.id, row);
+            bitSetOf(careers, row.career).set(row.id);
+            addOrder(row);
+        }
+
+        private void removeRow(Long teacherId) {
+            int index = toIndex(teacherId);
+            Row row = teachers.remove(index);
+            if (Objects.nonNull(row)) {
+                careers.get(row.career).clear(index);
+                removeOrder(row);
+            }
+            languages.values().forEach(bitSet -> bitSet.clear(index));
+            skills.values().forEach(bitSet -> bitSet.clear(index));
+        }
+
+        private void addOrder(Row row) {
+            ascending.values().forEach(rows -> rows.add(row));
+            descending.values().forEach(rows -> rows.add(row));
+        }
+
+        /**
+         * 정렬 키가 바뀌면 TreeSet 에서 찾을 수 없으므로 값을 바꾸기 전에 지운다.
+         */
+        private void removeOrder(Row row) {
+            ascending.values().forEach(rows -> rows.remove(row));
+            descending.values().forEach(rows -> rows.remove(row));
+        }
+    }
+
+    private static class Row {
+        private final int id;
+        private final int career;
+        private int sumReviewCount;
+        private double averageReviewTime;
+
+        private Row(Long id, Integer career, Integer sumReviewCount, Double averageReviewTime) {
+            this.id = toIndex(id);
+            this.career = valueOrZero(career);
+            this.sumReviewCount = valueOrZero(sumReviewCount);
+            this.averageReviewTime = valueOrZero(averageReviewTime);
+        }
+
+        private Row(TeacherSortKey sortKey) {
+            this(sortKey.getId(), sortKey.getCareer(), sortKey.getSumReviewCount(), sortKey.getAverageReviewTime());
+        }
+    }
+}
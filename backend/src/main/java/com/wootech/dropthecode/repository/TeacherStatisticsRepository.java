@@ -0,0 +1,18 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.Optional;
+import javax.persistence.LockModeType;
+
+import com.wootech.dropthecode.domain.TeacherStatistics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TeacherStatisticsRepository extends JpaRepository<TeacherStatistics, Long>, TeacherStatisticsRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TeacherStatistics s where s.id = :id")
+    Optional<TeacherStatistics> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,22 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+import com.wootech.dropthecode.domain.Progress;
+import com.wootech.dropthecode.domain.TeacherStatistics;
+
+public interface TeacherStatisticsRepositoryCustom {
+    long increase(Long teacherId, Progress progress, LocalDateTime activityAt);
+
+    long decrease(Long teacherId, Progress progress, LocalDateTime activityAt);
+
+    long move(Long teacherId, Progress from, Progress to, LocalDateTime activityAt);
+
+    long addStar(Long teacherId, int star, LocalDateTime activityAt);
+
+    Map<Long, TeacherStatistics> aggregateAll();
+
+    Map<Long, TeacherStatistics> aggregateByTeacherIds(Collection<Long> teacherIds);
+}
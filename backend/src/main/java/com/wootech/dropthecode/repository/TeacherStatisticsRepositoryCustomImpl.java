@@ -0,0 +1,136 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.wootech.dropthecode.domain.Progress;
+import com.wootech.dropthecode.domain.TeacherStatistics;
+import com.wootech.dropthecode.repository.support.Querydsl4RepositorySupport;
+
+import static com.wootech.dropthecode.domain.QFeedback.feedback;
+import static com.wootech.dropthecode.domain.QTeacherStatistics.teacherStatistics;
+import static com.wootech.dropthecode.domain.review.QReview.review;
+
+public class TeacherStatisticsRepositoryCustomImpl extends Querydsl4RepositorySupport implements TeacherStatisticsRepositoryCustom {
+
+    public TeacherStatisticsRepositoryCustomImpl() {
+        super(TeacherStatistics.class);
+    }
+
+    @Override
+    public long increase(Long teacherId, Progress progress, LocalDateTime activityAt) {
+        NumberPath<Long> count = countPathOf(progress);
+        return getQueryFactory().update(teacherStatistics)
+                                .set(count, count.add(1L))
+                                .set(teacherStatistics.lastActivityAt, activityAt)
+                                .where(teacherStatistics.id.eq(teacherId))
+                                .execute();
+    }
+
+    @Override
+    public long decrease(Long teacherId, Progress progress, LocalDateTime activityAt) {
+        NumberPath<Long> count = countPathOf(progress);
+        return getQueryFactory().update(teacherStatistics)
+                                .set(count, count.subtract(1L))
+                                .set(teacherStatistics.lastActivityAt, activityAt)
+                                .where(teacherStatistics.id.eq(teacherId))
+                                .execute();
+    }
+
+    @Override
+    public long move(Long teacherId, Progress from, Progress to, LocalDateTime activityAt) {
+        NumberPath<Long> fromCount = countPathOf(from);
+        NumberPath<Long> toCount = countPathOf(to);
+        return getQueryFactory().update(teacherStatistics)
+                                .set(fromCount, fromCount.subtract(1L))
+                                .set(toCount, toCount.add(1L))
+                                .set(teacherStatistics.lastActivityAt, activityAt)
+                                .where(teacherStatistics.id.eq(teacherId))
+                                .execute();
+    }
+
+    @Override
+    public long addStar(Long teacherId, int star, LocalDateTime activityAt) {
+        return getQueryFactory().update(teacherStatistics)
+                                .set(teacherStatistics.starSum, teacherStatistics.starSum.add((long) star))
+                                .set(teacherStatistics.starCount, teacherStatistics.starCount.add(1L))
+                                .set(teacherStatistics.lastActivityAt, activityAt)
+                                .where(teacherStatistics.id.eq(teacherId))
+                                .execute();
+    }
+
+    @Override
+    public Map<Long, TeacherStatistics> aggregateAll() {
+        return aggregate(null);
+    }
+
+    @Override
+    public Map<Long, TeacherStatistics> aggregateByTeacherIds(Collection<Long> teacherIds) {
+        return aggregate(review.teacher.id.in(teacherIds));
+    }
+
+    /**
+     * 리뷰와 피드백 원본 데이터로부터 리뷰어별 통계를 다시 계산한다.
+     */
+    private Map<Long, TeacherStatistics> aggregate(BooleanExpression teacherCondition) {
+        Map<Long, TeacherStatistics> statistics = new HashMap<>();
+
+        getQueryFactory().select(review.teacher.id, review.progress, review.count())
+                         .from(review)
+                         .where(teacherCondition)
+                         .groupBy(review.teacher.id, review.progress)
+                         .fetch()
+                         .forEach(tuple -> statisticsOf(statistics, tuple)
+                                 .increase(tuple.get(review.progress), tuple.get(2, Number.class).longValue()));
+
+        getQueryFactory().select(review.teacher.id, feedback.star.sum(), feedback.count())
+                         .from(feedback)
+                         .join(feedback.review, review)
+                         .where(teacherCondition)
+                         .groupBy(review.teacher.id)
+                         .fetch()
+                         .forEach(tuple -> statisticsOf(statistics, tuple)
+                                 .addStar(tuple.get(1, Number.class).longValue(), tuple.get(2, Number.class).longValue()));
+
+        getQueryFactory().select(review.teacher.id, review.createdAt.max(), review.updatedAt.max())
+                         .from(review)
+                         .where(teacherCondition)
+                         .groupBy(review.teacher.id)
+                         .fetch()
+                         .forEach(tuple -> {
+                             TeacherStatistics teacher = statisticsOf(statistics, tuple);
+                             teacher.recordActivity(tuple.get(1, LocalDateTime.class));
+                             teacher.recordActivity(tuple.get(2, LocalDateTime.class));
+                         });
+
+        return statistics;
+    }
+
+    private TeacherStatistics statisticsOf(Map<Long, TeacherStatistics> statistics, Tuple tuple) {
+        Long teacherId = Objects.requireNonNull(tuple.get(review.teacher.id));
+        return statistics.computeIfAbsent(teacherId, TeacherStatistics::new);
+    }
+
+    private NumberPath<Long> countPathOf(Progress progress) {
+        switch (progress) {
+            case PENDING:
+                return teacherStatistics.pendingCount;
+            case DENIED:
+                return teacherStatistics.deniedCount;
+            case ON_GOING:
+                return teacherStatistics.onGoingCount;
+            case TEACHER_COMPLETED:
+                return teacherStatistics.teacherCompletedCount;
+            case FINISHED:
+                return teacherStatistics.finishedCount;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 리뷰 상태입니다.");
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.wootech.dropthecode.repository.bridge;
 
+import java.util.List;
+
 import com.wootech.dropthecode.domain.TeacherProfile;
 import com.wootech.dropthecode.domain.bridge.TeacherLanguage;
+import com.wootech.dropthecode.dto.TeacherTag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TeacherLanguageRepository extends JpaRepository<TeacherLanguage, Long> {
     void deleteByTeacherProfile(TeacherProfile teacherProfile);
+
+    @Query("select tl.teacherProfile.id as teacherId, tl.language.id as tagId from TeacherLanguage tl")
+    List<TeacherTag> findAllTeacherTags();
+
+    @Query("select tl.language.id from TeacherLanguage tl where tl.teacherProfile.id = :teacherId")
+    List<Long> findTagIdsByTeacherId(@Param("teacherId") Long teacherId);
 }
@@ -1,10 +1,21 @@
 package com.wootech.dropthecode.repository.bridge;
 
+import java.util.List;
+
 import com.wootech.dropthecode.domain.TeacherProfile;
 import com.wootech.dropthecode.domain.bridge.TeacherSkill;
+import com.wootech.dropthecode.dto.TeacherTag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TeacherSkillRepository extends JpaRepository<TeacherSkill, Long> {
     void deleteByTeacherProfile(TeacherProfile teacher);
+
+    @Query("select ts.teacherProfile.id as teacherId, ts.skill.id as tagId from TeacherSkill ts")
+    List<TeacherTag> findAllTeacherTags();
+
+    @Query("select ts.skill.id from TeacherSkill ts where ts.teacherProfile.id = :teacherId")
+    List<Long> findTagIdsByTeacherId(@Param("teacherId") Long teacherId);
 }
@@ -1,16 +1,34 @@
 package com.wootech.dropthecode.repository.replication;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 여러 스레드가 동시에 호출해도 순서대로 원소를 돌려주는 리스트
+ * 카운터가 int 범위를 넘어 음수가 되어도 floorMod 로 올바른 인덱스를 계산한다.
+ */
 public class CircularList<T> {
     private final List<T> list;
-    private Integer counter = 0;
+    private final AtomicInteger counter;
 
     public CircularList(List<T> list) {
-        this.list = list;
+        this(list, 0);
+    }
+
+    CircularList(List<T> list, int counter) {
+        this.list = List.copyOf(list);
+        this.counter = new AtomicInteger(counter);
     }
 
     public T getOne() {
-        return list.get(++counter % list.size());
+        return list.get(Math.floorMod(counter.incrementAndGet(), list.size()));
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
     }
 }
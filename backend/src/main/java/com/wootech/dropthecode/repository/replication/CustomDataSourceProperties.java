@@ -1,5 +1,6 @@
 package com.wootech.dropthecode.repository.replication;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,12 +17,32 @@ public class CustomDataSourceProperties {
     private String username;
     private String password;
     private int maximumPoolSize;
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
     private final Map<String, Slave> slave = new HashMap<>();
+    private final Probe probe = new Probe();
 
     @Getter
     @Setter
     public static class Slave {
         private String name;
         private String url;
+        private int weight = 1;
+    }
+
+    /**
+     * slave 헬스 체크와 복제 지연 확인 설정
+     * lag-query 가 비어 있으면 연결 확인만 한다.
+     */
+    @Getter
+    @Setter
+    public static class Probe {
+        private Duration interval = Duration.ofSeconds(5);
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration validationTimeout = Duration.ofSeconds(1);
+        private Duration maxLag = Duration.ofSeconds(10);
+        private String lagQuery = "SHOW SLAVE STATUS";
+        private String lagColumn = "Seconds_Behind_Master";
+        private int failureThreshold = 2;
+        private int recoveryThreshold = 2;
     }
 }
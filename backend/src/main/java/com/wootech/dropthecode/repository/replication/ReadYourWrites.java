@@ -0,0 +1,83 @@
+package com.wootech.dropthecode.repository.replication;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 회원이 쓰기 트랜잭션을 커밋한 시각을 기록해 자신이 쓴 데이터를 바로 읽을 수 있게 한다.
+ * 기록은 window 동안만 유지되고, 그 사이 읽기는 쓰기 이후까지 복제된 slave 또는 master 로 보낸다.
+ * 기록은 노드별로 보관하므로 여러 노드를 쓸 때는 로드 밸런서의 sticky session 과 함께 사용한다.
+ */
+public class ReadYourWrites implements MeterBinder {
+    private static final long NO_WRITE = 0L;
+    private static final int MAX_SIZE = 100_000;
+
+    private final Map<Long, Long> writtenAt = new ConcurrentHashMap<>();
+    private final AtomicLong stickyReads = new AtomicLong();
+    private final long windowMillis;
+    private final LongSupplier currentTimeMillis;
+
+    public ReadYourWrites(Duration window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    ReadYourWrites(Duration window, LongSupplier currentTimeMillis) {
+        this.windowMillis = window.toMillis();
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public void recordWrite(Long memberId) {
+        if (Objects.isNull(memberId) || windowMillis <= 0) {
+            return;
+        }
+
+        long now = currentTimeMillis.getAsLong();
+        if (writtenAt.size() >= MAX_SIZE) {
+            writtenAt.values().removeIf(time -> time + windowMillis <= now);
+        }
+        writtenAt.put(memberId, now);
+    }
+
+    /**
+     * window 안에 커밋한 쓰기가 있으면 그 시각을, 없으면 0 을 반환한다.
+     */
+    public long lastWriteAt(Long memberId) {
+        if (Objects.isNull(memberId)) {
+            return NO_WRITE;
+        }
+
+        Long time = writtenAt.get(memberId);
+        if (Objects.isNull(time)) {
+            return NO_WRITE;
+        }
+        if (time + windowMillis <= currentTimeMillis.getAsLong()) {
+            writtenAt.remove(memberId, time);
+            return NO_WRITE;
+        }
+        stickyReads.incrementAndGet();
+        return time;
+    }
+
+    public int size() {
+        return writtenAt.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.read-your-writes.members", this, ReadYourWrites::size)
+             .description("최근 쓰기로 읽기 라우팅이 제한된 회원 수")
+             .register(registry);
+        FunctionCounter.builder("datasource.read-your-writes.reads", stickyReads, AtomicLong::get)
+                       .description("최근 쓰기 이후로 복제된 slave 또는 master 로 보낸 읽기 트랜잭션 수")
+                       .register(registry);
+    }
+}
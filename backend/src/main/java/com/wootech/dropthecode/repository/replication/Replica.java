@@ -0,0 +1,92 @@
+package com.wootech.dropthecode.repository.replication;
+
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 읽기 요청을 나눠 받는 slave 와 최근 헬스 체크 결과
+ * 상태는 헬스 체크 스레드만 변경하고, 라우팅 스레드는 읽기만 한다.
+ */
+@Getter
+public class Replica {
+    public static final long UNKNOWN_LAG = -1L;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final DataSource probeDataSource;
+    private final int weight;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong selected = new AtomicLong();
+
+    private volatile boolean available = true;
+    private volatile long lagSeconds = UNKNOWN_LAG;
+    private volatile long caughtUpTo;
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+
+    /**
+     * probeDataSource 는 읽기 요청의 커넥션 풀을 헬스 체크가 점유하지 않도록 따로 둔 DataSource 다.
+     */
+    public Replica(String name, DataSource dataSource, DataSource probeDataSource, int weight) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.probeDataSource = probeDataSource;
+        this.weight = Math.max(weight, 1);
+    }
+
+    /**
+     * 연속 실패 횟수가 기준에 도달하면 라우팅 대상에서 제외하고, true 를 반환한다.
+     */
+    boolean recordFailure(long lagSeconds, long probedAt, int failureThreshold) {
+        record(lagSeconds, probedAt);
+        consecutiveSuccesses = 0;
+        consecutiveFailures++;
+        if (available && consecutiveFailures >= failureThreshold) {
+            available = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 제외된 replica 가 연속으로 기준 횟수만큼 성공하면 다시 라우팅 대상에 포함하고, true 를 반환한다.
+     */
+    boolean recordSuccess(long lagSeconds, long probedAt, int recoveryThreshold) {
+        record(lagSeconds, probedAt);
+        consecutiveFailures = 0;
+        consecutiveSuccesses++;
+        if (!available && consecutiveSuccesses >= recoveryThreshold) {
+            available = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Seconds_Behind_Master 는 초 단위로 내림한 값이므로 1초를 더 빼서 복제가 확실히 끝난 시각을 구한다.
+     */
+    private void record(long lagSeconds, long probedAt) {
+        this.lagSeconds = lagSeconds;
+        if (lagSeconds != UNKNOWN_LAG) {
+            this.caughtUpTo = Math.max(caughtUpTo, probedAt - (lagSeconds + 1) * 1000);
+        }
+    }
+
+    /**
+     * 주어진 시각에 커밋된 쓰기까지 복제되었음을 헬스 체크로 확인했는지 여부
+     */
+    public boolean hasCaughtUpTo(long writtenAt) {
+        return caughtUpTo >= writtenAt;
+    }
+
+    void select() {
+        selected.incrementAndGet();
+    }
+
+    public long countSelected() {
+        return selected.get();
+    }
+}
@@ -0,0 +1,177 @@
+package com.wootech.dropthecode.repository.replication;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션이 사용할 slave 를 가중치 라운드 로빈으로 고른다.
+ * 주기적으로 연결과 복제 지연을 확인해 문제가 있는 slave 는 제외하고, 회복되면 다시 포함한다.
+ * 사용할 수 있는 slave 가 없으면 master 로 보내도록 빈 값을 반환한다.
+ * 헬스 체크는 slave 마다 전용 스레드에서 헬스 체크용 DataSource 로 하므로, 응답하지 않는 slave 가 다른 slave 나 스케줄 작업의 확인을 막지 않는다.
+ */
+@Slf4j
+public class ReplicaSelector implements SmartLifecycle, MeterBinder {
+    private final List<Replica> replicas;
+    private final CircularList<Replica> rotation;
+    private final CustomDataSourceProperties.Probe probe;
+    private final AtomicLong fallback = new AtomicLong();
+    private volatile ThreadPoolTaskScheduler scheduler;
+
+    public ReplicaSelector(List<Replica> replicas, CustomDataSourceProperties.Probe probe) {
+        this.replicas = List.copyOf(replicas);
+        this.rotation = new CircularList<>(weighted(replicas));
+        this.probe = probe;
+    }
+
+    private static List<Replica> weighted(List<Replica> replicas) {
+        List<Replica> rotation = new ArrayList<>();
+        int maxWeight = replicas.stream().mapToInt(Replica::getWeight).max().orElse(0);
+        for (int round = 0; round < maxWeight; round++) {
+            for (Replica replica : replicas) {
+                if (replica.getWeight() > round) {
+                    rotation.add(replica);
+                }
+            }
+        }
+        return rotation;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public Optional<String> select() {
+        return select(0L);
+    }
+
+    /**
+     * 제외된 slave 와 writtenAt 이후의 쓰기를 아직 복제하지 못한 slave 는 건너뛰고,
+     * 한 바퀴를 돌아도 없으면 빈 값을 반환한다.
+     */
+    public Optional<String> select(long writtenAt) {
+        for (int i = 0; i < rotation.size(); i++) {
+            Replica replica = rotation.getOne();
+            if (replica.isAvailable() && replica.hasCaughtUpTo(writtenAt)) {
+                replica.select();
+                return Optional.of(replica.getName());
+            }
+        }
+        fallback.incrementAndGet();
+        return Optional.empty();
+    }
+
+    @Override
+    public void start() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+
+        ThreadPoolTaskScheduler probeScheduler = new ThreadPoolTaskScheduler();
+        probeScheduler.setPoolSize(replicas.size());
+        probeScheduler.setThreadNamePrefix("replica-probe-");
+        probeScheduler.initialize();
+        replicas.forEach(replica -> probeScheduler.scheduleWithFixedDelay(() -> probe(replica), probe.getInterval()));
+        scheduler = probeScheduler;
+    }
+
+    @Override
+    public void stop() {
+        if (Objects.nonNull(scheduler)) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return Objects.nonNull(scheduler);
+    }
+
+    public void probe() {
+        replicas.forEach(this::probe);
+    }
+
+    private void probe(Replica replica) {
+        long probedAt = System.currentTimeMillis();
+        long lagSeconds = Replica.UNKNOWN_LAG;
+        boolean healthy;
+        try (Connection connection = replica.getProbeDataSource().getConnection()) {
+            healthy = connection.isValid((int) probe.getValidationTimeout().toSeconds());
+            if (healthy && StringUtils.hasText(probe.getLagQuery())) {
+                lagSeconds = lagSecondsOf(connection);
+                healthy = lagSeconds != Replica.UNKNOWN_LAG && lagSeconds <= probe.getMaxLag().toSeconds();
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("slave 헬스 체크 실패 [replica={}]", replica.getName(), e);
+            healthy = false;
+        }
+
+        if (healthy) {
+            if (replica.recordSuccess(lagSeconds, probedAt, probe.getRecoveryThreshold())) {
+                log.info("slave 를 읽기 대상에 다시 포함 [replica={}, lag={}s]", replica.getName(), lagSeconds);
+            }
+            return;
+        }
+
+        if (replica.recordFailure(lagSeconds, probedAt, probe.getFailureThreshold())) {
+            log.warn("slave 를 읽기 대상에서 제외 [replica={}, lag={}s]", replica.getName(), lagSeconds);
+        }
+    }
+
+    /**
+     * 복제가 멈춰 지연 값이 null 이거나 복제 상태가 조회되지 않으면 알 수 없음으로 본다.
+     */
+    private long lagSecondsOf(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(probe.getLagQuery())) {
+            if (!resultSet.next()) {
+                return Replica.UNKNOWN_LAG;
+            }
+            long lagSeconds = resultSet.getLong(probe.getLagColumn());
+            return resultSet.wasNull() ? Replica.UNKNOWN_LAG : lagSeconds;
+        }
+    }
+
+    public long countFallback() {
+        return fallback.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.available", replica, value -> value.isAvailable() ? 1 : 0)
+                 .description("읽기 대상에 포함된 slave 여부")
+                 .tag("replica", replica.getName())
+                 .register(registry);
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagSeconds)
+                 .description("마지막 헬스 체크의 복제 지연 (초)")
+                 .baseUnit("seconds")
+                 .tag("replica", replica.getName())
+                 .register(registry);
+            FunctionCounter.builder("datasource.replica.selected", replica, Replica::countSelected)
+                           .description("slave 로 보낸 읽기 트랜잭션 수")
+                           .tag("replica", replica.getName())
+                           .register(registry);
+        }
+        FunctionCounter.builder("datasource.replica.fallback", fallback, AtomicLong::get)
+                       .description("사용할 수 있는 slave 가 없어 master 로 보낸 읽기 트랜잭션 수")
+                       .register(registry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.wootech.dropthecode.repository.replication;
+
+import java.util.Objects;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 요청의 회원 id 를 라우팅 데이터소스에 전달한다.
+ * 요청 속성에 보관하므로 요청이 끝나면 함께 사라지고, 요청 밖의 스레드에서는 회원이 없다.
+ */
+public final class ReplicationContext {
+    private static final String MEMBER_ID_ATTRIBUTE = ReplicationContext.class.getName() + ".memberId";
+
+    private ReplicationContext() {
+    }
+
+    public static void bindMember(RequestAttributes requestAttributes, Long memberId) {
+        if (Objects.isNull(memberId)) {
+            return;
+        }
+        requestAttributes.setAttribute(MEMBER_ID_ATTRIBUTE, memberId, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public static Long currentMemberId() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(requestAttributes)) {
+            return null;
+        }
+        return (Long) requestAttributes.getAttribute(MEMBER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
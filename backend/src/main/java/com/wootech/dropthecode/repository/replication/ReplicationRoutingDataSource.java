@@ -1,37 +1,45 @@
 package com.wootech.dropthecode.repository.replication;
 
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+
+import com.wootech.dropthecode.util.AfterCommit;
 
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String MASTER = "master";
 
-    private CircularList<String> dataSourceNameList;
+    private final ReplicaSelector replicaSelector;
+    private final ReadYourWrites readYourWrites;
 
-    @Override
-    public void setTargetDataSources(Map<Object, Object> targetDataSources) {
-        super.setTargetDataSources(targetDataSources);
-
-        dataSourceNameList = new CircularList<>(
-                targetDataSources.keySet()
-                                 .stream()
-                                 .map(Object::toString)
-                                 .filter(string -> string.contains("slave"))
-                                 .collect(Collectors.toList())
-        );
+    public ReplicationRoutingDataSource(ReplicaSelector replicaSelector, ReadYourWrites readYourWrites) {
+        this.replicaSelector = replicaSelector;
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
     protected Object determineCurrentLookupKey() {
-        boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
-        if (isReadOnly) {
-            logger.info("Connection Slave");
-            return dataSourceNameList.getOne();
-        } else {
-            logger.info("Connection Master");
-            return "master";
+        Long memberId = ReplicationContext.currentMemberId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(memberId);
+            return MASTER;
+        }
+
+        String lookupKey = replicaSelector.select(readYourWrites.lastWriteAt(memberId)).orElse(MASTER);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Connection " + lookupKey);
+        }
+        return lookupKey;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 뒤에만 회원의 쓰기 시각을 기록한다.
+     */
+    private void recordWriteAfterCommit(Long memberId) {
+        if (Objects.isNull(memberId) || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        AfterCommit.run(() -> readYourWrites.recordWrite(memberId));
     }
 }
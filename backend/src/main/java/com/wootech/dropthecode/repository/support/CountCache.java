@@ -0,0 +1,77 @@
+package com.wootech.dropthecode.repository.support;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지네이션 count 결과를 TTL 동안 보관하는 캐시
+ * 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 만료가 가까운 항목부터 일부만 지운다.
+ */
+public class CountCache {
+    private static final int MAX_SIZE = 10_000;
+    private static final int EVICTION_RATIO = 10;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final LongSupplier currentTimeMillis;
+
+    public CountCache(Duration ttl) {
+        this(ttl, System::currentTimeMillis);
+    }
+
+    CountCache(Duration ttl, LongSupplier currentTimeMillis) {
+        this.ttlMillis = ttl.toMillis();
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public long get(Object key, LongSupplier loader) {
+        long now = currentTimeMillis.getAsLong();
+        Entry entry = entries.get(key);
+        if (Objects.nonNull(entry) && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        long count = loader.getAsLong();
+        if (entries.size() >= MAX_SIZE) {
+            evictExpired(now);
+        }
+        entries.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+    public void evict(Object key) {
+        entries.remove(key);
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int overflow = entries.size() - MAX_SIZE + 1;
+        if (overflow <= 0) {
+            return;
+        }
+
+        List<Object> oldest = entries.entrySet()
+                                     .stream()
+                                     .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                                     .limit(Math.max(overflow, MAX_SIZE / EVICTION_RATIO))
+                                     .map(Map.Entry::getKey)
+                                     .collect(Collectors.toList());
+        oldest.forEach(entries::remove);
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
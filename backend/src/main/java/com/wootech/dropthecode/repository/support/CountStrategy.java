@@ -0,0 +1,62 @@
+package com.wootech.dropthecode.repository.support;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.querydsl.jpa.impl.JPAQuery;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * 페이지네이션 시 전체 개수를 구하는 방법
+ * 저장소 메서드마다 조회 특성에 맞는 전략을 선택한다.
+ */
+public abstract class CountStrategy {
+
+    /**
+     * 조인 없이 조건만 적용한 별도의 count 쿼리로 정확한 개수를 구한다.
+     */
+    public static CountStrategy exact(Supplier<JPAQuery<Long>> countQuery) {
+        return new TotalCount(() -> fetchCount(countQuery));
+    }
+
+    /**
+     * 별도로 관리되는 카운터 값을 전체 개수로 사용한다.
+     */
+    public static CountStrategy estimated(LongSupplier counter) {
+        return new TotalCount(counter);
+    }
+
+    /**
+     * count 쿼리 결과를 일정 시간 동안 캐시해 재사용한다.
+     */
+    public static CountStrategy cached(CountCache cache, Object key, Supplier<JPAQuery<Long>> countQuery) {
+        return new TotalCount(() -> cache.get(key, () -> fetchCount(countQuery)));
+    }
+
+    public abstract <T> Page<T> paginate(Querydsl querydsl, Pageable pageable, JPAQuery<T> contentQuery);
+
+    private static long fetchCount(Supplier<JPAQuery<Long>> countQuery) {
+        Long count = countQuery.get().fetchOne();
+        return Objects.isNull(count) ? 0L : count;
+    }
+
+    private static class TotalCount extends CountStrategy {
+        private final LongSupplier counter;
+
+        private TotalCount(LongSupplier counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public <T> Page<T> paginate(Querydsl querydsl, Pageable pageable, JPAQuery<T> contentQuery) {
+            List<T> content = querydsl.applyPagination(pageable, contentQuery).fetch();
+            return PageableExecutionUtils.getPage(content, pageable, counter);
+        }
+    }
+}
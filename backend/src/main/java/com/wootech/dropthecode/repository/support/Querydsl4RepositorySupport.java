@@ -1,6 +1,5 @@
 package com.wootech.dropthecode.repository.support;
 
-import java.util.List;
 import java.util.function.Function;
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
@@ -18,7 +17,6 @@ import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
 import org.springframework.data.jpa.repository.support.Querydsl;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
 
@@ -74,26 +72,22 @@ public abstract class Querydsl4RepositorySupport {
         return getQueryFactory().selectFrom(from);
     }
 
+    /**
+     * 조인이나 distinct 가 있는 쿼리를 그대로 세면 행 수가 달라지므로 count 쿼리는 항상 호출하는 쪽에서 넘긴다.
+     */
     protected <T> Page<T> applyPagination(Pageable pageable,
-                                          Function<JPAQueryFactory, JPAQuery<T>> contentQuery) {
-        JPAQuery<T> jpaQuery = contentQuery.apply(getQueryFactory());
-        return applyPagination(pageable, jpaQuery);
+                                          Function<JPAQueryFactory, JPAQuery<T>> contentQuery, Function<JPAQueryFactory,
+            JPAQuery<Long>> countQuery) {
+        return applyPagination(pageable, contentQuery, CountStrategy.exact(() -> countQuery.apply(getQueryFactory())));
     }
 
     protected <T> Page<T> applyPagination(Pageable pageable,
-                                          JPAQuery<T> jpaQuery) {
-        List<T> content = getQuerydsl().applyPagination(pageable, jpaQuery).fetch();
-        return PageableExecutionUtils.getPage(content, pageable, jpaQuery::fetchCount);
+                                          Function<JPAQueryFactory, JPAQuery<T>> contentQuery, CountStrategy countStrategy) {
+        return applyPagination(pageable, contentQuery.apply(getQueryFactory()), countStrategy);
     }
 
     protected <T> Page<T> applyPagination(Pageable pageable,
-                                          Function<JPAQueryFactory, JPAQuery<T>> contentQuery, Function<JPAQueryFactory,
-            JPAQuery<?>> countQuery) {
-        JPAQuery<T> jpaContentQuery = contentQuery.apply(getQueryFactory());
-        List<T> content = getQuerydsl().applyPagination(pageable,
-                jpaContentQuery).fetch();
-        JPAQuery<?> countResult = countQuery.apply(getQueryFactory());
-        return PageableExecutionUtils.getPage(content, pageable,
-                countResult::fetchCount);
+                                          JPAQuery<T> jpaQuery, CountStrategy countStrategy) {
+        return countStrategy.paginate(getQuerydsl(), pageable, jpaQuery);
     }
 }
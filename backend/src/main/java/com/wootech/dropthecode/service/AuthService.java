@@ -1,15 +1,22 @@
 package com.wootech.dropthecode.service;
 
+import java.util.Objects;
+
 import com.wootech.dropthecode.controller.auth.util.JwtTokenProvider;
 import com.wootech.dropthecode.controller.auth.util.RedisUtil;
+import com.wootech.dropthecode.controller.auth.util.TokenCache;
 import com.wootech.dropthecode.domain.LoginMember;
 import com.wootech.dropthecode.domain.Member;
 import com.wootech.dropthecode.domain.Token;
+import com.wootech.dropthecode.domain.VerifiedToken;
 import com.wootech.dropthecode.dto.request.RefreshTokenRequest;
 import com.wootech.dropthecode.dto.response.AccessTokenResponse;
 import com.wootech.dropthecode.exception.AuthenticationException;
 import com.wootech.dropthecode.repository.EmitterRepository;
+import com.wootech.dropthecode.repository.NotificationEventStore;
+import com.wootech.dropthecode.repository.RevokedMemberStore;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,31 +26,103 @@ public class AuthService {
     private final MemberService memberService;
     private final RedisUtil redisUtil;
     private final EmitterRepository emitterRepository;
+    private final NotificationEventStore notificationEventStore;
+    private final TokenCache tokenCache;
+    private final RevokedMemberStore revokedMemberStore;
+    private final boolean claimsLogin;
+    private final boolean revocationCheck;
 
-    public AuthService(JwtTokenProvider jwtTokenProvider, MemberService memberService, RedisUtil redisUtil, EmitterRepository emitterRepository) {
+    public AuthService(JwtTokenProvider jwtTokenProvider, MemberService memberService, RedisUtil redisUtil,
+                       EmitterRepository emitterRepository, NotificationEventStore notificationEventStore,
+                       TokenCache tokenCache, RevokedMemberStore revokedMemberStore,
+                       @Value("${jwt.claims-login.enabled:true}") boolean claimsLogin,
+                       @Value("${jwt.revocation-check.enabled:true}") boolean revocationCheck) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.memberService = memberService;
         this.redisUtil = redisUtil;
         this.emitterRepository = emitterRepository;
+        this.notificationEventStore = notificationEventStore;
+        this.tokenCache = tokenCache;
+        this.revokedMemberStore = revokedMemberStore;
+        this.claimsLogin = claimsLogin;
+        this.revocationCheck = revocationCheck;
     }
 
     public void validatesAccessToken(String accessToken) {
-        if (!jwtTokenProvider.validateToken(accessToken)) {
+        if (Objects.isNull(verify(accessToken))) {
             throw new AuthenticationException("access token이 유효하지 않습니다.");
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 회원을 조회하지 않고 검증된 토큰의 회원 id 만 반환한다. 토큰이 없거나 유효하지 않으면 null 을 반환한다.
+     */
+    public Long findMemberIdByToken(String accessToken) {
+        if (Objects.isNull(accessToken)) {
+            return null;
+        }
+
+        VerifiedToken verifiedToken = verify(accessToken);
+        return Objects.isNull(verifiedToken) ? null : verifiedToken.getMemberId();
+    }
+
+    /**
+     * 캐시에 있는 토큰은 트랜잭션 없이 바로 반환하고, 회원 조회가 필요한 이전 토큰만 MemberService 의 트랜잭션에서 조회한다.
+     */
     public LoginMember findMemberByToken(String accessToken) {
-        if (!jwtTokenProvider.validateToken(accessToken)) {
+        LoginMember cached = tokenCache.getLoginMember(accessToken);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        VerifiedToken verifiedToken = verify(accessToken);
+        if (Objects.isNull(verifiedToken)) {
             return LoginMember.anonymous();
         }
 
-        Long id = Long.parseLong(jwtTokenProvider.getPayload(accessToken));
-        Member member = memberService.findById(id);
+        LoginMember loginMember = toLoginMember(verifiedToken);
+        tokenCache.put(accessToken, verifiedToken, loginMember);
+        return loginMember;
+    }
+
+    /**
+     * role 클레임이 있는 토큰은 회원을 조회하지 않고 토큰의 회원 id 로 LoginMember 를 만든다.
+     * role 은 토큰을 발급한 뒤에도 바뀔 수 있으므로 LoginMember 에 담지 않는다.
+     * role 클레임이 없는 이전 토큰이나 claims 로그인을 끈 경우에만 회원을 조회한다.
+     */
+    private LoginMember toLoginMember(VerifiedToken verifiedToken) {
+        if (claimsLogin && verifiedToken.hasRole()) {
+            return new LoginMember(verifiedToken.getMemberId());
+        }
+
+        Member member = memberService.findById(verifiedToken.getMemberId());
         return new LoginMember(member.getId());
     }
 
+    /**
+     * 캐시에 없는 토큰만 서명을 검증하고, 유효하지 않거나 탈퇴한 회원의 토큰이면 null 을 반환한다.
+     */
+    private VerifiedToken verify(String accessToken) {
+        VerifiedToken cached = tokenCache.getToken(accessToken);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(accessToken).orElse(null);
+        if (Objects.isNull(verifiedToken) || isRevoked(verifiedToken)) {
+            return null;
+        }
+        tokenCache.put(accessToken, verifiedToken);
+        return verifiedToken;
+    }
+
+    private boolean isRevoked(VerifiedToken verifiedToken) {
+        if (!revocationCheck || !verifiedToken.hasRole()) {
+            return false;
+        }
+        return revokedMemberStore.isRevoked(verifiedToken.getMemberId(), verifiedToken.getIssuedAt());
+    }
+
     @Transactional
     public AccessTokenResponse refreshAccessToken(String accessToken, RefreshTokenRequest refreshTokenRequest) {
         String refreshToken = refreshTokenRequest.getRefreshToken();
@@ -58,7 +137,8 @@ public class AuthService {
             throw new AuthenticationException("refresh token이 유효하지 않습니다.");
         }
 
-        Token newAccessToken = jwtTokenProvider.createAccessToken(id);
+        Member member = memberService.findById(Long.valueOf(id));
+        Token newAccessToken = jwtTokenProvider.createAccessToken(id, member.getRole());
 
         return new AccessTokenResponse(newAccessToken.getValue());
     }
@@ -66,9 +146,10 @@ public class AuthService {
     @Transactional
     public void logout(String accessToken) {
         String id = jwtTokenProvider.getPayload(accessToken);
+        tokenCache.evict(accessToken);
         redisUtil.deleteData(id);
-        emitterRepository.deleteAllStartWithId(id);
-        emitterRepository.deleteAllEventCacheStartWithId(id);
+        emitterRepository.deleteAllByMemberId(Long.valueOf(id));
+        notificationEventStore.deleteAllByMemberId(Long.valueOf(id));
     }
 
     @Transactional
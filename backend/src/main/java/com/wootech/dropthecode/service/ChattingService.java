@@ -1,7 +1,18 @@
 package com.wootech.dropthecode.service;
 
-import java.util.Comparator;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.wootech.dropthecode.domain.Member;
@@ -10,51 +21,149 @@ import com.wootech.dropthecode.domain.chatting.Room;
 import com.wootech.dropthecode.dto.request.ChatRequest;
 import com.wootech.dropthecode.dto.response.ChatResponse;
 import com.wootech.dropthecode.dto.response.LatestChatResponse;
+import com.wootech.dropthecode.exception.ChattingException;
 import com.wootech.dropthecode.repository.ChatRepository;
+import com.wootech.dropthecode.service.chat.RedisChat;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ChattingService {
+    private static final int MAX_CHAT_LIMIT = 100;
+
+    private static final String INSERT_CHAT =
+            "insert into chat (room_id, sender_id, receiver_id, content, created_at, updated_at) values (?, ?, ?, ?, ?, ?)";
+
     private final MemberService memberService;
     private final RoomService roomService;
     private final ChatRepository chatRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public ChattingService(MemberService memberService, RoomService roomService, ChatRepository chatRepository) {
+    public ChattingService(MemberService memberService, RoomService roomService, ChatRepository chatRepository,
+                           JdbcTemplate jdbcTemplate) {
         this.memberService = memberService;
         this.roomService = roomService;
         this.chatRepository = chatRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 송신자와 수신자가 모두 채팅방의 참여자인지 확인한다.
+     */
+    public void validate(Long roomId, ChatRequest chatRequest) {
+        Set<Long> participantIds = roomService.findParticipantIds(roomId);
+        if (chatRequest.getSenderId().equals(chatRequest.getReceiverId())
+                || !participantIds.contains(chatRequest.getSenderId())
+                || !participantIds.contains(chatRequest.getReceiverId())) {
+            throw new ChattingException("채팅방의 참여자가 아닙니다.");
+        }
     }
 
+    /**
+     * 검증이 끝난 메시지를 JDBC batch 로 한 번에 저장하고, 채팅방마다 마지막 메시지를 한 번만 갱신한다.
+     * 마지막 메시지의 id 는 batch 가 돌려준 생성 키에서 찾으므로 다른 노드가 같은 시각에 저장한 메시지와 섞이지 않는다.
+     */
     @Transactional
-    public void save(Long roomId, ChatRequest chatRequest) {
-        Member sender = memberService.findById(chatRequest.getSenderId());
-        Member receiver = memberService.findById(chatRequest.getReceiverId());
-        Room room = roomService.findById(roomId);
-        Chat chat = new Chat(room, sender, receiver, chatRequest.getMessage());
-        chatRepository.save(chat);
+    public void saveAll(List<RedisChat> redisChats) {
+        if (redisChats.isEmpty()) {
+            return;
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        List<Long> chatIds = insertAll(redisChats, createdAt);
+
+        Map<Long, Integer> lastChatIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < redisChats.size(); i++) {
+            lastChatIndexes.put(redisChats.get(i).getRoomId(), i);
+        }
+        lastChatIndexes.forEach((roomId, index) -> {
+            RedisChat lastChat = redisChats.get(index);
+            roomService.updateLastChat(roomId, chatIds.get(index), lastChat.getSenderId(), lastChat.getMessage(),
+                    createdAt.toLocalDateTime());
+        });
+    }
+
+    /**
+     * 저장한 순서대로 생성된 채팅 id 를 반환한다.
+     */
+    private List<Long> insertAll(List<RedisChat> redisChats, Timestamp createdAt) {
+        List<Long> chatIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_CHAT, Statement.RETURN_GENERATED_KEYS)) {
+                for (RedisChat redisChat : redisChats) {
+                    ps.setLong(1, redisChat.getRoomId());
+                    ps.setLong(2, redisChat.getSenderId());
+                    ps.setLong(3, redisChat.getReceiverId());
+                    ps.setString(4, redisChat.getMessage());
+                    ps.setTimestamp(5, createdAt);
+                    ps.setTimestamp(6, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> generatedIds = new ArrayList<>(redisChats.size());
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        generatedIds.add(generatedKeys.getLong(1));
+                    }
+                }
+                return generatedIds;
+            }
+        });
+
+        if (Objects.isNull(chatIds) || chatIds.size() != redisChats.size()) {
+            throw new IllegalStateException("저장한 채팅 메시지의 id 를 모두 돌려받지 못했습니다.");
+        }
+        return chatIds;
     }
 
     @Transactional(readOnly = true)
-    public List<LatestChatResponse> findAllLatestChats(Long id) {
+    public List<LatestChatResponse> findAllLatestChats(Long id, Pageable pageable) {
         Member member = memberService.findById(id);
-        List<Room> rooms = roomService.findAllByMemberId(member.getId());
+        List<Room> rooms = roomService.findAllWithLastChatByMemberId(member.getId(), pageable);
 
         return rooms.stream()
-                    .filter(Room::hasMessage)
-                    .map(room -> LatestChatResponse.of(room.getPartner(id), room.getLatestChat()))
-                    .sorted(Comparator.comparing(LatestChatResponse::getCreatedAt).reversed())
+                    .map(room -> LatestChatResponse.of(room, id))
                     .collect(Collectors.toList());
     }
 
+    /**
+     * 채팅방의 메시지를 최신순으로 limit 개 조회한다.
+     * before 가 주어지면 해당 메시지보다 이전, after 가 주어지면 해당 메시지보다 이후의 메시지를 조회한다.
+     */
     @Transactional(readOnly = true)
-    public List<ChatResponse> findAllChats(Long roomId) {
-        Room room = roomService.findById(roomId);
-        List<Chat> chats = room.getChats();
+    public List<ChatResponse> findAllChats(Long roomId, Long before, Long after, int limit) {
+        if (Objects.nonNull(before) && Objects.nonNull(after)) {
+            throw new ChattingException("before 와 after 는 함께 사용할 수 없습니다.");
+        }
+        if (limit < 1) {
+            throw new ChattingException("limit 은 1 이상이어야 합니다.");
+        }
+
+        roomService.findById(roomId);
+        Pageable pageable = PageRequest.of(0, Math.min(limit, MAX_CHAT_LIMIT));
+
+        List<Chat> chats;
+        if (Objects.nonNull(before)) {
+            chats = chatRepository.findAllBefore(roomId, findCursorCreatedAt(roomId, before), before, pageable);
+        } else if (Objects.nonNull(after)) {
+            chats = chatRepository.findAllAfter(roomId, findCursorCreatedAt(roomId, after), after, pageable);
+            Collections.reverse(chats);
+        } else {
+            chats = chatRepository.findLatest(roomId, pageable);
+        }
 
         return chats.stream()
-                    .map(chat -> ChatResponse.from(chat))
+                    .map(ChatResponse::from)
                     .collect(Collectors.toList());
     }
+
+    private LocalDateTime findCursorCreatedAt(Long roomId, Long chatId) {
+        return chatRepository.findCreatedAtByIdAndRoomId(chatId, roomId)
+                             .orElseThrow(() -> new ChattingException("채팅방에 존재하지 않는 메시지입니다."));
+    }
 }
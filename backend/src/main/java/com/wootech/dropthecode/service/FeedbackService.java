@@ -7,6 +7,7 @@ import com.wootech.dropthecode.dto.request.FeedbackSearchCondition;
 import com.wootech.dropthecode.dto.response.FeedbackPaginationResponse;
 import com.wootech.dropthecode.dto.response.FeedbackResponse;
 import com.wootech.dropthecode.repository.FeedbackRepository;
+import com.wootech.dropthecode.util.AfterCommit;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,9 +17,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class FeedbackService {
     private final FeedbackRepository feedbackRepository;
+    private final TeacherStatisticsService teacherStatisticsService;
 
-    public FeedbackService(FeedbackRepository feedbackRepository) {
+    public FeedbackService(FeedbackRepository feedbackRepository, TeacherStatisticsService teacherStatisticsService) {
         this.feedbackRepository = feedbackRepository;
+        this.teacherStatisticsService = teacherStatisticsService;
     }
 
     @Transactional
@@ -28,7 +31,10 @@ public class FeedbackService {
                                     .star(feedbackRequest.getStar())
                                     .comment(feedbackRequest.getComment())
                                     .build();
-        return feedbackRepository.save(feedback);
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        teacherStatisticsService.addStar(review.getTeacher().getId(), feedbackRequest.getStar());
+        evictCountAfterCommit(review.getTeacher().getId(), review.getStudent().getId());
+        return savedFeedback;
     }
 
     @Transactional(readOnly = true)
@@ -40,4 +46,8 @@ public class FeedbackService {
                                          .pageCount(feedbackResponses.getTotalPages())
                                          .build();
     }
+
+    private void evictCountAfterCommit(Long teacherId, Long studentId) {
+        AfterCommit.run(() -> feedbackRepository.evictCount(teacherId, studentId));
+    }
 }
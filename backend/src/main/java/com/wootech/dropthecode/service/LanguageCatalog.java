@@ -0,0 +1,54 @@
+package com.wootech.dropthecode.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.wootech.dropthecode.domain.Language;
+import com.wootech.dropthecode.domain.Skill;
+import com.wootech.dropthecode.dto.response.LanguageResponse;
+import com.wootech.dropthecode.dto.response.LanguageSkillsResponse;
+import com.wootech.dropthecode.dto.response.SkillResponse;
+
+import lombok.Getter;
+
+/**
+ * 언어와 기술 목록의 읽기 전용 스냅샷
+ * 한 번 만들어지면 바뀌지 않으며, 목록이 바뀌면 새 버전의 스냅샷으로 교체된다.
+ * 담긴 엔티티는 준영속 상태이므로 스냅샷을 만들 때 언어별 기술까지 모두 초기화해 둔다.
+ */
+@Getter
+public class LanguageCatalog {
+    private final long version;
+    private final Map<String, Language> languages;
+    private final Map<String, Skill> skills;
+    private final List<LanguageSkillsResponse> responses;
+
+    private LanguageCatalog(long version, Map<String, Language> languages, Map<String, Skill> skills,
+                            List<LanguageSkillsResponse> responses) {
+        this.version = version;
+        this.languages = languages;
+        this.skills = skills;
+        this.responses = responses;
+    }
+
+    public static LanguageCatalog of(long version, List<Language> languages, List<Skill> skills) {
+        List<LanguageSkillsResponse> responses = languages.stream()
+                                                          .map(LanguageCatalog::toResponse)
+                                                          .collect(Collectors.toUnmodifiableList());
+        return new LanguageCatalog(
+                version,
+                languages.stream().collect(Collectors.toUnmodifiableMap(Language::getName, Function.identity())),
+                skills.stream().collect(Collectors.toUnmodifiableMap(Skill::getName, Function.identity())),
+                responses
+        );
+    }
+
+    private static LanguageSkillsResponse toResponse(Language language) {
+        List<SkillResponse> skills = language.getSkills().stream()
+                                             .map(languageSkill -> SkillResponse.from(languageSkill.getSkill()))
+                                             .collect(Collectors.toUnmodifiableList());
+        return new LanguageSkillsResponse(LanguageResponse.from(language), skills);
+    }
+}
@@ -0,0 +1,8 @@
+package com.wootech.dropthecode.service;
+
+/**
+ * 언어, 기술, 언어별 기술 목록이 바뀌었을 때 발행되는 이벤트
+ * 트랜잭션이 커밋된 이후 LanguageService 가 스냅샷을 다시 만든다.
+ */
+public class LanguageCatalogChangedEvent {
+}
@@ -2,43 +2,71 @@ package com.wootech.dropthecode.service;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.wootech.dropthecode.domain.Language;
-import com.wootech.dropthecode.dto.response.LanguageResponse;
+import com.wootech.dropthecode.domain.Skill;
 import com.wootech.dropthecode.dto.response.LanguageSkillsResponse;
-import com.wootech.dropthecode.dto.response.SkillResponse;
 import com.wootech.dropthecode.repository.LanguageRepository;
+import com.wootech.dropthecode.repository.SkillRepository;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 언어와 기술 목록은 거의 바뀌지 않으므로 처음 조회할 때 스냅샷을 만들어 두고 모든 조회를 스냅샷에서 처리한다.
+ * 목록이 바뀌면 LanguageCatalogChangedEvent 를 받아 스냅샷을 버리고, 다음 조회에서 새 버전을 만든다.
+ */
 @Service
 public class LanguageService {
 
     private final LanguageRepository languageRepository;
+    private final SkillRepository skillRepository;
+    private final AtomicLong version = new AtomicLong();
 
-    public LanguageService(LanguageRepository languageRepository) {
+    private volatile LanguageCatalog catalog;
+
+    public LanguageService(LanguageRepository languageRepository, SkillRepository skillRepository) {
         this.languageRepository = languageRepository;
+        this.skillRepository = skillRepository;
     }
 
     @Transactional(readOnly = true)
-    public List<LanguageSkillsResponse> findAll() {
+    public LanguageCatalog catalog() {
+        LanguageCatalog current = catalog;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (Objects.isNull(catalog)) {
+                catalog = load();
+            }
+            return catalog;
+        }
+    }
+
+    private LanguageCatalog load() {
         List<Language> languages = languageRepository.findAll();
-        return languages.stream()
-                        .map(language -> {
-                            List<SkillResponse> skills = language.getSkills().stream()
-                                                                 .map(languageSkill -> SkillResponse.from(languageSkill.getSkill()))
-                                                                 .collect(Collectors.toList());
-                            return new LanguageSkillsResponse(LanguageResponse.from(language), skills);
-                        }).collect(Collectors.toList());
+        List<Skill> skills = skillRepository.findAll();
+        return LanguageCatalog.of(version.incrementAndGet(), languages, skills);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LanguageSkillsResponse> findAll() {
+        return catalog().getResponses();
     }
 
     @Transactional(readOnly = true)
     public Map<String, Language> findAllToMap() {
-        return languageRepository.findAll()
-                                 .stream()
-                                 .collect(Collectors.toMap(Language::getName, Function.identity()));
+        return catalog().getLanguages();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void refresh(LanguageCatalogChangedEvent event) {
+        synchronized (this) {
+            catalog = null;
+        }
     }
 }
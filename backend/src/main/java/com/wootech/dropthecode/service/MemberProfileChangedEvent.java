@@ -0,0 +1,20 @@
+package com.wootech.dropthecode.service;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 회원의 이름이나 이미지가 바뀌었을 때 발행되는 이벤트
+ * 리뷰 응답에는 리뷰어와 리뷰 요청자의 프로필이 담기므로 회원이 참여한 리뷰 id 를 함께 담는다.
+ */
+@Getter
+public class MemberProfileChangedEvent {
+    private final Long memberId;
+    private final List<Long> reviewIds;
+
+    public MemberProfileChangedEvent(Long memberId, List<Long> reviewIds) {
+        this.memberId = memberId;
+        this.reviewIds = reviewIds;
+    }
+}
@@ -2,11 +2,19 @@ package com.wootech.dropthecode.service;
 
 import javax.persistence.EntityNotFoundException;
 
+import com.wootech.dropthecode.controller.auth.util.TokenCache;
 import com.wootech.dropthecode.domain.LoginMember;
 import com.wootech.dropthecode.domain.Member;
 import com.wootech.dropthecode.dto.response.MemberResponse;
 import com.wootech.dropthecode.repository.MemberRepository;
+import com.wootech.dropthecode.repository.RevokedMemberStore;
+import com.wootech.dropthecode.repository.TeacherSearchIndex;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationPublisher;
+import com.wootech.dropthecode.service.chat.RoomParticipantCache;
+import com.wootech.dropthecode.util.AfterCommit;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,12 +23,27 @@ public class MemberService {
     private final TeacherLanguageService teacherLanguageService;
     private final TeacherSkillService teacherSkillService;
     private final MemberRepository memberRepository;
+    private final TeacherSearchIndex teacherSearchIndex;
+    private final RevokedMemberStore revokedMemberStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomParticipantCache roomParticipantCache;
+    private final TokenCache tokenCache;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     public MemberService(TeacherLanguageService teacherLanguageService, TeacherSkillService teacherSkillService,
-                         MemberRepository memberRepository) {
+                         MemberRepository memberRepository, TeacherSearchIndex teacherSearchIndex,
+                         RevokedMemberStore revokedMemberStore, ApplicationEventPublisher eventPublisher,
+                         RoomParticipantCache roomParticipantCache, TokenCache tokenCache,
+                         CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.teacherLanguageService = teacherLanguageService;
         this.teacherSkillService = teacherSkillService;
         this.memberRepository = memberRepository;
+        this.teacherSearchIndex = teacherSearchIndex;
+        this.revokedMemberStore = revokedMemberStore;
+        this.eventPublisher = eventPublisher;
+        this.roomParticipantCache = roomParticipantCache;
+        this.tokenCache = tokenCache;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -41,9 +64,15 @@ public class MemberService {
         memberRepository.save(member);
     }
 
+    /**
+     * 회원의 채팅방도 함께 삭제되므로 커밋된 뒤 채팅방 참여자 캐시에서 지운다.
+     */
     @Transactional
     public void deleteMember(Long id) {
         memberRepository.deleteById(id);
+        revokeAfterCommit(id);
+        AfterCommit.run(() -> roomParticipantCache.evictAllByMemberId(id));
+        eventPublisher.publishEvent(new TeacherChangedEvent(id));
     }
 
     @Transactional
@@ -54,5 +83,20 @@ public class MemberService {
 
         teacherLanguageService.deleteAllWithTeacher(member.getTeacherProfile());
         teacherSkillService.deleteAllWithTeacher(member.getTeacherProfile());
+        teacherSearchIndex.remove(member.getId());
+        revokeAfterCommit(member.getId());
+        eventPublisher.publishEvent(new TeacherChangedEvent(member.getId()));
+    }
+
+    /**
+     * 탈퇴가 롤백되면 토큰도 그대로 쓸 수 있어야 하므로 커밋된 뒤에 폐기한다.
+     * 이미 캐시된 토큰은 폐기 기록을 확인하지 않으므로 모든 노드의 토큰 캐시에서도 지운다.
+     */
+    private void revokeAfterCommit(Long memberId) {
+        AfterCommit.run(() -> {
+            revokedMemberStore.revoke(memberId);
+            tokenCache.evictAllByMemberId(memberId);
+            cacheInvalidationPublisher.publish(CacheInvalidation.Target.MEMBER, memberId);
+        });
     }
 }
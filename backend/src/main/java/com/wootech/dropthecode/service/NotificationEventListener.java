@@ -0,0 +1,29 @@
+package com.wootech.dropthecode.service;
+
+import com.wootech.dropthecode.config.AsyncConfig;
+import com.wootech.dropthecode.domain.Notification;
+import com.wootech.dropthecode.domain.review.ReviewEvent;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리뷰 트랜잭션이 커밋된 이후 알림을 저장하고 구독 중인 클라이언트에게 전송한다.
+ */
+@Component
+public class NotificationEventListener {
+    private final NotificationService notificationService;
+
+    public NotificationEventListener(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReviewEvent event) {
+        Notification notification = notificationService.save(event.getReceiverId(), event.getReviewId(), event.getContent());
+        notificationService.push(event.getReceiverId(), notification);
+    }
+}
@@ -3,6 +3,7 @@ package com.wootech.dropthecode.service;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.persistence.EntityNotFoundException;
 
@@ -13,9 +14,15 @@ import com.wootech.dropthecode.domain.review.Review;
 import com.wootech.dropthecode.dto.response.NotificationResponse;
 import com.wootech.dropthecode.dto.response.NotificationsResponse;
 import com.wootech.dropthecode.repository.EmitterRepository;
+import com.wootech.dropthecode.repository.MemberRepository;
+import com.wootech.dropthecode.repository.NotificationEventStore;
 import com.wootech.dropthecode.repository.NotificationRepository;
+import com.wootech.dropthecode.repository.ReviewRepository;
+import com.wootech.dropthecode.service.notification.NotificationMessage;
+import com.wootech.dropthecode.service.notification.RedisNotificationPublisher;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -28,59 +35,98 @@ public class NotificationService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
     private final EmitterRepository emitterRepository;
+    private final NotificationEventStore notificationEventStore;
+    private final RedisNotificationPublisher redisNotificationPublisher;
     private final NotificationRepository notificationRepository;
+    private final MemberRepository memberRepository;
+    private final ReviewRepository reviewRepository;
 
-    public NotificationService(EmitterRepository emitterRepository, NotificationRepository notificationRepository) {
+    public NotificationService(EmitterRepository emitterRepository, NotificationEventStore notificationEventStore,
+                               RedisNotificationPublisher redisNotificationPublisher, NotificationRepository notificationRepository,
+                               MemberRepository memberRepository, ReviewRepository reviewRepository) {
         this.emitterRepository = emitterRepository;
+        this.notificationEventStore = notificationEventStore;
+        this.redisNotificationPublisher = redisNotificationPublisher;
         this.notificationRepository = notificationRepository;
+        this.memberRepository = memberRepository;
+        this.reviewRepository = reviewRepository;
     }
 
     public SseEmitter subscribe(LoginMember loginMember, String lastEventId) {
         Long userId = loginMember.getId();
         String id = userId + "_" + System.currentTimeMillis();
-        SseEmitter emitter = emitterRepository.save(id, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = emitterRepository.save(userId, id, new SseEmitter(DEFAULT_TIMEOUT));
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(id));
-        emitter.onTimeout(() -> emitterRepository.deleteById(id));
+        emitter.onCompletion(() -> emitterRepository.deleteById(userId, id));
+        emitter.onTimeout(() -> emitterRepository.deleteById(userId, id));
 
-        // 503 에러를 방지하기 위한 더미 이벤트 전송
-        sendToClient(emitter, id, "EventStream Created. [userId=" + userId + "]");
+        // 503 에러를 방지하기 위한 더미 이벤트 전송, 클라이언트의 Last-Event-ID 가 바뀌지 않도록 id 없이 보낸다.
+        sendToClient(emitter, userId, id, SseEmitter.event()
+                                                    .name("sse")
+                                                    .data("EventStream Created. [userId=" + userId + "]"));
 
-        // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
-        if (!lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithId(String.valueOf(userId));
-            events.entrySet().stream()
-                  .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                  .forEach(entry -> sendToClient(emitter, entry.getKey(), entry.getValue()));
-        }
+        // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방, 다른 노드에서 발행된 이벤트도 포함된다.
+        parseEventId(lastEventId).ifPresent(
+                lastId -> notificationEventStore.findAllAfter(userId, lastId)
+                                                .forEach(message -> sendToClient(emitter, userId, id, message.getEventId(), message.getNotification()))
+        );
 
         return emitter;
     }
 
-    private void sendToClient(SseEmitter emitter, String id, Object data) {
+    private Optional<Long> parseEventId(String lastEventId) {
+        if (lastEventId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Long.parseLong(lastEventId));
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private void sendToClient(SseEmitter emitter, Long userId, String emitterId, long eventId, Object data) {
+        sendToClient(emitter, userId, emitterId, SseEmitter.event()
+                                                           .id(String.valueOf(eventId))
+                                                           .name("sse")
+                                                           .data(data));
+    }
+
+    private void sendToClient(SseEmitter emitter, Long userId, String emitterId, SseEmitter.SseEventBuilder event) {
         try {
-            emitter.send(SseEmitter.event()
-                                   .id(id)
-                                   .name("sse")
-                                   .data(data));
+            emitter.send(event);
         } catch (IOException exception) {
-            emitterRepository.deleteById(id);
+            emitterRepository.deleteById(userId, emitterId);
             log.error("SSE 연결 오류!", exception);
         }
     }
 
-    @Transactional
-    public void send(Member receiver, Review review, String content) {
-        Notification notification = createNotification(receiver, review, content);
-        String id = String.valueOf(receiver.getId());
-        notificationRepository.save(notification);
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllStartWithById(id);
-        sseEmitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendToClient(emitter, key, NotificationResponse.from(notification));
-                }
-        );
+    /**
+     * 리뷰 트랜잭션의 커밋 이후에 호출되므로 항상 새로운 트랜잭션에서 저장한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Notification save(Long receiverId, Long reviewId, String content) {
+        Member receiver = memberRepository.getById(receiverId);
+        Review review = reviewRepository.getById(reviewId);
+        return notificationRepository.save(createNotification(receiver, review, content));
+    }
+
+    /**
+     * 수신자가 어느 노드에 연결되어 있어도 받을 수 있도록 이벤트를 저장한 뒤 모든 노드에 발행한다.
+     */
+    public void push(Long receiverId, Notification notification) {
+        NotificationMessage message = notificationEventStore.append(receiverId, NotificationResponse.from(notification));
+        redisNotificationPublisher.publish(message);
+    }
+
+    /**
+     * 발행된 이벤트를 이 노드에 연결된 수신자의 emitter 에게 전송한다.
+     */
+    public void deliver(NotificationMessage message) {
+        Long receiverId = message.getReceiverId();
+        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllByMemberId(receiverId);
+        sseEmitters.forEach((key, emitter) -> sendToClient(emitter, receiverId, key, message.getEventId(), message.getNotification()));
     }
 
     private Notification createNotification(Member receiver, Review review, String content) {
@@ -2,7 +2,9 @@ package com.wootech.dropthecode.service;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import com.wootech.dropthecode.controller.auth.util.JwtTokenProvider;
 import com.wootech.dropthecode.controller.auth.util.RedisUtil;
@@ -18,7 +20,9 @@ import com.wootech.dropthecode.dto.response.LoginResponse;
 import com.wootech.dropthecode.dto.response.OauthTokenResponse;
 import com.wootech.dropthecode.exception.OauthTokenRequestException;
 import com.wootech.dropthecode.repository.MemberRepository;
+import com.wootech.dropthecode.repository.ReviewRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -36,13 +40,18 @@ public class OauthService {
     private final InMemoryProviderRepository inMemoryProviderRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisUtil redisUtil;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OauthService(MemberRepository memberRepository, InMemoryProviderRepository inMemoryProviderRepository,
-                        JwtTokenProvider jwtTokenProvider, RedisUtil redisUtil) {
+                        JwtTokenProvider jwtTokenProvider, RedisUtil redisUtil, ReviewRepository reviewRepository,
+                        ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.inMemoryProviderRepository = inMemoryProviderRepository;
         this.jwtTokenProvider = jwtTokenProvider;
         this.redisUtil = redisUtil;
+        this.reviewRepository = reviewRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -52,7 +61,7 @@ public class OauthService {
 
         Member member = saveOrUpdate(userProfile);
 
-        Token accessToken = jwtTokenProvider.createAccessToken(String.valueOf(member.getId()));
+        Token accessToken = jwtTokenProvider.createAccessToken(String.valueOf(member.getId()), member.getRole());
         Token refreshToken = jwtTokenProvider.createRefreshToken();
 
         redisUtil.setDataExpire(String.valueOf(member.getId()), refreshToken.getValue(), refreshToken.getExpiredTime());
@@ -72,8 +81,7 @@ public class OauthService {
 
     private Member saveOrUpdate(UserProfile userProfile) {
         Member member = memberRepository.findByOauthId(userProfile.getOauthId())
-                                        .map(entity -> entity.update(
-                                                userProfile.getEmail(), userProfile.getName(), userProfile.getImageUrl()))
+                                        .map(entity -> update(entity, userProfile))
                                         .orElseGet(userProfile::toMember);
 
         if (member.hasRole(Role.DELETED)) {
@@ -82,6 +90,20 @@ public class OauthService {
         return memberRepository.save(member);
     }
 
+    /**
+     * 리뷰 상세 응답에는 리뷰어와 리뷰 요청자의 이름, 이미지가 담기므로 프로필이 바뀌면 회원이 참여한 리뷰 id 를 함께 알린다.
+     * 이메일은 리뷰어 응답에만 담기므로 이메일만 바뀌면 리뷰어가 바뀌었다고만 알린다.
+     */
+    private Member update(Member member, UserProfile userProfile) {
+        if (!member.hasSameProfile(userProfile.getName(), userProfile.getImageUrl())) {
+            List<Long> reviewIds = reviewRepository.findIdsByMemberId(member.getId());
+            eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId(), reviewIds));
+        } else if (!Objects.equals(member.getEmail(), userProfile.getEmail())) {
+            eventPublisher.publishEvent(new TeacherChangedEvent(member.getId()));
+        }
+        return member.update(userProfile.getEmail(), userProfile.getName(), userProfile.getImageUrl());
+    }
+
     private UserProfile getUserProfile(AuthorizationRequest authorizationRequest, OauthProvider oauthProvider) {
         OauthTokenResponse oauthTokenResponse = getToken(authorizationRequest, oauthProvider);
         Map<String, Object> userAttributes = getUserAttributes(oauthProvider, oauthTokenResponse);
@@ -0,0 +1,16 @@
+package com.wootech.dropthecode.service;
+
+import lombok.Getter;
+
+/**
+ * 리뷰가 생성, 수정, 삭제되거나 상태가 바뀌었을 때 발행되는 이벤트
+ * 알림을 보내지 않는 변경도 있으므로 알림용 ReviewEvent 와 따로 발행한다.
+ */
+@Getter
+public class ReviewChangedEvent {
+    private final Long reviewId;
+
+    public ReviewChangedEvent(Long reviewId) {
+        this.reviewId = reviewId;
+    }
+}
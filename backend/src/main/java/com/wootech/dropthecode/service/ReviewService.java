@@ -11,6 +11,7 @@ import com.wootech.dropthecode.domain.review.CompletedReview;
 import com.wootech.dropthecode.domain.review.OnGoingReview;
 import com.wootech.dropthecode.domain.review.PendingReview;
 import com.wootech.dropthecode.domain.review.Review;
+import com.wootech.dropthecode.domain.review.ReviewEvent;
 import com.wootech.dropthecode.dto.ReviewSummary;
 import com.wootech.dropthecode.dto.request.FeedbackRequest;
 import com.wootech.dropthecode.dto.request.ReviewRequest;
@@ -19,6 +20,7 @@ import com.wootech.dropthecode.dto.response.ReviewResponse;
 import com.wootech.dropthecode.dto.response.ReviewsResponse;
 import com.wootech.dropthecode.repository.ReviewRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,15 +32,18 @@ public class ReviewService {
     private final TeacherService teacherService;
     private final FeedbackService feedbackService;
     private final ReviewRepository reviewRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeacherStatisticsService teacherStatisticsService;
 
     public ReviewService(MemberService memberService, TeacherService teacherService, FeedbackService feedbackService,
-                         ReviewRepository reviewRepository, NotificationService notificationService) {
+                         ReviewRepository reviewRepository, ApplicationEventPublisher eventPublisher,
+                         TeacherStatisticsService teacherStatisticsService) {
         this.memberService = memberService;
         this.teacherService = teacherService;
         this.feedbackService = feedbackService;
         this.reviewRepository = reviewRepository;
-        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.teacherStatisticsService = teacherStatisticsService;
     }
 
     @Transactional
@@ -55,7 +60,9 @@ public class ReviewService {
                               .progress(Progress.PENDING)
                               .build();
         Review savedReview = reviewRepository.save(review);
-        notificationService.send(teacher, savedReview, "새로운 리뷰 요청이 도착했습니다!");
+        eventPublisher.publishEvent(new ReviewChangedEvent(savedReview.getId()));
+        teacherStatisticsService.increase(teacher.getId(), Progress.PENDING);
+        eventPublisher.publishEvent(new ReviewEvent(teacher.getId(), savedReview.getId(), "새로운 리뷰 요청이 도착했습니다!"));
 
         return savedReview.getId();
     }
@@ -97,43 +104,54 @@ public class ReviewService {
     @Transactional
     public void cancelRequest(LoginMember loginMember, Long id) {
         Review review = findById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
         new PendingReview(review).cancel(loginMember.getId());
         reviewRepository.delete(review);
+        teacherStatisticsService.decrease(review.getTeacher().getId(), Progress.PENDING);
     }
 
     @Transactional
     public void denyReview(LoginMember loginMember, Long id) {
         Review review = findById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
         new PendingReview(review).deny(loginMember.getId());
-        notificationService.send(review.getStudent(), review, "리뷰 요청이 거절되었습니다.");
+        teacherStatisticsService.move(review.getTeacher().getId(), Progress.PENDING, Progress.DENIED);
+        eventPublisher.publishEvent(new ReviewEvent(review.getStudent().getId(), review.getId(), "리뷰 요청이 거절되었습니다."));
     }
 
     @Transactional
     public void acceptReview(LoginMember loginMember, Long id) {
         Review review = findById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
         new PendingReview(review).accept(loginMember.getId());
-        notificationService.send(review.getStudent(), review, "리뷰 요청이 수락되었습니다.");
+        teacherStatisticsService.move(review.getTeacher().getId(), Progress.PENDING, Progress.ON_GOING);
+        eventPublisher.publishEvent(new ReviewEvent(review.getStudent().getId(), review.getId(), "리뷰 요청이 수락되었습니다."));
     }
 
     @Transactional
     public void updateToCompleteReview(LoginMember loginMember, Long id) {
         Review review = findById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
         new OnGoingReview(review).complete(loginMember.getId());
+        teacherStatisticsService.move(review.getTeacher().getId(), Progress.ON_GOING, Progress.TEACHER_COMPLETED);
         teacherService.updateAverageReviewTime(loginMember.getId(), review.calculateElapsedTime());
-        notificationService.send(review.getStudent(), review, "리뷰가 완료되었습니다. 리뷰어에 대한 피드백을 입력해주세요.");
+        eventPublisher.publishEvent(new ReviewEvent(review.getStudent().getId(), review.getId(), "리뷰가 완료되었습니다. 리뷰어에 대한 피드백을 입력해주세요."));
     }
 
     @Transactional
     public void updateToFinishReview(LoginMember loginMember, Long id, FeedbackRequest feedbackRequest) {
         Review review = findById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
         feedbackService.create(review, feedbackRequest);
         new CompletedReview(review).finish(loginMember.getId());
-        notificationService.send(review.getTeacher(), review, "모든 리뷰가 완료되었습니다. 피드백을 확인해주세요");
+        teacherStatisticsService.move(review.getTeacher().getId(), Progress.TEACHER_COMPLETED, Progress.FINISHED);
+        eventPublisher.publishEvent(new ReviewEvent(review.getTeacher().getId(), review.getId(), "모든 리뷰가 완료되었습니다. 피드백을 확인해주세요"));
     }
 
     @Transactional
     public void updateReview(LoginMember loginMember, Long id, ReviewRequest request) {
         Review review = findById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(id));
         review.update(loginMember.getId(), request.getTitle(), request.getContent(), request.getPrUrl());
     }
 }
@@ -1,18 +1,21 @@
 package com.wootech.dropthecode.service;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import javax.persistence.EntityNotFoundException;
 
+import com.wootech.dropthecode.domain.chatting.Chat;
 import com.wootech.dropthecode.domain.chatting.Room;
 import com.wootech.dropthecode.dto.request.RoomRequest;
 import com.wootech.dropthecode.dto.response.RoomIdResponse;
 import com.wootech.dropthecode.repository.RoomRepository;
-import com.wootech.dropthecode.service.chat.RedisSubscriber;
+import com.wootech.dropthecode.service.chat.RoomParticipantCache;
 
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,43 +23,34 @@ import org.springframework.transaction.annotation.Transactional;
 public class RoomService {
     private final MemberService memberService;
     private final RoomRepository roomRepository;
+    private final RoomParticipantCache roomParticipantCache;
 
-    private final RedisMessageListenerContainer redisMessageListener;
-    private final RedisSubscriber redisSubscriber;
-    private final Map<String, ChannelTopic> topics;
-
-    public RoomService(RedisMessageListenerContainer redisMessageListener, RedisSubscriber redisSubscriber, MemberService memberService, RoomRepository roomRepository) {
-        this.redisMessageListener = redisMessageListener;
-        this.redisSubscriber = redisSubscriber;
+    public RoomService(MemberService memberService, RoomRepository roomRepository, RoomParticipantCache roomParticipantCache) {
         this.memberService = memberService;
         this.roomRepository = roomRepository;
-        topics = new HashMap<>();
+        this.roomParticipantCache = roomParticipantCache;
     }
 
-    @Transactional
+    /**
+     * 같은 참여자의 채팅방이 동시에 만들어지면 (teacher_id, student_id) 유니크 인덱스에 걸린 쪽이 먼저 만들어진 방을 다시 조회한다.
+     * 실패한 insert 가 롤백된 뒤 새 트랜잭션에서 다시 조회해야 하므로 메서드 전체를 하나의 트랜잭션으로 묶지 않는다.
+     */
     public RoomIdResponse getOrCreate(RoomRequest roomRequest) {
-        Room room = roomRepository.findByTeacherIdAndStudentId(roomRequest.getTeacherId(), roomRequest.getStudentId())
-                                  .orElseGet(() ->
-                                          new Room(
-                                                  memberService.findById(roomRequest.getTeacherId()),
-                                                  memberService.findById(roomRequest.getStudentId())
-                                          )
-                                  );
-
-        Room savedRoom = roomRepository.save(room);
-
-        addRedisMessageListener(savedRoom);
-
-        return new RoomIdResponse(savedRoom.getId());
-    }
-
-    private void addRedisMessageListener(Room savedRoom) {
-        String roomId = "/rooms/" + savedRoom.getId();
+        Optional<Room> room = roomRepository.findByTeacherIdAndStudentId(roomRequest.getTeacherId(), roomRequest.getStudentId());
+        if (room.isPresent()) {
+            return new RoomIdResponse(room.get().getId());
+        }
 
-        if (!topics.containsKey(roomId)) {
-            ChannelTopic topic = new ChannelTopic(roomId);
-            redisMessageListener.addMessageListener(redisSubscriber, topic);
-            topics.put(roomId, topic);
+        try {
+            Room savedRoom = roomRepository.save(new Room(
+                    memberService.findById(roomRequest.getTeacherId()),
+                    memberService.findById(roomRequest.getStudentId())
+            ));
+            return new RoomIdResponse(savedRoom.getId());
+        } catch (DataIntegrityViolationException e) {
+            return roomRepository.findByTeacherIdAndStudentId(roomRequest.getTeacherId(), roomRequest.getStudentId())
+                                 .map(existing -> new RoomIdResponse(existing.getId()))
+                                 .orElseThrow(() -> e);
         }
     }
 
@@ -66,8 +60,35 @@ public class RoomService {
                              .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 방입니다."));
     }
 
+    /**
+     * 채팅방의 참여자는 바뀌지 않으므로 메시지마다 조회하지 않도록 캐싱한다.
+     * 캐시에 없으면 맵 밖에서 조회한 뒤 저장하므로 동시에 처음 조회되면 중복으로 조회될 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findParticipantIds(Long roomId) {
+        Set<Long> cached = roomParticipantCache.get(roomId);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        Room room = findById(roomId);
+        Set<Long> participantIds = Set.of(room.getTeacher().getId(), room.getStudent().getId());
+        roomParticipantCache.put(roomId, participantIds);
+        return participantIds;
+    }
+
     @Transactional(readOnly = true)
     public List<Room> findAllByMemberId(Long id) {
         return roomRepository.findByTeacherIdOrStudentId(id, id);
     }
+
+    @Transactional(readOnly = true)
+    public List<Room> findAllWithLastChatByMemberId(Long id, Pageable pageable) {
+        return roomRepository.findAllWithLastChatByMemberId(id, pageable);
+    }
+
+    @Transactional
+    public void updateLastChat(Long roomId, Long chatId, Long senderId, String content, LocalDateTime createdAt) {
+        roomRepository.updateLastChat(roomId, chatId, Chat.snippetOf(content), senderId, createdAt);
+    }
 }
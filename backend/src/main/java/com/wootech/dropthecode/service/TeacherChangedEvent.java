@@ -0,0 +1,16 @@
+package com.wootech.dropthecode.service;
+
+import lombok.Getter;
+
+/**
+ * 리뷰어 프로필이나 통계가 바뀌었을 때 발행되는 이벤트
+ * 트랜잭션이 커밋된 이후 캐시된 리뷰어 응답을 지운다.
+ */
+@Getter
+public class TeacherChangedEvent {
+    private final Long teacherId;
+
+    public TeacherChangedEvent(Long teacherId) {
+        this.teacherId = teacherId;
+    }
+}
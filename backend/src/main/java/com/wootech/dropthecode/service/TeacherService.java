@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import javax.persistence.EntityNotFoundException;
 
 import com.wootech.dropthecode.domain.*;
+import com.wootech.dropthecode.dto.TeacherCursor;
 import com.wootech.dropthecode.dto.TechSpec;
 import com.wootech.dropthecode.dto.request.TeacherFilterRequest;
 import com.wootech.dropthecode.dto.request.TeacherRegistrationRequest;
@@ -12,9 +13,14 @@ import com.wootech.dropthecode.dto.response.TeacherPaginationResponse;
 import com.wootech.dropthecode.dto.response.TeacherProfileResponse;
 import com.wootech.dropthecode.exception.TeacherException;
 import com.wootech.dropthecode.repository.TeacherProfileRepository;
+import com.wootech.dropthecode.repository.TeacherSearchIndex;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,22 +29,28 @@ public class TeacherService {
 
     private final MemberService memberService;
     private final LanguageService languageService;
-    private final SkillService skillService;
     private final TeacherLanguageService teacherLanguageService;
     private final TeacherSkillService teacherSkillService;
     private final TeacherProfileRepository teacherProfileRepository;
+    private final TeacherSearchIndex teacherSearchIndex;
+    private final TeacherStatisticsService teacherStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeacherService(MemberService memberService, LanguageService languageService,
-                          SkillService skillService,
                           TeacherLanguageService teacherLanguageService,
                           TeacherSkillService teacherSkillService,
-                          TeacherProfileRepository teacherProfileRepository) {
+                          TeacherProfileRepository teacherProfileRepository,
+                          TeacherSearchIndex teacherSearchIndex,
+                          TeacherStatisticsService teacherStatisticsService,
+                          ApplicationEventPublisher eventPublisher) {
         this.memberService = memberService;
         this.languageService = languageService;
-        this.skillService = skillService;
         this.teacherLanguageService = teacherLanguageService;
         this.teacherSkillService = teacherSkillService;
         this.teacherProfileRepository = teacherProfileRepository;
+        this.teacherSearchIndex = teacherSearchIndex;
+        this.teacherStatisticsService = teacherStatisticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -69,10 +81,10 @@ public class TeacherService {
             throw new TeacherException("회원 탈퇴한 사용자입니다.");
         }
 
-        Map<String, Language> languageMap = languageService.findAllToMap();
-        List<Language> languages = findLanguageByNames(teacherRegistrationRequest.getTechSpecs(), languageMap);
-        List<Skill> skills = findSkillsByNames(teacherRegistrationRequest.getTechSpecs(), skillService.findAllToMap());
-        teacherRegistrationRequest.validateSkillsInLanguage(languageMap);
+        LanguageCatalog catalog = languageService.catalog();
+        List<Language> languages = findLanguageByNames(teacherRegistrationRequest.getTechSpecs(), catalog.getLanguages());
+        List<Skill> skills = findSkillsByNames(teacherRegistrationRequest.getTechSpecs(), catalog.getSkills());
+        teacherRegistrationRequest.validateSkillsInLanguage(catalog.getLanguages());
 
         final TeacherProfile teacher = teacherProfileRepository.findById(loginMember.getId())
                                                                .map(teacherProfile -> teacherProfile.update(teacherRegistrationRequest))
@@ -82,6 +94,21 @@ public class TeacherService {
         teacherSkillService.saveAllWithTeacher(skills, teacher);
         member.setRole(Role.TEACHER);
         memberService.save(member);
+        teacherStatisticsService.create(teacher.getId());
+
+        indexTeacher(teacher, languages, skills);
+    }
+
+    private void indexTeacher(TeacherProfile teacher, List<Language> languages, List<Skill> skills) {
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacher.getId()));
+        teacherSearchIndex.put(
+                teacher.getId(),
+                teacher.getCareer(),
+                teacher.getSumReviewCount(),
+                teacher.getAverageReviewTime(),
+                languages.stream().map(Language::getId).collect(Collectors.toList()),
+                skills.stream().map(Skill::getId).collect(Collectors.toList())
+        );
     }
 
     private List<Language> findLanguageByNames(List<TechSpec> techSpecs, Map<String, Language> languageMap) {
@@ -103,42 +130,101 @@ public class TeacherService {
 
     @Transactional(readOnly = true)
     public TeacherPaginationResponse findAll(TeacherFilterRequest teacherFilterRequest, Pageable pageable) {
-        Language language = findLanguageByNames(Collections.singletonList(teacherFilterRequest.getTechSpec()), languageService
-                .findAllToMap()).get(0);
-        List<Skill> skills = findSkillsByNames(Collections.singletonList(teacherFilterRequest.getTechSpec()), skillService
-                .findAllToMap());
+        LanguageCatalog catalog = languageService.catalog();
+        Language language = findLanguageByNames(Collections.singletonList(teacherFilterRequest.getTechSpec()), catalog.getLanguages())
+                .get(0);
+        List<Skill> skills = findSkillsByNames(Collections.singletonList(teacherFilterRequest.getTechSpec()), catalog.getSkills());
+
+        if (teacherFilterRequest.isCursorPagination()) {
+            return findAllByCursor(teacherFilterRequest, language, skills, pageable);
+        }
+
+        Page<TeacherProfile> teacherProfilePage = findTeacherProfilePage(language, skills, teacherFilterRequest.getCareer(), pageable);
+
+        final List<TeacherProfileResponse> teacherProfileResponses = toTeacherProfileResponses(teacherProfilePage.getContent());
+
+        return new TeacherPaginationResponse(teacherProfileResponses, teacherProfilePage.getTotalPages());
+    }
 
-        Page<TeacherProfile> teacherProfilePage = teacherProfileRepository.findAll(
+    private Page<TeacherProfile> findTeacherProfilePage(Language language, List<Skill> skills, int career, Pageable pageable) {
+        if (!teacherSearchIndex.supports(pageable.getSort())) {
+            return teacherProfileRepository.findAll(language, skills, career, pageable);
+        }
+
+        List<Long> skillIds = skills.stream()
+                                    .map(Skill::getId)
+                                    .collect(Collectors.toList());
+        Page<Long> teacherIds = teacherSearchIndex.search(language.getId(), skillIds, career, pageable);
+        List<TeacherProfile> teacherProfiles = teacherProfileRepository.findAllByIds(teacherIds.getContent());
+        return new PageImpl<>(teacherProfiles, pageable, teacherIds.getTotalElements());
+    }
+
+    private TeacherPaginationResponse findAllByCursor(TeacherFilterRequest teacherFilterRequest, Language language,
+                                                      List<Skill> skills, Pageable pageable) {
+        String sortProperty = pageable.getSort()
+                                      .stream()
+                                      .findFirst()
+                                      .map(Sort.Order::getProperty)
+                                      .orElse(TeacherCursor.ID);
+
+        TeacherCursor cursor = null;
+        if (!teacherFilterRequest.isFirstCursorPage()) {
+            cursor = TeacherCursor.decode(teacherFilterRequest.getCursor());
+            cursor.validateProperty(sortProperty);
+        }
+
+        Slice<TeacherProfile> teacherProfileSlice = teacherProfileRepository.findAllByCursor(
                 language,
                 skills,
                 teacherFilterRequest.getCareer(),
+                cursor,
                 pageable
         );
 
-        final List<TeacherProfileResponse> teacherProfileResponses = teacherProfilePage.stream()
-                                                                                       .map(TeacherProfileResponse::from)
-                                                                                       .collect(Collectors.toList());
+        final List<TeacherProfileResponse> teacherProfileResponses = toTeacherProfileResponses(teacherProfileSlice.getContent());
 
-        return new TeacherPaginationResponse(teacherProfileResponses, teacherProfilePage.getTotalPages());
+        if (!teacherProfileSlice.hasNext()) {
+            return TeacherPaginationResponse.ofCursor(teacherProfileResponses, null, false);
+        }
+
+        List<TeacherProfile> content = teacherProfileSlice.getContent();
+        TeacherProfile last = content.get(content.size() - 1);
+        return TeacherPaginationResponse.ofCursor(teacherProfileResponses, TeacherCursor.of(sortProperty, last).encode(), true);
+    }
+
+    private List<TeacherProfileResponse> toTeacherProfileResponses(List<TeacherProfile> teacherProfiles) {
+        List<Long> teacherIds = teacherProfiles.stream()
+                                               .map(TeacherProfile::getId)
+                                               .collect(Collectors.toList());
+        Map<Long, TeacherStatistics> statistics = teacherStatisticsService.findAllByTeacherIds(teacherIds);
+
+        return teacherProfiles.stream()
+                              .map(teacherProfile -> TeacherProfileResponse.from(
+                                      teacherProfile,
+                                      statistics.getOrDefault(teacherProfile.getId(), new TeacherStatistics(teacherProfile.getId()))))
+                              .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public TeacherProfileResponse findTeacherResponseById(Long id) {
-        return TeacherProfileResponse.from(findById(id));
+        return TeacherProfileResponse.from(findById(id), teacherStatisticsService.findByTeacherId(id));
     }
 
     @Transactional
     public void updateAverageReviewTime(Long id, Long reviewTime) {
-        TeacherProfile teacher = findById(id);
+        TeacherProfile teacher = teacherProfileRepository.findByIdForUpdate(id)
+                                                         .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 리뷰어입니다."));
         teacher.updateReviewCountAndTime(reviewTime);
+        teacherSearchIndex.updateSortKeys(teacher.getId(), teacher.getSumReviewCount(), teacher.getAverageReviewTime());
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacher.getId()));
     }
 
     @Transactional
     public void updateTeacher(LoginMember loginMember, TeacherRegistrationRequest teacherRegistrationRequest) {
-        Map<String, Language> languageMap = languageService.findAllToMap();
-        List<Language> languages = findLanguageByNames(teacherRegistrationRequest.getTechSpecs(), languageMap);
-        List<Skill> skills = findSkillsByNames(teacherRegistrationRequest.getTechSpecs(), skillService.findAllToMap());
-        teacherRegistrationRequest.validateSkillsInLanguage(languageMap);
+        LanguageCatalog catalog = languageService.catalog();
+        List<Language> languages = findLanguageByNames(teacherRegistrationRequest.getTechSpecs(), catalog.getLanguages());
+        List<Skill> skills = findSkillsByNames(teacherRegistrationRequest.getTechSpecs(), catalog.getSkills());
+        teacherRegistrationRequest.validateSkillsInLanguage(catalog.getLanguages());
 
         TeacherProfile teacher = findById(loginMember.getId());
 
@@ -150,6 +236,7 @@ public class TeacherService {
 
         teacher.update(teacherRegistrationRequest.getTitle(), teacherRegistrationRequest.getContent(), teacherRegistrationRequest
                 .getCareer());
+        indexTeacher(teacher, languages, skills);
     }
 
     @Transactional
@@ -160,6 +247,8 @@ public class TeacherService {
 
         TeacherProfile teacher = member.getTeacherProfile();
         delete(teacher);
+        teacherSearchIndex.remove(teacher.getId());
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacher.getId()));
     }
 }
 
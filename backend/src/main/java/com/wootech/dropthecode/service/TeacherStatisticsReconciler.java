@@ -0,0 +1,55 @@
+package com.wootech.dropthecode.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 증분 갱신 중 누락되거나 어긋난 리뷰어 통계를 주기적으로 보정한다.
+ * 모든 노드에서 같은 시각에 실행되므로 Redis 잠금을 먼저 얻은 한 노드만 보정한다.
+ * 잠금은 lockTimeout 이 지나면 풀리므로, 보정하던 노드가 죽어도 다음 주기에는 다른 노드가 보정할 수 있다.
+ */
+@Slf4j
+@Component
+public class TeacherStatisticsReconciler {
+    private static final String LOCK_KEY = "lock:teacher-statistics:reconcile";
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final TeacherStatisticsService teacherStatisticsService;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTimeout;
+
+    public TeacherStatisticsReconciler(TeacherStatisticsService teacherStatisticsService, StringRedisTemplate redisTemplate,
+                                       @Value("${teacher.statistics.reconcile-lock-timeout:30m}") Duration lockTimeout) {
+        this.teacherStatisticsService = teacherStatisticsService;
+        this.redisTemplate = redisTemplate;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Scheduled(cron = "${teacher.statistics.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTimeout))) {
+            log.info("다른 노드가 리뷰어 통계를 보정하고 있습니다.");
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int repaired = teacherStatisticsService.reconcile();
+            log.info("리뷰어 통계 보정 완료 [repaired={}, elapsed={}ms]", repaired, System.currentTimeMillis() - start);
+        } finally {
+            redisTemplate.execute(RELEASE, Collections.singletonList(LOCK_KEY), token);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.wootech.dropthecode.service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.wootech.dropthecode.domain.Progress;
+import com.wootech.dropthecode.domain.TeacherStatistics;
+import com.wootech.dropthecode.repository.TeacherStatisticsRepository;
+import com.wootech.dropthecode.util.AfterCommit;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰어 통계는 원자적인 update 쿼리로 증분 갱신한다.
+ * 통계 행이 아직 없는 리뷰어는 트랜잭션이 커밋된 뒤 새 트랜잭션에서 원본 데이터로부터 다시 계산해 생성한다.
+ * 보정은 리뷰어별로 통계 행을 잠근 뒤 원본 데이터를 읽어, 보정 중에 커밋된 증분 갱신을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class TeacherStatisticsService {
+    private static final int RECONCILE_ATTEMPTS = 2;
+
+    private final TeacherStatisticsRepository teacherStatisticsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TeacherStatisticsService(TeacherStatisticsRepository teacherStatisticsRepository, ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.teacherStatisticsRepository = teacherStatisticsRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void create(Long teacherId) {
+        reconcileAfterCommit(teacherId);
+    }
+
+    @Transactional
+    public void increase(Long teacherId, Progress progress) {
+        long updated = teacherStatisticsRepository.increase(teacherId, progress, LocalDateTime.now());
+        repairIfAbsent(teacherId, updated);
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
+    }
+
+    @Transactional
+    public void decrease(Long teacherId, Progress progress) {
+        long updated = teacherStatisticsRepository.decrease(teacherId, progress, LocalDateTime.now());
+        repairIfAbsent(teacherId, updated);
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
+    }
+
+    @Transactional
+    public void move(Long teacherId, Progress from, Progress to) {
+        long updated = teacherStatisticsRepository.move(teacherId, from, to, LocalDateTime.now());
+        repairIfAbsent(teacherId, updated);
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
+    }
+
+    @Transactional
+    public void addStar(Long teacherId, int star) {
+        long updated = teacherStatisticsRepository.addStar(teacherId, star, LocalDateTime.now());
+        repairIfAbsent(teacherId, updated);
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
+    }
+
+    @Transactional(readOnly = true)
+    public TeacherStatistics findByTeacherId(Long teacherId) {
+        return teacherStatisticsRepository.findById(teacherId)
+                                          .orElseGet(() -> new TeacherStatistics(teacherId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, TeacherStatistics> findAllByTeacherIds(Collection<Long> teacherIds) {
+        return teacherStatisticsRepository.findAllById(teacherIds)
+                                          .stream()
+                                          .collect(Collectors.toMap(TeacherStatistics::getId, Function.identity()));
+    }
+
+    /**
+     * 모든 리뷰어의 통계를 원본 데이터와 대조해 어긋난 리뷰어만 하나씩 보정한다.
+     *
+     * @return 보정된 리뷰어 수
+     */
+    public int reconcile() {
+        int repaired = 0;
+        for (Long teacherId : findMismatchedTeacherIds()) {
+            if (reconcile(teacherId)) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 통계를 한 번에 대조해 보정이 필요해 보이는 리뷰어를 고른다.
+     * 대조하는 동안에도 증분 갱신이 일어나므로 실제 보정 여부는 {@link #reconcile(Long)} 에서 행을 잠근 뒤 다시 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findMismatchedTeacherIds() {
+        Map<Long, TeacherStatistics> actual = teacherStatisticsRepository.aggregateAll();
+        Map<Long, TeacherStatistics> stored = teacherStatisticsRepository.findAll()
+                                                                         .stream()
+                                                                         .collect(Collectors.toMap(TeacherStatistics::getId, Function.identity()));
+
+        Set<Long> teacherIds = new TreeSet<>(stored.keySet());
+        teacherIds.addAll(actual.keySet());
+        return teacherIds.stream()
+                         .filter(teacherId -> {
+                             TeacherStatistics current = stored.get(teacherId);
+                             return Objects.isNull(current)
+                                     || !current.hasSameValues(actual.getOrDefault(teacherId, new TeacherStatistics(teacherId)));
+                         })
+                         .collect(Collectors.toList());
+    }
+
+    /**
+     * 새 트랜잭션에서 리뷰어의 통계 행을 잠그고 원본 데이터로 다시 계산해 어긋난 값을 덮어쓴다. 행이 없으면 만든다.
+     * 다른 트랜잭션이 같은 행을 먼저 만들어 insert 가 실패하면, 이미 만들어진 행을 잠그도록 한 번 더 시도한다.
+     *
+     * @return 보정했으면 true
+     */
+    public boolean reconcile(Long teacherId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileRow(teacherId)));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt >= RECONCILE_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("리뷰어 통계 보정 재시도 [teacherId={}]", teacherId);
+            }
+        }
+    }
+
+    /**
+     * 행이 없을 때 잠금 조회를 하면 MySQL 에서 gap lock 이 걸려 동시에 만드는 트랜잭션끼리 교착되므로, 먼저 잠금 없이 존재 여부를 확인한다.
+     */
+    private boolean reconcileRow(Long teacherId) {
+        if (!teacherStatisticsRepository.existsById(teacherId)) {
+            log.info("리뷰어 통계 재계산 [teacherId={}]", teacherId);
+            teacherStatisticsRepository.saveAndFlush(aggregate(teacherId));
+            eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
+            return true;
+        }
+
+        TeacherStatistics current = teacherStatisticsRepository.findByIdForUpdate(teacherId)
+                                                               .orElseThrow(() -> new IllegalStateException("리뷰어 통계가 없습니다."));
+        TeacherStatistics expected = aggregate(teacherId);
+        if (current.hasSameValues(expected)) {
+            return false;
+        }
+
+        log.info("리뷰어 통계 보정 [teacherId={}]", teacherId);
+        current.overwrite(expected);
+        eventPublisher.publishEvent(new TeacherChangedEvent(teacherId));
+        return true;
+    }
+
+    private TeacherStatistics aggregate(Long teacherId) {
+        return teacherStatisticsRepository.aggregateByTeacherIds(Collections.singletonList(teacherId))
+                                          .getOrDefault(teacherId, new TeacherStatistics(teacherId));
+    }
+
+    /**
+     * 증분 갱신할 행이 없으면 이번 트랜잭션의 변경까지 커밋된 뒤 원본 데이터로 행을 만든다.
+     * 같은 트랜잭션에서 만들면 동시에 같은 행을 만드는 트랜잭션 중 하나가 중복 키로 실패해 리뷰 변경까지 롤백된다.
+     */
+    private void repairIfAbsent(Long teacherId, long updated) {
+        if (updated == 0) {
+            reconcileAfterCommit(teacherId);
+        }
+    }
+
+    private void reconcileAfterCommit(Long teacherId) {
+        AfterCommit.run(() -> {
+            try {
+                reconcile(teacherId);
+            } catch (RuntimeException e) {
+                log.warn("리뷰어 통계 재계산 실패, 다음 보정 때 다시 계산 [teacherId={}]", teacherId, e);
+            }
+        });
+    }
+}
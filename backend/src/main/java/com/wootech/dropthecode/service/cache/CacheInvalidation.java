@@ -0,0 +1,33 @@
+package com.wootech.dropthecode.service.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간에 전달되는 캐시 무효화 이벤트
+ */
+@Getter
+@NoArgsConstructor
+public class CacheInvalidation {
+    private String origin;
+    private Target target;
+    private Long id;
+
+    public CacheInvalidation(String origin, Target target, Long id) {
+        this.origin = origin;
+        this.target = target;
+        this.id = id;
+    }
+
+    public boolean is(Target target) {
+        return this.target == target;
+    }
+
+    public enum Target {
+        TEACHER,
+        ALL_TEACHERS,
+        REVIEW,
+        ALL_REVIEWS,
+        MEMBER
+    }
+}
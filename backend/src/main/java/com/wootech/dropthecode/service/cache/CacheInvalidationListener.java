@@ -0,0 +1,8 @@
+package com.wootech.dropthecode.service.cache;
+
+/**
+ * 다른 노드에서 발행한 캐시 무효화 이벤트를 받아 이 노드의 캐시를 비운다.
+ */
+public interface CacheInvalidationListener {
+    void onInvalidation(CacheInvalidation invalidation);
+}
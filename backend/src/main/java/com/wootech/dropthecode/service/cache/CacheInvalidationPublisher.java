@@ -0,0 +1,47 @@
+package com.wootech.dropthecode.service.cache;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드에서 비운 캐시를 다른 노드도 비우도록 Redis 채널에 발행한다.
+ * 발행에 실패해도 데이터 변경은 이미 커밋되었으므로 예외를 던지지 않고, 다른 노드는 캐시의 TTL 이 지난 뒤 새 값을 읽는다.
+ */
+@Slf4j
+@Service
+public class CacheInvalidationPublisher {
+    public static final ChannelTopic TOPIC = new ChannelTopic("cache-invalidation");
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(CacheInvalidation.Target target, Long id) {
+        try {
+            String message = objectMapper.writeValueAsString(new CacheInvalidation(nodeId, target, id));
+            redisTemplate.convertAndSend(TOPIC.getTopic(), message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("캐시 무효화 이벤트 직렬화 에러", e);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 이벤트 발행 실패 [target={}, id={}]", target, id, e);
+        }
+    }
+
+    public boolean isPublishedHere(CacheInvalidation invalidation) {
+        return nodeId.equals(invalidation.getOrigin());
+    }
+}
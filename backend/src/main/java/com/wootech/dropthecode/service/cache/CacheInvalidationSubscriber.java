@@ -0,0 +1,45 @@
+package com.wootech.dropthecode.service.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드가 발행한 캐시 무효화 이벤트를 이 노드의 캐시들에 전달한다.
+ * 이 노드가 발행한 이벤트는 발행 전에 이미 반영했으므로 무시한다.
+ */
+@Component
+public class CacheInvalidationSubscriber implements MessageListener {
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final List<CacheInvalidationListener> listeners;
+
+    public CacheInvalidationSubscriber(ObjectMapper objectMapper, CacheInvalidationPublisher cacheInvalidationPublisher,
+                                       List<CacheInvalidationListener> listeners) {
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = read(message);
+        if (cacheInvalidationPublisher.isPublishedHere(invalidation)) {
+            return;
+        }
+        listeners.forEach(listener -> listener.onInvalidation(invalidation));
+    }
+
+    private CacheInvalidation read(Message message) {
+        try {
+            return objectMapper.readValue(message.getBody(), CacheInvalidation.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("파싱 에러", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wootech.dropthecode.service.chat;
+
+import com.wootech.dropthecode.config.chat.WebSocketProperties;
+
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메모리 브로커를 사용하면 모든 노드가 받을 수 있도록 Redis 로 발행하고,
+ * 외부 브로커를 사용하면 브로커가 직접 모든 구독자에게 전달하므로 바로 브로커로 보낸다.
+ */
+@Service
+public class ChatBroadcaster {
+    private final RedisPublisher redisPublisher;
+    private final SimpMessageSendingOperations messageTemplate;
+    private final WebSocketProperties.BrokerMode brokerMode;
+
+    public ChatBroadcaster(RedisPublisher redisPublisher, SimpMessageSendingOperations messageTemplate, WebSocketProperties webSocketProperties) {
+        this.redisPublisher = redisPublisher;
+        this.messageTemplate = messageTemplate;
+        this.brokerMode = webSocketProperties.getBroker().getMode();
+    }
+
+    public void broadcast(RedisChat chat) {
+        if (brokerMode == WebSocketProperties.BrokerMode.RELAY) {
+            messageTemplate.convertAndSend("/subscribe/rooms/" + chat.getRoomId(), chat.getMessage());
+            return;
+        }
+        redisPublisher.publishChattingMessage(new ChannelTopic("/rooms/" + chat.getRoomId()), chat);
+    }
+}
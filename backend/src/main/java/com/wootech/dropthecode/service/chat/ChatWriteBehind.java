@@ -0,0 +1,258 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.wootech.dropthecode.exception.ChattingException;
+import com.wootech.dropthecode.service.ChattingService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지를 제한된 크기의 큐에 쌓아 두고, 하나의 writer 스레드가 일정 개수 또는 일정 시간마다 묶어서 저장한다.
+ * 큐가 가득 차면 발행 스레드를 잠시 대기시키고, 그래도 자리가 나지 않으면 메시지를 거절한다.
+ * 저장에 실패한 묶음은 간격을 늘려 가며 다시 저장하고, 제약 조건을 어긴 메시지만 버린다.
+ * 애플리케이션 종료 시에는 큐에 남은 메시지를 모두 저장한 뒤 종료한다.
+ * 메시지를 받는 WebSocket 핸들러와 웹 서버보다 먼저 시작하고 나중에 멈추도록 낮은 phase 를 사용한다.
+ */
+@Slf4j
+@Component
+public class ChatWriteBehind implements SmartLifecycle, MeterBinder {
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private final ChattingService chattingService;
+    private final BlockingQueue<RedisChat> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+
+    private volatile boolean running = false;
+    private volatile long shutdownDeadline = Long.MAX_VALUE;
+    private Thread writer;
+
+    public ChatWriteBehind(ChattingService chattingService,
+                           @Value("${chat.write-behind.capacity:10000}") int capacity,
+                           @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                           @Value("${chat.write-behind.flush-interval:100ms}") Duration flushInterval,
+                           @Value("${chat.write-behind.offer-timeout:1s}") Duration offerTimeout,
+                           @Value("${chat.write-behind.shutdown-timeout:10s}") Duration shutdownTimeout,
+                           @Value("${chat.write-behind.retry-backoff:100ms}") Duration retryBackoff,
+                           @Value("${chat.write-behind.max-retry-backoff:5s}") Duration maxRetryBackoff) {
+        this.chattingService = chattingService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.offerTimeoutMillis = offerTimeout.toMillis();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.maxRetryBackoffMillis = maxRetryBackoff.toMillis();
+    }
+
+    public void append(RedisChat chat) {
+        if (!running) {
+            rejected.incrementAndGet();
+            throw new ChattingException("채팅 서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            if (!queue.offer(chat, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.incrementAndGet();
+                throw new ChattingException("채팅 메시지가 너무 많아 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.incrementAndGet();
+            throw new ChattingException("채팅 메시지 저장 대기 중 중단되었습니다.");
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "chat-write-behind");
+        writer.setDaemon(false);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        shutdownDeadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        running = false;
+        if (Objects.isNull(writer)) {
+            return;
+        }
+
+        try {
+            writer.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("종료 시간 내에 저장하지 못한 채팅 메시지가 있습니다. [remaining={}]", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<RedisChat> batch = collect();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지가 도착한 뒤 batchSize 만큼 모이거나 flushInterval 이 지날 때까지 메시지를 모은다.
+     */
+    private List<RedisChat> collect() throws InterruptedException {
+        List<RedisChat> batch = new ArrayList<>(batchSize);
+        RedisChat first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (Objects.isNull(first)) {
+            return batch;
+        }
+
+        batch.add(first);
+        long deadline = System.currentTimeMillis() + flushIntervalMillis;
+        while (batch.size() < batchSize && running) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+
+            RedisChat next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (Objects.isNull(next)) {
+                break;
+            }
+            batch.add(next);
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+        return batch;
+    }
+
+    /**
+     * 저장하지 못한 메시지가 남아 있으면 retryBackoff 부터 두 배씩 maxRetryBackoff 까지 기다리며 다시 저장한다.
+     * 기다리는 동안 새 메시지는 큐에 쌓이고, 큐가 가득 차면 발행 스레드가 거절된다.
+     * 종료 시간이 지나도 저장하지 못하면 남은 메시지를 버린다.
+     */
+    private void flush(List<RedisChat> batch) throws InterruptedException {
+        List<RedisChat> pending = save(batch);
+        long backoff = retryBackoffMillis;
+        while (!pending.isEmpty()) {
+            if (!running && System.currentTimeMillis() >= shutdownDeadline) {
+                failed.addAndGet(pending.size());
+                log.error("종료 시간 내에 저장하지 못한 채팅 메시지를 버립니다. [size={}]", pending.size());
+                return;
+            }
+
+            retried.addAndGet(pending.size());
+            Thread.sleep(backoff);
+            backoff = Math.min(backoff * 2, maxRetryBackoffMillis);
+            pending = save(pending);
+        }
+    }
+
+    /**
+     * 저장하지 못해 다시 시도해야 하는 메시지를 반환한다.
+     * 제약 조건을 어긴 메시지가 섞여 있으면 하나씩 저장해 그 메시지만 버린다.
+     */
+    private List<RedisChat> save(List<RedisChat> batch) {
+        try {
+            chattingService.saveAll(batch);
+            persisted.addAndGet(batch.size());
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                RedisChat chat = batch.get(0);
+                failed.incrementAndGet();
+                log.error("채팅 메시지 저장 실패 [roomId={}, senderId={}]", chat.getRoomId(), chat.getSenderId(), e);
+                return List.of();
+            }
+
+            log.warn("채팅 메시지 묶음 저장 실패, 개별 저장으로 재시도 [size={}]", batch.size(), e);
+            List<RedisChat> pending = new ArrayList<>();
+            batch.forEach(chat -> pending.addAll(save(List.of(chat))));
+            return pending;
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 묶음 저장 실패, 잠시 후 재시도 [size={}]", batch.size(), e);
+            return batch;
+        }
+    }
+
+    public int countQueued() {
+        return queue.size();
+    }
+
+    public long countPersisted() {
+        return persisted.get();
+    }
+
+    public long countFailed() {
+        return failed.get();
+    }
+
+    public long countRejected() {
+        return rejected.get();
+    }
+
+    public long countRetried() {
+        return retried.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("chat.write.queue", this, ChatWriteBehind::countQueued)
+             .description("저장을 기다리는 채팅 메시지 수")
+             .register(registry);
+        FunctionCounter.builder("chat.write.persisted", persisted, AtomicLong::get)
+                       .description("저장된 채팅 메시지 수")
+                       .register(registry);
+        FunctionCounter.builder("chat.write.failed", failed, AtomicLong::get)
+                       .description("저장에 실패한 채팅 메시지 수")
+                       .register(registry);
+        FunctionCounter.builder("chat.write.rejected", rejected, AtomicLong::get)
+                       .description("큐가 가득 차 거절된 채팅 메시지 수")
+                       .register(registry);
+        FunctionCounter.builder("chat.write.retried", retried, AtomicLong::get)
+                       .description("저장에 실패해 다시 시도한 채팅 메시지 수")
+                       .register(registry);
+    }
+}
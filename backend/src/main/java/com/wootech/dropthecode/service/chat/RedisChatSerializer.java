@@ -0,0 +1,50 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 채팅 메시지를 한 번의 인코딩으로 직렬화한다.
+ * [버전 1byte][roomId 8byte][senderId 8byte][receiverId 8byte][UTF-8 메시지] 형식이다.
+ */
+public class RedisChatSerializer implements RedisSerializer<RedisChat> {
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 1 + Long.BYTES * 3;
+
+    @Override
+    public byte[] serialize(RedisChat chat) {
+        if (Objects.isNull(chat)) {
+            return new byte[0];
+        }
+
+        byte[] message = chat.getMessage().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(HEADER_SIZE + message.length)
+                         .put(VERSION)
+                         .putLong(chat.getRoomId())
+                         .putLong(chat.getSenderId())
+                         .putLong(chat.getReceiverId())
+                         .put(message)
+                         .array();
+    }
+
+    @Override
+    public RedisChat deserialize(byte[] bytes) {
+        if (Objects.isNull(bytes) || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_SIZE || bytes[0] != VERSION) {
+            throw new SerializationException("지원하지 않는 채팅 메시지 형식입니다.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, HEADER_SIZE - 1);
+        long roomId = buffer.getLong();
+        long senderId = buffer.getLong();
+        long receiverId = buffer.getLong();
+        String message = new String(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, StandardCharsets.UTF_8);
+        return new RedisChat(roomId, senderId, receiverId, message);
+    }
+}
@@ -6,13 +6,13 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class RedisPublisher {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, RedisChat> chatRedisTemplate;
 
-    public RedisPublisher(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public RedisPublisher(RedisTemplate<String, RedisChat> chatRedisTemplate) {
+        this.chatRedisTemplate = chatRedisTemplate;
     }
 
     public void publishChattingMessage(ChannelTopic topic, RedisChat chat) {
-        redisTemplate.convertAndSend(topic.getTopic(), chat);
+        chatRedisTemplate.convertAndSend(topic.getTopic(), chat);
     }
 }
@@ -1,35 +1,44 @@
 package com.wootech.dropthecode.service.chat;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Objects;
 
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Component;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모든 노드가 하나의 패턴 구독으로 모든 채팅방의 메시지를 받아, 이 노드의 STOMP 구독자에게 전달한다.
+ */
+@Slf4j
 @Component
 public class RedisSubscriber implements MessageListener {
+    public static final PatternTopic ROOMS = new PatternTopic("/rooms/*");
 
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate redisTemplate;
+    private final RedisChatSerializer redisChatSerializer;
     private final SimpMessageSendingOperations messageTemplate;
 
-    public RedisSubscriber(ObjectMapper objectMapper, RedisTemplate redisTemplate, SimpMessageSendingOperations messageTemplate) {
-        this.objectMapper = objectMapper;
-        this.redisTemplate = redisTemplate;
+    public RedisSubscriber(RedisChatSerializer redisChatSerializer, SimpMessageSendingOperations messageTemplate) {
+        this.redisChatSerializer = redisChatSerializer;
         this.messageTemplate = messageTemplate;
     }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        RedisChat redisChat;
         try {
-            String publishMessage = (String) redisTemplate.getStringSerializer().deserialize(message.getBody());
-            RedisChat redisChat = objectMapper.readValue(publishMessage, RedisChat.class);
-            messageTemplate.convertAndSend("/subscribe/rooms/" + redisChat.getRoomId(), redisChat.getMessage());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("파싱 에러");
+            redisChat = redisChatSerializer.deserialize(message.getBody());
+        } catch (SerializationException e) {
+            log.warn("채팅 메시지 파싱 에러 [channel={}]", new String(message.getChannel()), e);
+            return;
         }
 
+        if (Objects.nonNull(redisChat)) {
+            messageTemplate.convertAndSend("/subscribe/rooms/" + redisChat.getRoomId(), redisChat.getMessage());
+        }
     }
 }
@@ -0,0 +1,106 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationListener;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지마다 채팅방을 조회하지 않도록 채팅방 참여자 id 를 TTL 동안 보관한다.
+ * 참여자가 삭제되면 해당 채팅방도 함께 삭제되므로 그 회원이 참여한 항목을 지우고, 다른 노드에서 삭제된 회원도 이벤트를 받아 지운다.
+ * 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 만료가 가까운 항목부터 일부만 지운다.
+ */
+@Component
+public class RoomParticipantCache implements CacheInvalidationListener {
+    private static final int EVICTION_RATIO = 10;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier currentTimeMillis;
+
+    @Autowired
+    public RoomParticipantCache(@Value("${chat.room-participants.ttl:10m}") Duration ttl,
+                                @Value("${chat.room-participants.max-size:10000}") int maxSize) {
+        this(ttl, maxSize, System::currentTimeMillis);
+    }
+
+    RoomParticipantCache(Duration ttl, int maxSize, LongSupplier currentTimeMillis) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public Set<Long> get(Long roomId) {
+        Entry entry = entries.get(roomId);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (entry.expiresAt <= currentTimeMillis.getAsLong()) {
+            entries.remove(roomId, entry);
+            return null;
+        }
+        return entry.participantIds;
+    }
+
+    public void put(Long roomId, Set<Long> participantIds) {
+        long now = currentTimeMillis.getAsLong();
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+        }
+        entries.put(roomId, new Entry(participantIds, now + ttlMillis));
+    }
+
+    public void evictAllByMemberId(Long memberId) {
+        entries.values().removeIf(entry -> entry.participantIds.contains(memberId));
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.is(CacheInvalidation.Target.MEMBER)) {
+            evictAllByMemberId(invalidation.getId());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int overflow = entries.size() - maxSize + 1;
+        if (overflow <= 0) {
+            return;
+        }
+
+        List<Long> oldest = entries.entrySet()
+                                   .stream()
+                                   .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                                   .limit(Math.max(overflow, maxSize / EVICTION_RATIO))
+                                   .map(Map.Entry::getKey)
+                                   .collect(Collectors.toList());
+        oldest.forEach(entries::remove);
+    }
+
+    private static class Entry {
+        private final Set<Long> participantIds;
+        private final long expiresAt;
+
+        private Entry(Set<Long> participantIds, long expiresAt) {
+            this.participantIds = participantIds;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
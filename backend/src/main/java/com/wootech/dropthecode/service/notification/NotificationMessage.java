@@ -0,0 +1,25 @@
+package com.wootech.dropthecode.service.notification;
+
+import com.wootech.dropthecode.dto.response.NotificationResponse;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간에 전달되고 재전송을 위해 보관되는 알림 이벤트
+ */
+@Getter
+@NoArgsConstructor
+public class NotificationMessage {
+    private Long receiverId;
+    private Long eventId;
+    private Long createdAt;
+    private NotificationResponse notification;
+
+    public NotificationMessage(Long receiverId, Long eventId, Long createdAt, NotificationResponse notification) {
+        this.receiverId = receiverId;
+        this.eventId = eventId;
+        this.createdAt = createdAt;
+        this.notification = notification;
+    }
+}
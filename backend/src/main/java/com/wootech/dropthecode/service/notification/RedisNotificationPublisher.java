@@ -0,0 +1,32 @@
+package com.wootech.dropthecode.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림을 모든 노드에 전달하기 위해 Redis 채널에 발행한다.
+ */
+@Service
+public class RedisNotificationPublisher {
+    public static final ChannelTopic TOPIC = new ChannelTopic("notifications");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisNotificationPublisher(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(NotificationMessage message) {
+        try {
+            redisTemplate.convertAndSend(TOPIC.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 직렬화 에러", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.wootech.dropthecode.service.notification;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootech.dropthecode.service.NotificationService;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 채널로 전달된 알림을 이 노드에 연결된 emitter 에게만 전송한다.
+ */
+@Component
+public class RedisNotificationSubscriber implements MessageListener {
+    private final ObjectMapper objectMapper;
+    private final NotificationService notificationService;
+
+    public RedisNotificationSubscriber(ObjectMapper objectMapper, NotificationService notificationService) {
+        this.objectMapper = objectMapper;
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationMessage notificationMessage = objectMapper.readValue(message.getBody(), NotificationMessage.class);
+            notificationService.deliver(notificationMessage);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("파싱 에러", e);
+        }
+    }
+}
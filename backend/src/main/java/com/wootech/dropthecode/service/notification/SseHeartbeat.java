@@ -0,0 +1,128 @@
+package com.wootech.dropthecode.service.notification;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.wootech.dropthecode.repository.EmitterRepository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.wootech.dropthecode.config.AsyncConfig.HEARTBEAT_EXECUTOR;
+
+/**
+ * 모든 emitter 에 주석 프레임을 주기적으로 전송하고, 전송에 실패한 emitter 를 제거한다.
+ * 여러 노드의 하트비트가 한꺼번에 몰리지 않도록 매 주기마다 임의의 지연을 더한다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeat implements SchedulingConfigurer, MeterBinder {
+    private final EmitterRepository emitterRepository;
+    private final TaskExecutor taskExecutor;
+    private final Duration interval;
+    private final Duration jitter;
+    private final int batchSize;
+
+    private final AtomicLong evicted = new AtomicLong();
+
+    public SseHeartbeat(EmitterRepository emitterRepository,
+                        @Qualifier(HEARTBEAT_EXECUTOR) TaskExecutor taskExecutor,
+                        @Value("${notification.heartbeat.interval:30s}") Duration interval,
+                        @Value("${notification.heartbeat.jitter:5s}") Duration jitter,
+                        @Value("${notification.heartbeat.batch-size:500}") int batchSize) {
+        this.emitterRepository = emitterRepository;
+        this.taskExecutor = taskExecutor;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addTriggerTask(this::beat, nextBeat());
+    }
+
+    private Trigger nextBeat() {
+        return triggerContext -> {
+            Date lastCompletion = triggerContext.lastCompletionTime();
+            long base = Objects.isNull(lastCompletion) ? System.currentTimeMillis() : lastCompletion.getTime();
+            long delay = jitter.toMillis() > 0 ? ThreadLocalRandom.current().nextLong(jitter.toMillis()) : 0;
+            return new Date(base + interval.toMillis() + delay);
+        };
+    }
+
+    /**
+     * emitter 를 일정 개수씩 나누어 하트비트 실행기에서 전송한다.
+     */
+    public void beat() {
+        List<Connection> batch = new ArrayList<>(batchSize);
+        for (Map.Entry<Long, Map<String, SseEmitter>> member : emitterRepository.findAll().entrySet()) {
+            for (Map.Entry<String, SseEmitter> emitter : member.getValue().entrySet()) {
+                batch.add(new Connection(member.getKey(), emitter.getKey(), emitter.getValue()));
+                if (batch.size() == batchSize) {
+                    dispatch(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<Connection> batch) {
+        taskExecutor.execute(() -> batch.forEach(this::send));
+    }
+
+    private void send(Connection connection) {
+        try {
+            connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException exception) {
+            emitterRepository.deleteById(connection.memberId, connection.emitterId);
+            evicted.incrementAndGet();
+            log.debug("끊어진 SSE 연결 제거 [emitterId={}]", connection.emitterId);
+        }
+    }
+
+    public long countEvicted() {
+        return evicted.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("sse.heartbeat.evicted", evicted, AtomicLong::get)
+                       .description("하트비트 전송에 실패해 제거된 SseEmitter 수")
+                       .register(registry);
+    }
+
+    private static class Connection {
+        private final Long memberId;
+        private final String emitterId;
+        private final SseEmitter emitter;
+
+        private Connection(Long memberId, String emitterId, SseEmitter emitter) {
+            this.memberId = memberId;
+            this.emitterId = emitterId;
+            this.emitter = emitter;
+        }
+    }
+}
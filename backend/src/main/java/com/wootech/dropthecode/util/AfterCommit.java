@@ -0,0 +1,28 @@
+package com.wootech.dropthecode.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안이면 커밋된 뒤에, 트랜잭션 밖이면 바로 실행한다.
+ * 롤백되면 실행하지 않으므로 커밋된 변경만 캐시나 색인에 반영된다.
+ */
+public class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -16,9 +16,11 @@ import com.wootech.dropthecode.repository.*;
 import com.wootech.dropthecode.repository.bridge.LanguageSkillRepository;
 import com.wootech.dropthecode.repository.bridge.TeacherLanguageRepository;
 import com.wootech.dropthecode.repository.bridge.TeacherSkillRepository;
+import com.wootech.dropthecode.service.LanguageCatalogChangedEvent;
 
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
@@ -39,10 +41,11 @@ public class DataInitializer implements ApplicationRunner {
     private final TeacherLanguageRepository teacherLanguageRepository;
     private final TeacherSkillRepository teacherSkillRepository;
     private final LanguageSkillRepository languageSkillRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Environment environment;
 
-    public DataInitializer(MemberRepository memberRepository, TeacherProfileRepository teacherProfileRepository, LanguageRepository languageRepository, SkillRepository skillRepository, ReviewRepository reviewRepository, TeacherLanguageRepository teacherLanguageRepository, TeacherSkillRepository teacherSkillRepository, LanguageSkillRepository languageSkillRepository, Environment environment) {
+    public DataInitializer(MemberRepository memberRepository, TeacherProfileRepository teacherProfileRepository, LanguageRepository languageRepository, SkillRepository skillRepository, ReviewRepository reviewRepository, TeacherLanguageRepository teacherLanguageRepository, TeacherSkillRepository teacherSkillRepository, LanguageSkillRepository languageSkillRepository, ApplicationEventPublisher eventPublisher, Environment environment) {
         this.memberRepository = memberRepository;
         this.teacherProfileRepository = teacherProfileRepository;
         this.languageRepository = languageRepository;
@@ -51,6 +54,7 @@ public class DataInitializer implements ApplicationRunner {
         this.teacherLanguageRepository = teacherLanguageRepository;
         this.teacherSkillRepository = teacherSkillRepository;
         this.languageSkillRepository = languageSkillRepository;
+        this.eventPublisher = eventPublisher;
         this.environment = environment;
     }
 
@@ -66,6 +70,7 @@ public class DataInitializer implements ApplicationRunner {
                 .collect(Collectors.toMap(Skill::getId, Function.identity()));
 
         insertLanguageSkill(languageMap, skillMap);
+        eventPublisher.publishEvent(new LanguageCatalogChangedEvent());
 
         if (!environment.acceptsProfiles(Profiles.of("local-init"))) {
             return;
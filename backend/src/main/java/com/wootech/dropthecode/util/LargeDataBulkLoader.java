@@ -0,0 +1,371 @@
+package com.wootech.dropthecode.util;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import com.wootech.dropthecode.domain.Progress;
+import com.wootech.dropthecode.domain.Role;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * pt-init 의 회원, 선생님, 리뷰 데이터를 JPA 를 거치지 않고 JDBC 로 넣는다.
+ * 회원 id 를 미리 정해 생성된 키를 다시 읽지 않고, 묶음을 chunk 로 나눠 chunk 마다 별도 트랜잭션에서 병렬로 커밋한다.
+ * 한 insert 문에 여러 행을 담아 batch 로 보내므로 드라이버 설정(rewriteBatchedStatements) 없이도 왕복 횟수가 줄어든다.
+ */
+@Slf4j
+@Profile({"pt-init"})
+@Component
+public class LargeDataBulkLoader {
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final List<MemberRow> MEMBERS = List.of(
+            new MemberRow("seed@gmail.com", "Seed", "https://avatars.githubusercontent.com/u/56301069?v=4"),
+            new MemberRow("allie@gmail.com", "Allie", "https://avatars.githubusercontent.com/u/32974201?v=4"),
+            new MemberRow("bran@gmail.com", "Bran", "https://avatars.githubusercontent.com/u/52202474?v=4"),
+            new MemberRow("air@gmail.com", "Air", "https://avatars.githubusercontent.com/u/45876793?v=4"),
+            new MemberRow("fafi@gmail.com", "Fafi", "https://avatars.githubusercontent.com/u/50273712?v=44"),
+            new MemberRow("shinse@gmail.com", "Shinsehantan", "https://avatars.githubusercontent.com/u/50273712?v=44")
+    );
+
+    private static final List<TeacherProfileRow> TEACHER_PROFILES = List.of(
+            new TeacherProfileRow("배민 출신 백엔드 개발자", "배민 1타 강사. 열심히 가르쳐드리겠습니다.", 5, 2, 1.3),
+            new TeacherProfileRow("쿠팡 이츠 출신 백엔드 개발자", "빡세게 가르쳐드리겠습니다.", 4, 5, 1.2),
+            new TeacherProfileRow("우테코 갓 졸업생", "열심히 하겠습니다.", 10, 10, 5.3),
+            new TeacherProfileRow("배민 인프라 담당자", "화이팅", 2, 1, 10.1),
+            new TeacherProfileRow("Amazon 서버 개발자", "실리콘밸리 출신 인프라 개발자. 영어로 수업합니다.", 7, 3, 2.9),
+            new TeacherProfileRow("배민 프론트 개발자", "화이팅", 6, 1, 8.4)
+    );
+
+    /**
+     * {선생님 순번, 언어 순번}
+     */
+    private static final int[][] TEACHER_LANGUAGES = {
+            {1, 1}, {1, 2}, {1, 3},
+            {2, 1}, {2, 5},
+            {3, 1}, {3, 3}, {3, 4},
+            {4, 1}, {4, 2}, {4, 3}, {4, 4},
+            {5, 1}, {5, 3},
+            {6, 1}, {6, 3}, {6, 5}
+    };
+
+    /**
+     * {선생님 순번, 기술 순번}
+     */
+    private static final int[][] TEACHER_SKILLS = {
+            {1, 2}, {1, 3}, {1, 5},
+            {2, 1}, {2, 2},
+            {3, 1}, {3, 4},
+            {4, 3}, {4, 4}, {4, 5},
+            {5, 4}, {5, 5},
+            {6, 4}, {6, 5}
+    };
+
+    private static final List<ReviewRow> REVIEWS = List.of(
+            new ReviewRow(3, 2, "[1단계 - 자동차 경주 구현] 에어(김준서) 미션 제출합니다.", "안녕하세요! 에어라고 해요! 많이 부족하겠지만 잘 부탁드려요!!\n" +
+                    "코드 리뷰를 한 번도 받아본 적 없어서 많이 떨리지만 기대도 많이 되네요 ㅎㅎ", "https://github.com/woowacourse/java-racingcar/pull/159", 3L, Progress.ON_GOING),
+
+            new ReviewRow(4, 2, "[1단계 - 로또 구현] 에어(김준서) 미션 제출합니다.", "안녕하세요! 에어라고해요! 반갑습니다\n" +
+                    "코드 리뷰 잘 부탁드릴게요 ㅎㅎ\n" +
+                    "\n" +
+                    "이번에 난생 처음으로 테스트코드부터 구현해봤어요. 처음이라 조금 어색한 느낌도 들고 맞게 한지는 모르겠지만 열심히 해봤습니다!\n" +
+                    "이번 코드 리뷰를 통해서도 많이 성장할 수 있을 것 같아서 기대되네요 ㅎㅎ\n" +
+                    "많은 피드백 부탁드려요", "https://github.com/woowacourse/java-lotto/pull/268", 2L, Progress.ON_GOING),
+
+            new ReviewRow(5, 2, "[2단계 - todo list] 에어(김준서) 미션 제출합니다.", "안녕하세요! 에어입니다!\n" +
+                    "자바스크립트 정말 알듯말듯 하네요.", "https://github.com/woowacourse/js-todo-list-step2/pull/6", 1L, Progress.ON_GOING),
+
+            new ReviewRow(6, 2, "[1단계 - 블랙잭 구현] 에어(김준서) 미션 제출합니다. ", "안녕하세요!!  에어라고 해요! 잘 부탁드립니다\n스스로 고칠 것이 너무 많이 보이는 것 같아요ㅠㅠ\n" +
+                    "이번 코드 리뷰를 통해서도 많이 배울 것을 기대하고 있습니다! ㅎㅎ 많은 피드백 부탁드려요~~\n" +
+                    "리뷰를 통해 좋은 코드로 변화시켜보고 싶습니다. 많은 힌트와 리뷰 부탁드릴게요!!\n", "https://github.com/woowacourse/java-blackjack/pull/141", 3L, Progress.TEACHER_COMPLETED),
+
+            new ReviewRow(2, 4, "리뷰 상태 업데이트 기능 구현", "기능 구현\n" +
+                    "리뷰 상태 업데이트\n" +
+                    "변경 사항\n" +
+                    "도메인에서 상태 업데이트가 필요한데 final로 정의된 부분 모두 수정\n" +
+                    "고려 사항\n" +
+                    "TeacherProfile ID와 Member ID가 통합된 경우 바뀔 수 있는 부분이 있는 지 확인해야함", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/157", 2L, Progress.ON_GOING),
+
+            new ReviewRow(2, 6, "리뷰 생성 기능 구현", "놓친 부분 있으면 마구마구 말씀해주십쇼!!!!!!!\n" +
+                    "\n" +
+                    "고려해야 할 부분\n" +
+                    "리뷰 생성 시 추가적인 예외 처리가 필요한 부분이 있는지 확인해야 할 것 같음", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/163", 1L, Progress.ON_GOING),
+
+            new ReviewRow(2, 4, "TeacherProfilie DB에 Member ID 적용되지 않는 버그 수정", "변경사항\n" +
+                    "반복문으로 Member Id 지정해주는 코드 추가\n" +
+                    "@TaewanKimmmm 파피 피드백 적용\n" +
+                    "데이터 초기화 방법\n" +
+                    "로컬에서 DB 초기화 방법\n" +
+                    "local properties에서 ddl-auto create으로 변경\n" +
+                    "DB DataInitializer ActiveProfiles에 \"local\" 추가\n" +
+                    "실행하면 DB 초기화 됨\n" +
+                    "코드 원상 복구\n" +
+                    "배포 서버에서 DB 초기화 방법\n" +
+                    "서버에 있는 Jenkins-init-deploy.sh 실행 -> ActiveProfiles가 \"prod-init\"으로 설정되어 있음\n" +
+                    "실행하면 DB 초기화 됨\n" +
+                    "다시 Jenkins-deploy.sh 실행", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/158", 2L, Progress.ON_GOING),
+
+            new ReviewRow(2, 4, "review 데이터 초기화 코드 추가", "기능 구현\n" +
+                    "Review 더미 데이터 초기화하는 코드 추가", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/150", 3L, Progress.ON_GOING),
+
+            new ReviewRow(2, 6, "ReviewController 응답 헤더의 URI 수정", "ReviewController 응답 헤더의 URI 수정", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/171", 3L, Progress.TEACHER_COMPLETED),
+
+            new ReviewRow(2, 6, "members/me, 리뷰어 상세 조회, 리뷰어 전체 조회 시 응답에 github url 필드 추가", "추가했습니다~", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/198", 1L, Progress.TEACHER_COMPLETED),
+
+            new ReviewRow(2, 3, "API 문서화", "rest docs 적용", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/37", 2L, Progress.FINISHED),
+
+            new ReviewRow(2, 3, "리뷰어 단일 조회", "리뷰어 단일 조회 기능 구현", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/164", 2L, Progress.FINISHED),
+
+            new ReviewRow(2, 3, "리뷰어 목록 조회 예외 및 테스트 코드 작성", "목록 조회 시 발생 가능한 예외 처리\n" +
+                    "필수 필드값(ex. langauge)이 없는 경우\n" +
+                    "DB에 없는 언어 혹은 기술을 입력한 경우\n" +
+                    "허용하지 않은 정렬 조건, 즉 TeacherProfile이 필드로 갖고 있지 않은 값으로 정렬을 하려고 할 경우\n" +
+                    "@MapsId를 이용하여 TeacherID와 MemberID를 하나의 키로 결합", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/156", 3L, Progress.FINISHED),
+
+            new ReviewRow(2, 3, "Logback으로 Error 로그, Info 로그 남기기", "로깅 적용!", "https://github.com/woowacourse-teams/2021-drop-the-code/pull/182", 3L, Progress.FINISHED)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public LargeDataBulkLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               @Value("${pt-init.chunk-size:1000}") int chunkSize,
+                               @Value("${pt-init.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 언어와 기술 id 는 순번 1 부터 차례로 전달한다.
+     * chunk 는 서로 다른 회원 id 범위를 쓰므로 순서와 관계없이 병렬로 넣을 수 있다.
+     */
+    public void load(int repeatCount, List<Long> languageIds, List<Long> skillIds) {
+        long start = System.currentTimeMillis();
+        long firstMemberId = nextId("member");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < repeatCount; from += chunkSize) {
+                Chunk chunk = new Chunk(firstMemberId, from, Math.min(from + chunkSize, repeatCount), now);
+                chunks.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> insert(chunk, languageIds, skillIds))));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대용량 데이터 삽입이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대용량 데이터 삽입에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        restartIdentity("member", firstMemberId + (long) repeatCount * MEMBERS.size());
+        log.info("대용량 데이터 삽입 완료 [repeat={}, members={}, reviews={}, elapsed={}ms]", repeatCount,
+                (long) repeatCount * MEMBERS.size(), (long) repeatCount * REVIEWS.size(), System.currentTimeMillis() - start);
+    }
+
+    private void insert(Chunk chunk, List<Long> languageIds, List<Long> skillIds) {
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> teacherProfiles = new ArrayList<>();
+        List<Object[]> teacherLanguages = new ArrayList<>();
+        List<Object[]> teacherSkills = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+
+        for (int repeat = chunk.from; repeat < chunk.to; repeat++) {
+            for (int order = 1; order <= MEMBERS.size(); order++) {
+                MemberRow member = MEMBERS.get(order - 1);
+                TeacherProfileRow teacherProfile = TEACHER_PROFILES.get(order - 1);
+                long memberId = chunk.memberId(repeat, order);
+                members.add(new Object[]{memberId, chunk.now, chunk.now, member.email, "https://github.com", member.imageUrl, member.name, Role.TEACHER.name()});
+                teacherProfiles.add(new Object[]{memberId, teacherProfile.averageReviewTime, teacherProfile.career, teacherProfile.content,
+                        chunk.now, chunk.now, teacherProfile.sumReviewCount, teacherProfile.title});
+            }
+            for (int[] teacherLanguage : TEACHER_LANGUAGES) {
+                teacherLanguages.add(new Object[]{languageIds.get(teacherLanguage[1] - 1), chunk.memberId(repeat, teacherLanguage[0])});
+            }
+            for (int[] teacherSkill : TEACHER_SKILLS) {
+                teacherSkills.add(new Object[]{skillIds.get(teacherSkill[1] - 1), chunk.memberId(repeat, teacherSkill[0])});
+            }
+            for (ReviewRow review : REVIEWS) {
+                reviews.add(new Object[]{chunk.now, chunk.now, review.content, review.elapsedTime, review.prUrl, review.progress.name(), review.title,
+                        chunk.memberId(repeat, review.student), chunk.memberId(repeat, review.teacher)});
+            }
+        }
+
+        insert("member", "id, created_at, updated_at, email, github_url, image_url, name, role", members);
+        insert("teacher_profile", "id, average_review_time, career, content, created_at, updated_at, sum_review_count, title", teacherProfiles);
+        insert("teacher_language", "language_id, teacher_profile_id", teacherLanguages);
+        insert("teacher_skill", "skill_id, teacher_profile_id", teacherSkills);
+        insert("review", "created_at, updated_at, content, elapsed_time, pr_url, progress, title, student_id, teacher_id", reviews);
+        insertTeacherStatistics(chunk.memberId(chunk.from, 1), chunk.memberId(chunk.to - 1, MEMBERS.size()));
+    }
+
+    /**
+     * ROWS_PER_STATEMENT 개의 행을 한 insert 문에 담고, 같은 크기의 문장은 하나의 batch 로 보낸다.
+     */
+    private void insert(String table, String columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        int columnCount = rows.get(0).length;
+        int fullStatements = rows.size() / ROWS_PER_STATEMENT;
+        List<Object[]> batch = new ArrayList<>();
+        for (int statement = 0; statement < fullStatements; statement++) {
+            batch.add(flatten(rows.subList(statement * ROWS_PER_STATEMENT, (statement + 1) * ROWS_PER_STATEMENT)));
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql(table, columns, columnCount, ROWS_PER_STATEMENT), batch);
+        }
+
+        List<Object[]> remainder = rows.subList(fullStatements * ROWS_PER_STATEMENT, rows.size());
+        if (!remainder.isEmpty()) {
+            jdbcTemplate.update(insertSql(table, columns, columnCount, remainder.size()), flatten(remainder));
+        }
+    }
+
+    private static String insertSql(String table, String columns, int columnCount, int rowCount) {
+        String row = Collections.nCopies(columnCount, "?")
+                                .stream()
+                                .collect(Collectors.joining(", ", "(", ")"));
+        return "insert into " + table + " (" + columns + ") values " + String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    private static Object[] flatten(List<Object[]> rows) {
+        return rows.stream()
+                   .flatMap(Arrays::stream)
+                   .toArray();
+    }
+
+    /**
+     * 넣은 리뷰로 선생님 통계를 계산해 두어 첫 리뷰 요청 때 통계를 다시 계산하지 않도록 한다.
+     */
+    private void insertTeacherStatistics(long fromTeacherId, long toTeacherId) {
+        jdbcTemplate.update("insert into teacher_statistics (id, pending_count, denied_count, on_going_count, teacher_completed_count, " +
+                        "finished_count, star_sum, star_count, last_activity_at) " +
+                        "select tp.id, " +
+                        "sum(case when r.progress = 'PENDING' then 1 else 0 end), " +
+                        "sum(case when r.progress = 'DENIED' then 1 else 0 end), " +
+                        "sum(case when r.progress = 'ON_GOING' then 1 else 0 end), " +
+                        "sum(case when r.progress = 'TEACHER_COMPLETED' then 1 else 0 end), " +
+                        "sum(case when r.progress = 'FINISHED' then 1 else 0 end), " +
+                        "0, 0, max(coalesce(r.updated_at, r.created_at)) " +
+                        "from teacher_profile tp left join review r on r.teacher_id = tp.id " +
+                        "where tp.id between ? and ? " +
+                        "group by tp.id",
+                fromTeacherId, toTeacherId);
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return Objects.isNull(maxId) ? 1L : maxId + 1;
+    }
+
+    /**
+     * MySQL 은 id 를 직접 넣으면 auto_increment 가 따라 올라가지만, H2 는 identity 를 직접 옮겨야 다음 회원 가입 id 가 겹치지 않는다.
+     */
+    private void restartIdentity(String table, long nextId) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(database)) {
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + nextId);
+        }
+    }
+
+    private static class Chunk {
+        private final long firstMemberId;
+        private final int from;
+        private final int to;
+        private final Timestamp now;
+
+        private Chunk(long firstMemberId, int from, int to, Timestamp now) {
+            this.firstMemberId = firstMemberId;
+            this.from = from;
+            this.to = to;
+            this.now = now;
+        }
+
+        /**
+         * 묶음마다 연속된 6개의 회원 id 를 쓰며, order 는 묶음 안의 1부터 시작하는 순번이다.
+         */
+        private long memberId(int repeat, int order) {
+            return firstMemberId + (long) repeat * MEMBERS.size() + order - 1;
+        }
+    }
+
+    private static class MemberRow {
+        private final String email;
+        private final String name;
+        private final String imageUrl;
+
+        private MemberRow(String email, String name, String imageUrl) {
+            this.email = email;
+            this.name = name;
+            this.imageUrl = imageUrl;
+        }
+    }
+
+    private static class TeacherProfileRow {
+        private final String title;
+        private final String content;
+        private final int career;
+        private final int sumReviewCount;
+        private final double averageReviewTime;
+
+        private TeacherProfileRow(String title, String content, int career, int sumReviewCount, double averageReviewTime) {
+            this.title = title;
+            this.content = content;
+            this.career = career;
+            this.sumReviewCount = sumReviewCount;
+            this.averageReviewTime = averageReviewTime;
+        }
+    }
+
+    /**
+     * teacher, student 는 묶음 안의 회원 순번이다.
+     */
+    private static class ReviewRow {
+        private final int teacher;
+        private final int student;
+        private final String title;
+        private final String content;
+        private final String prUrl;
+        private final long elapsedTime;
+        private final Progress progress;
+
+        private ReviewRow(int teacher, int student, String title, String content, String prUrl, long elapsedTime, Progress progress) {
+            this.teacher = teacher;
+            this.student = student;
+            this.title = title;
+            this.content = content;
+            this.prUrl = prUrl;
+            this.elapsedTime = elapsedTime;
+            this.progress = progress;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+create table teacher_statistics
+(
+    id                      bigint not null,
+    pending_count           bigint not null default 0,
+    denied_count            bigint not null default 0,
+    on_going_count          bigint not null default 0,
+    teacher_completed_count bigint not null default 0,
+    finished_count          bigint not null default 0,
+    star_sum                bigint not null default 0,
+    star_count              bigint not null default 0,
+    last_activity_at        datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+insert into teacher_statistics (id, pending_count, denied_count, on_going_count, teacher_completed_count,
+                                finished_count, star_sum, star_count, last_activity_at)
+select tp.id,
+       (select count(*) from review r where r.teacher_id = tp.id and r.progress = 'PENDING'),
+       (select count(*) from review r where r.teacher_id = tp.id and r.progress = 'DENIED'),
+       (select count(*) from review r where r.teacher_id = tp.id and r.progress = 'ON_GOING'),
+       (select count(*) from review r where r.teacher_id = tp.id and r.progress = 'TEACHER_COMPLETED'),
+       (select count(*) from review r where r.teacher_id = tp.id and r.progress = 'FINISHED'),
+       (select coalesce(sum(f.star), 0) from feedback f join review r on f.id = r.id where r.teacher_id = tp.id),
+       (select count(*) from feedback f join review r on f.id = r.id where r.teacher_id = tp.id),
+       (select max(coalesce(r.updated_at, r.created_at)) from review r where r.teacher_id = tp.id)
+from teacher_profile tp;
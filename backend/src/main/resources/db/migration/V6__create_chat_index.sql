@@ -0,0 +1 @@
+CREATE INDEX `chat_roomId_createdAt` ON chat (room_id, created_at);
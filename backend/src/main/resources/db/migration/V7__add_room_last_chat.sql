@@ -0,0 +1,25 @@
+alter table room
+    add column last_chat_id        bigint,
+    add column last_chat_content   varchar(255),
+    add column last_chat_sender_id bigint,
+    add column last_chat_at        datetime(6);
+
+
+update room r
+    join (select c.room_id, max(c.id) as id
+          from chat c
+                   join (select room_id, max(created_at) as created_at
+                         from chat
+                         group by room_id) latest_at
+                        on latest_at.room_id = c.room_id and latest_at.created_at = c.created_at
+          group by c.room_id) latest_chat
+    on latest_chat.room_id = r.id
+    join chat c on c.id = latest_chat.id
+set r.last_chat_id        = c.id,
+    r.last_chat_content   = left(c.content, 255),
+    r.last_chat_sender_id = c.sender_id,
+    r.last_chat_at        = c.created_at;
+
+
+CREATE INDEX `room_teacherId_lastChatAt` ON room (teacher_id, last_chat_at);
+CREATE INDEX `room_studentId_lastChatAt` ON room (student_id, last_chat_at);
@@ -0,0 +1,37 @@
+update chat c
+    join room r on r.id = c.room_id
+    join (select teacher_id, student_id, min(id) as id
+          from room
+          group by teacher_id, student_id
+          having count(*) > 1) kept
+    on kept.teacher_id = r.teacher_id and kept.student_id = r.student_id
+set c.room_id = kept.id
+where r.id <> kept.id;
+
+
+delete r
+from room r
+         join (select teacher_id, student_id, min(id) as id
+               from room
+               group by teacher_id, student_id) kept
+              on kept.teacher_id = r.teacher_id and kept.student_id = r.student_id
+where r.id <> kept.id;
+
+
+update room r
+    join (select c.room_id, max(c.id) as id
+          from chat c
+                   join (select room_id, max(created_at) as created_at
+                         from chat
+                         group by room_id) latest_at
+                        on latest_at.room_id = c.room_id and latest_at.created_at = c.created_at
+          group by c.room_id) latest_chat
+    on latest_chat.room_id = r.id
+    join chat c on c.id = latest_chat.id
+set r.last_chat_id        = c.id,
+    r.last_chat_content   = left(c.content, 255),
+    r.last_chat_sender_id = c.sender_id,
+    r.last_chat_at        = c.created_at;
+
+
+CREATE UNIQUE INDEX `room_teacherId_studentId` ON room (teacher_id, student_id);
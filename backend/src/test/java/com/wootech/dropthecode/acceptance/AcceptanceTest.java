@@ -1,5 +1,6 @@
 package com.wootech.dropthecode.acceptance;
 
+import com.wootech.dropthecode.controller.cache.ResponseCache;
 import com.wootech.dropthecode.domain.oauth.InMemoryProviderRepository;
 import com.wootech.dropthecode.domain.oauth.OauthProvider;
 import com.wootech.dropthecode.dto.response.LoginResponse;
@@ -35,6 +36,9 @@ abstract class AcceptanceTest {
     @Autowired
     private DatabaseDefaultInsert databaseDefaultInsert;
 
+    @Autowired
+    private ResponseCache responseCache;
+
     @MockBean
     protected InMemoryProviderRepository inMemoryProviderRepository;
 
@@ -43,6 +47,7 @@ abstract class AcceptanceTest {
         RestAssured.port = port;
         databaseCleanup.execute();
         databaseDefaultInsert.insertDefaultLanguageAndSkill();
+        responseCache.clear();
     }
 
     protected LoginResponse 학생_로그인되어_있음(String name) {
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.wootech.dropthecode.dto.response.LanguageSkillsResponse;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +37,29 @@ class LanguageAcceptanceTest extends AcceptanceTest {
         assertThat(result.get(1).getSkills()).extracting("name").contains("vue", "react", "angular");
     }
 
+    @Test
+    @DisplayName("ETag 가 같으면 본문 없이 304 로 응답한다")
+    void getLanguagesNotModified() {
+        // given
+        String etag = 리뷰_상세_조회_요청().header(HttpHeaders.ETAG);
+        String cachedEtag = 리뷰_상세_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given()
+                                                            .header(HttpHeaders.IF_NONE_MATCH, etag)
+                                                            .when()
+                                                            .get("/languages")
+                                                            .then()
+                                                            .extract();
+
+        // then
+        assertThat(etag).isNotBlank();
+        assertThat(cachedEtag).isEqualTo(etag);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.asByteArray()).isEmpty();
+    }
+
     public static ExtractableResponse<Response> 리뷰_상세_조회_요청() {
         return RestAssured.given()
                           .when()
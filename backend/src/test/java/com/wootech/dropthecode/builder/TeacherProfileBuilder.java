@@ -20,4 +20,16 @@ public class TeacherProfileBuilder {
                              .createdAt(createdAt)
                              .build();
     }
+
+    public static TeacherProfile dummyTeacherProfile(String title, String content, Integer career, Member member,
+                                                     LocalDateTime createdAt, Integer sumReviewCount) {
+        return TeacherProfile.builder()
+                             .title(title)
+                             .content(content)
+                             .career(career)
+                             .member(member)
+                             .createdAt(createdAt)
+                             .sumReviewCount(sumReviewCount)
+                             .build();
+    }
 }
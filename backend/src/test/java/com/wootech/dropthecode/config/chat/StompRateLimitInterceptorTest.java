@@ -0,0 +1,71 @@
+package com.wootech.dropthecode.config.chat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StompRateLimitInterceptorTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private StompRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompRateLimitInterceptor(1, 2, now::get);
+    }
+
+    @Test
+    @DisplayName("세션별로 허용량을 넘은 SEND 프레임은 버려진다.")
+    void preSend() {
+        // given
+        interceptor.preSend(message(StompCommand.SEND, "session1"), null);
+        interceptor.preSend(message(StompCommand.SEND, "session1"), null);
+
+        // when
+        Message<?> limited = interceptor.preSend(message(StompCommand.SEND, "session1"), null);
+        Message<?> otherSession = interceptor.preSend(message(StompCommand.SEND, "session2"), null);
+
+        // then
+        assertThat(limited).isNull();
+        assertThat(otherSession).isNotNull();
+        assertThat(interceptor.countLimited()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 허용량이 다시 채워진다.")
+    void refill() {
+        // given
+        interceptor.preSend(message(StompCommand.SEND, "session1"), null);
+        interceptor.preSend(message(StompCommand.SEND, "session1"), null);
+
+        // when
+        now.addAndGet(1_000);
+
+        // then
+        assertThat(interceptor.preSend(message(StompCommand.SEND, "session1"), null)).isNotNull();
+        assertThat(interceptor.preSend(message(StompCommand.SEND, "session1"), null)).isNull();
+    }
+
+    @Test
+    @DisplayName("SEND 가 아닌 프레임은 제한하지 않는다.")
+    void preSendOtherCommand() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preSend(message(StompCommand.SUBSCRIBE, "session1"), null)).isNotNull();
+        }
+    }
+
+    private Message<byte[]> message(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -7,6 +7,7 @@ import javax.persistence.EntityNotFoundException;
 
 import com.wootech.dropthecode.dto.response.ChatResponse;
 import com.wootech.dropthecode.dto.response.LatestChatResponse;
+import com.wootech.dropthecode.exception.ChattingException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static com.wootech.dropthecode.controller.mockmvc.RestDocsMockMvcFactory.OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -34,6 +37,7 @@ class ChattingControllerTest extends ControllerTest {
     void findLatestChats() throws Exception {
         // given
         LatestChatResponse latestChatResponse = LatestChatResponse.builder()
+                                                                  .roomId(1L)
                                                                   .id(1L)
                                                                   .name("fafi")
                                                                   .imageUrl("https://avatars.githubusercontent.com/u/50273712?v=44")
@@ -43,10 +47,10 @@ class ChattingControllerTest extends ControllerTest {
 
         List<LatestChatResponse> latestChatResponses = Collections.singletonList(latestChatResponse);
 
-        given(chattingService.findAllLatestChats(isA(Long.class))).willReturn(latestChatResponses);
+        given(chattingService.findAllLatestChats(isA(Long.class), any())).willReturn(latestChatResponses);
 
         // when
-        ResultActions resultActions = this.successMockMvc.perform(get("/messages/1")
+        ResultActions resultActions = this.successMockMvc.perform(get("/messages/1?page=0&size=20")
                 .contentType(MediaType.APPLICATION_JSON));
 
 
@@ -59,7 +63,7 @@ class ChattingControllerTest extends ControllerTest {
     @DisplayName("유저의 최근 메시지들을 가져온다. - 존재하지 않는 유저로 인한 실패")
     void findLatestChatsFailure() throws Exception {
         // given
-        given(chattingService.findAllLatestChats(isA(Long.class))).willThrow(new EntityNotFoundException("존재하지 않는 멤버입니다."));
+        given(chattingService.findAllLatestChats(isA(Long.class), any())).willThrow(new EntityNotFoundException("존재하지 않는 멤버입니다."));
 
         // when
         ResultActions resultActions = this.failMockMvc.perform(get("/messages/1")
@@ -73,6 +77,7 @@ class ChattingControllerTest extends ControllerTest {
     @DisplayName("채팅방 id로 하나의 메시지함을 전체 조회한다. - 성공")
     void findAllChats() throws Exception {
         ChatResponse chatResponse = ChatResponse.builder()
+                                                .id(1L)
                                                 .senderId(1L)
                                                 .senderName("fafi")
                                                 .senderImageUrl("https://avatars.githubusercontent.com/u/50273712?v=44")
@@ -85,10 +90,10 @@ class ChattingControllerTest extends ControllerTest {
 
         List<ChatResponse> chatResponses = Collections.singletonList(chatResponse);
 
-        given(chattingService.findAllChats(isA(Long.class))).willReturn(chatResponses);
+        given(chattingService.findAllChats(isA(Long.class), any(), any(), anyInt())).willReturn(chatResponses);
 
         // when
-        ResultActions resultActions = this.successMockMvc.perform(get("/messages?roomId=1")
+        ResultActions resultActions = this.successMockMvc.perform(get("/messages?roomId=1&before=31&limit=30")
                 .contentType(MediaType.APPLICATION_JSON));
 
 
@@ -101,7 +106,7 @@ class ChattingControllerTest extends ControllerTest {
     @DisplayName("채팅방 id로 하나의 메시지함을 전체 조회한다. - 존재하지 않는 채팅방으로 인한 실패")
     void findAllChatsFailure() throws Exception {
         // given
-        given(chattingService.findAllChats(isA(Long.class))).willThrow(new EntityNotFoundException("존재하지 않는 방입니다."));
+        given(chattingService.findAllChats(isA(Long.class), any(), any(), anyInt())).willThrow(new EntityNotFoundException("존재하지 않는 방입니다."));
 
         // when
         ResultActions resultActions = this.failMockMvc.perform(get("/messages?roomId=1")
@@ -110,4 +115,18 @@ class ChattingControllerTest extends ControllerTest {
         // then
         resultActions.andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("채팅방 id로 하나의 메시지함을 조회한다. - before 와 after 를 함께 사용해 실패")
+    void findAllChatsWithBeforeAndAfter() throws Exception {
+        // given
+        given(chattingService.findAllChats(isA(Long.class), any(), any(), anyInt())).willThrow(new ChattingException("before 와 after 는 함께 사용할 수 없습니다."));
+
+        // when
+        ResultActions resultActions = this.failMockMvc.perform(get("/messages?roomId=1&before=1&after=2")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
 }
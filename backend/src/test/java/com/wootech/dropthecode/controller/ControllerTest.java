@@ -1,10 +1,13 @@
 package com.wootech.dropthecode.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootech.dropthecode.controller.cache.ResponseCache;
 import com.wootech.dropthecode.controller.mockmvc.HttpMockMvc;
 import com.wootech.dropthecode.controller.mockmvc.RestDocsMockMvcFactory;
 import com.wootech.dropthecode.controller.mockmvc.WebMockMvc;
 import com.wootech.dropthecode.service.*;
+import com.wootech.dropthecode.service.chat.ChatBroadcaster;
+import com.wootech.dropthecode.service.chat.ChatWriteBehind;
 import com.wootech.dropthecode.service.chat.RedisPublisher;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -88,4 +91,10 @@ public abstract class ControllerTest {
     protected NotificationService notificationService;
     @MockBean
     protected RedisPublisher redisPublisher;
+    @MockBean
+    protected ChatWriteBehind chatWriteBehind;
+    @MockBean
+    protected ChatBroadcaster chatBroadcaster;
+    @MockBean
+    protected ResponseCache responseCache;
 }
@@ -0,0 +1,90 @@
+package com.wootech.dropthecode.domain;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeacherStatistics 도메인 테스트")
+class TeacherStatisticsTest {
+
+    @Test
+    @DisplayName("리뷰 상태별 개수 증가")
+    void increase() {
+        // given
+        TeacherStatistics teacherStatistics = new TeacherStatistics(1L);
+
+        // when
+        teacherStatistics.increase(Progress.PENDING, 2);
+        teacherStatistics.increase(Progress.FINISHED, 1);
+
+        // then
+        assertThat(teacherStatistics.countOf(Progress.PENDING)).isEqualTo(2L);
+        assertThat(teacherStatistics.countOf(Progress.FINISHED)).isEqualTo(1L);
+        assertThat(teacherStatistics.countOf(Progress.ON_GOING)).isZero();
+    }
+
+    @Test
+    @DisplayName("평균 별점 계산")
+    void averageStar() {
+        // given
+        TeacherStatistics teacherStatistics = new TeacherStatistics(1L);
+
+        // when
+        teacherStatistics.addStar(14, 3);
+
+        // then
+        assertThat(teacherStatistics.averageStar()).isEqualTo(4.7);
+    }
+
+    @Test
+    @DisplayName("평균 별점 계산 - 피드백이 없는 경우")
+    void averageStarWithoutFeedback() {
+        // given
+        TeacherStatistics teacherStatistics = new TeacherStatistics(1L);
+
+        // when
+        double averageStar = teacherStatistics.averageStar();
+
+        // then
+        assertThat(averageStar).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 활동 시간은 더 최근 시간으로만 갱신")
+    void recordActivity() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TeacherStatistics teacherStatistics = new TeacherStatistics(1L);
+
+        // when
+        teacherStatistics.recordActivity(now);
+        teacherStatistics.recordActivity(now.minusDays(1));
+
+        // then
+        assertThat(teacherStatistics.getLastActivityAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("원본 데이터와 다른 통계 보정")
+    void overwrite() {
+        // given
+        TeacherStatistics stored = new TeacherStatistics(1L);
+        stored.increase(Progress.PENDING, 3);
+
+        TeacherStatistics actual = new TeacherStatistics(1L);
+        actual.increase(Progress.PENDING, 1);
+        actual.increase(Progress.ON_GOING, 2);
+
+        // when
+        boolean same = stored.hasSameValues(actual);
+        stored.overwrite(actual);
+
+        // then
+        assertThat(same).isFalse();
+        assertThat(stored.hasSameValues(actual)).isTrue();
+        assertThat(stored.countOf(Progress.ON_GOING)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.wootech.dropthecode.dto;
+
+import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.exception.TeacherException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TeacherCursor 테스트")
+class TeacherCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 디코딩하면 정렬 키와 id가 유지된다")
+    void encodeAndDecode() {
+        // given
+        TeacherProfile teacherProfile = TeacherProfile.builder()
+                                                      .id(7L)
+                                                      .career(3)
+                                                      .averageReviewTime(2.4)
+                                                      .build();
+        TeacherCursor cursor = TeacherCursor.of(TeacherCursor.AVERAGE_REVIEW_TIME, teacherProfile);
+
+        // when
+        TeacherCursor decoded = TeacherCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getProperty()).isEqualTo(TeacherCursor.AVERAGE_REVIEW_TIME);
+        assertThat(decoded.getValue()).isEqualTo(2.4);
+        assertThat(decoded.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("정렬 값이 없는 리뷰어는 0으로 인코딩된다")
+    void nullSortValue() {
+        // given
+        TeacherProfile teacherProfile = TeacherProfile.builder()
+                                                      .id(1L)
+                                                      .career(3)
+                                                      .build();
+
+        // when
+        TeacherCursor cursor = TeacherCursor.of(TeacherCursor.SUM_REVIEW_COUNT, teacherProfile);
+
+        // then
+        assertThat(cursor.getValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 디코딩할 수 없다")
+    void decodeInvalidCursor() {
+        assertThatThrownBy(() -> TeacherCursor.decode("invalid-cursor"))
+                .isInstanceOf(TeacherException.class);
+    }
+
+    @Test
+    @DisplayName("커서의 정렬 조건과 요청의 정렬 조건이 다르면 예외가 발생한다")
+    void validateProperty() {
+        // given
+        TeacherCursor cursor = new TeacherCursor(TeacherCursor.CAREER, 3.0, 1L);
+
+        // when
+        // then
+        assertThatThrownBy(() -> cursor.validateProperty(TeacherCursor.SUM_REVIEW_COUNT))
+                .isInstanceOf(TeacherException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.wootech.dropthecode.integration.auth;
+
+import com.wootech.dropthecode.IntegrationTest;
+import com.wootech.dropthecode.repository.RevokedMemberStore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedMemberStoreTest extends IntegrationTest {
+
+    @Autowired
+    private RevokedMemberStore revokedMemberStore;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete("member:revoked:1");
+        redisTemplate.delete("member:revoked:2");
+    }
+
+    @Test
+    @DisplayName("폐기 이전에 발급된 토큰만 거부한다.")
+    void isRevoked() {
+        // given
+        long issuedBefore = System.currentTimeMillis() - 60_000;
+
+        // when
+        revokedMemberStore.revoke(1L);
+        long issuedAfter = System.currentTimeMillis() + 1_000;
+
+        // then
+        assertThat(revokedMemberStore.isRevoked(1L, issuedBefore)).isTrue();
+        assertThat(revokedMemberStore.isRevoked(1L, issuedAfter)).isFalse();
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 회원의 토큰은 거부하지 않는다.")
+    void isNotRevoked() {
+        // given
+        long issuedAt = System.currentTimeMillis() - 60_000;
+
+        // when
+        revokedMemberStore.revoke(1L);
+
+        // then
+        assertThat(revokedMemberStore.isRevoked(2L, issuedAt)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.wootech.dropthecode.integration.cache;
+
+import com.wootech.dropthecode.service.LanguageCatalog;
+import com.wootech.dropthecode.service.LanguageCatalogChangedEvent;
+import com.wootech.dropthecode.service.LanguageService;
+import com.wootech.dropthecode.util.DatabaseDefaultInsert;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LanguageCatalogTest extends CachingTest {
+
+    @Autowired
+    private DatabaseDefaultInsert databaseDefaultInsert;
+
+    @Autowired
+    private LanguageService languageService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("언어 목록 스냅샷은 한 번만 조회한다")
+    void catalogLoadedOnce() {
+        // given
+        databaseDefaultInsert.insertDefaultLanguageAndSkill();
+        LanguageCatalog catalog = languageService.catalog();
+        sessionFactory.getStatistics().clear();
+
+        // when
+        languageService.findAll();
+        languageService.findAllToMap();
+
+        // then
+        assertThat(languageService.catalog()).isSameAs(catalog);
+        assertThat(sessionFactory.getStatistics().getPrepareStatementCount()).isZero();
+        assertThat(catalog.getLanguages()).containsKeys("java", "javascript", "python", "kotlin", "c");
+        assertThat(catalog.getSkills()).containsKeys("spring", "vue", "react", "angular", "django");
+        assertThat(catalog.getResponses()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("언어 목록이 바뀌면 새 버전의 스냅샷을 만든다")
+    void catalogRefreshedOnChange() {
+        // given
+        databaseDefaultInsert.insertDefaultLanguageAndSkill();
+        LanguageCatalog before = languageService.catalog();
+
+        // when
+        eventPublisher.publishEvent(new LanguageCatalogChangedEvent());
+        LanguageCatalog after = languageService.catalog();
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+    }
+
+    @Test
+    @DisplayName("스냅샷의 언어는 트랜잭션 밖에서도 기술 목록을 읽을 수 있다")
+    void catalogInitializesSkills() {
+        // given
+        databaseDefaultInsert.insertDefaultLanguageAndSkill();
+
+        // when
+        LanguageCatalog catalog = languageService.catalog();
+
+        // then
+        assertThat(catalog.getLanguages().get("javascript").getSkills()).hasSize(3);
+    }
+}
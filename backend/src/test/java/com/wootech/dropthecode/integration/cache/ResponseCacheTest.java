@@ -0,0 +1,217 @@
+package com.wootech.dropthecode.controller.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.wootech.dropthecode.service.MemberProfileChangedEvent;
+import com.wootech.dropthecode.service.ReviewChangedEvent;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+import com.wootech.dropthecode.service.cache.CacheInvalidationPublisher;
+
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class ResponseCacheTest {
+    private final AtomicLong now = new AtomicLong(0);
+    private final CacheInvalidationPublisher cacheInvalidationPublisher = mock(CacheInvalidationPublisher.class);
+    private final ResponseCache responseCache = new ResponseCache(Duration.ofSeconds(60), Duration.ofSeconds(10), 2, now::get,
+            cacheInvalidationPublisher);
+
+    @Test
+    @DisplayName("같은 본문은 같은 ETag 를 갖는다.")
+    void sameBodySameEtag() {
+        // given
+        CachedResponse first = response("{\"id\":1}");
+        CachedResponse second = response("{\"id\":1}");
+
+        // when
+        // then
+        assertThat(first.getEtag()).isEqualTo(second.getEtag())
+                                   .startsWith("\"")
+                                   .endsWith("\"");
+        assertThat(response("{\"id\":2}").getEtag()).isNotEqualTo(first.getEtag());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나기 전에는 저장한 응답을 반환한다.")
+    void getBeforeExpired() {
+        // given
+        responseCache.put("/teachers/1", response("{\"id\":1}"), 0L);
+
+        // when
+        now.set(59_999);
+
+        // then
+        assertThat(responseCache.get("/teachers/1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 응답을 비운다.")
+    void getAfterExpired() {
+        // given
+        responseCache.put("/teachers/1", response("{\"id\":1}"), 0L);
+
+        // when
+        now.set(60_000);
+
+        // then
+        assertThat(responseCache.get("/teachers/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("지운 뒤 grace 동안은 다시 저장하지 않는다.")
+    void rejectPutDuringGrace() {
+        // given
+        responseCache.put("/reviews/1", response("{\"id\":1}"), 0L);
+        responseCache.evictReview(new ReviewChangedEvent(1L));
+
+        // when
+        now.set(9_999);
+        responseCache.put("/reviews/1", response("{\"id\":1}"), 9_999);
+
+        // then
+        assertThat(responseCache.get("/reviews/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("지우기 전에 시작한 요청의 응답은 grace 가 지나도 저장하지 않는다.")
+    void rejectPutStartedBeforeEviction() {
+        // given
+        now.set(5_000);
+        responseCache.evictReview(new ReviewChangedEvent(1L));
+
+        // when
+        now.set(20_000);
+        responseCache.put("/reviews/1", response("{\"id\":1}"), 4_000);
+
+        // then
+        assertThat(responseCache.get("/reviews/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("grace 가 지난 뒤 시작한 요청의 응답은 다시 저장한다.")
+    void putAfterGrace() {
+        // given
+        responseCache.evictReview(new ReviewChangedEvent(1L));
+
+        // when
+        now.set(10_000);
+        responseCache.put("/reviews/1", response("{\"id\":1}"), 10_000);
+
+        // then
+        assertThat(responseCache.get("/reviews/1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("응답을 지우면 다른 노드에도 알린다.")
+    void publishEviction() {
+        // given
+        responseCache.put("/reviews/1", response("{\"id\":1}"), 0L);
+
+        // when
+        responseCache.evictReview(new ReviewChangedEvent(1L));
+
+        // then
+        then(cacheInvalidationPublisher).should().publish(CacheInvalidation.Target.REVIEW, 1L);
+    }
+
+    @Test
+    @DisplayName("회원 프로필이 바뀌면 그 회원의 리뷰어 응답과 참여한 리뷰 응답만 지운다.")
+    void evictMemberProfile() {
+        // given
+        responseCache.put("/teachers/1", response("{\"id\":1}"), 0L);
+        responseCache.put("/reviews/2", response("{\"id\":2}"), 0L);
+
+        // when
+        responseCache.evictMemberProfile(new MemberProfileChangedEvent(1L, Collections.singletonList(3L)));
+
+        // then
+        assertThat(responseCache.get("/teachers/1")).isNull();
+        assertThat(responseCache.get("/reviews/2")).isNotNull();
+        then(cacheInvalidationPublisher).should().publish(CacheInvalidation.Target.REVIEW, 3L);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 지운 응답은 이 노드에서도 지운다.")
+    void evictOnRemoteInvalidation() {
+        // given
+        responseCache.put("/teachers/1", response("{\"id\":1}"), 0L);
+        responseCache.put("/reviews/1", response("{\"id\":1}"), 0L);
+
+        // when
+        responseCache.onInvalidation(new CacheInvalidation("other", CacheInvalidation.Target.TEACHER, 1L));
+        responseCache.onInvalidation(new CacheInvalidation("other", CacheInvalidation.Target.ALL_REVIEWS, null));
+
+        // then
+        assertThat(responseCache.get("/teachers/1")).isNull();
+        assertThat(responseCache.get("/reviews/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료된 항목부터 정리한다.")
+    void evictExpiredWhenFull() {
+        // given
+        responseCache.put("/teachers/1", response("{\"id\":1}"), 0L);
+        now.set(30_000);
+        responseCache.put("/teachers/2", response("{\"id\":2}"), 30_000);
+        now.set(60_000);
+
+        // when
+        responseCache.put("/teachers/3", response("{\"id\":3}"), 60_000);
+
+        // then
+        assertThat(responseCache.size()).isEqualTo(2);
+        assertThat(responseCache.get("/teachers/2")).isNotNull();
+        assertThat(responseCache.get("/teachers/3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("살아 있는 응답으로 가득 차면 전체를 비우지 않고 만료가 가장 가까운 응답만 지운다.")
+    void evictOldestWhenFullOfLiveEntries() {
+        // given
+        responseCache.put("/teachers/1", response("{\"id\":1}"), 0L);
+        now.set(10_000);
+        responseCache.put("/teachers/2", response("{\"id\":2}"), 10_000);
+        now.set(20_000);
+
+        // when
+        responseCache.put("/teachers/3", response("{\"id\":3}"), 20_000);
+
+        // then
+        assertThat(responseCache.size()).isEqualTo(2);
+        assertThat(responseCache.get("/teachers/1")).isNull();
+        assertThat(responseCache.get("/teachers/2")).isNotNull();
+        assertThat(responseCache.get("/teachers/3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("리뷰어, 리뷰 상세, 언어 목록 GET 요청만 캐시한다.")
+    void keyOf() {
+        assertThat(ResponseCache.keyOf(request("GET", "/teachers/1", null))).isEqualTo("/teachers/1");
+        assertThat(ResponseCache.keyOf(request("GET", "/reviews/1", null))).isEqualTo("/reviews/1");
+        assertThat(ResponseCache.keyOf(request("GET", "/languages", null))).isEqualTo("/languages");
+        assertThat(ResponseCache.keyOf(request("GET", "/teachers/me", null))).isNull();
+        assertThat(ResponseCache.keyOf(request("GET", "/reviews/student/1", null))).isNull();
+        assertThat(ResponseCache.keyOf(request("GET", "/teachers/1", "page=1"))).isNull();
+        assertThat(ResponseCache.keyOf(request("PATCH", "/reviews/1", null))).isNull();
+    }
+
+    private static CachedResponse response(String body) {
+        return CachedResponse.of(MediaType.APPLICATION_JSON_VALUE, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String queryString) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setQueryString(queryString);
+        return request;
+    }
+}
@@ -0,0 +1,136 @@
+package com.wootech.dropthecode.controller.auth.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.wootech.dropthecode.domain.LoginMember;
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.VerifiedToken;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenCacheTest {
+    private final AtomicLong now = new AtomicLong(0);
+    private final TokenCache tokenCache = new TokenCache(Duration.ofSeconds(30), 2, now::get);
+
+    @Test
+    @DisplayName("TTL 이 지나기 전에는 검증된 토큰을 반환한다.")
+    void getBeforeExpired() {
+        // given
+        tokenCache.put("token", new VerifiedToken("1", Role.STUDENT, 0L, 60_000), new LoginMember(1L));
+
+        // when
+        now.set(29_999);
+
+        // then
+        assertThat(tokenCache.getToken("token").getSubject()).isEqualTo("1");
+        assertThat(tokenCache.getLoginMember("token").getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 토큰을 다시 검증하도록 비운다.")
+    void getAfterExpired() {
+        // given
+        tokenCache.put("token", new VerifiedToken("1", Role.STUDENT, 0L, 60_000));
+
+        // when
+        now.set(30_000);
+
+        // then
+        assertThat(tokenCache.getToken("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 TTL 보다 이르면 토큰 만료 시각까지만 보관한다.")
+    void expiresWithToken() {
+        // given
+        tokenCache.put("token", new VerifiedToken("1", Role.STUDENT, 0L, 10_000));
+
+        // when
+        now.set(10_000);
+
+        // then
+        assertThat(tokenCache.getToken("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료된 항목부터 정리한다.")
+    void evictExpiredWhenFull() {
+        // given
+        tokenCache.put("expired", new VerifiedToken("1", Role.STUDENT, 0L, 1_000));
+        tokenCache.put("alive", new VerifiedToken("2", Role.STUDENT, 0L, 60_000));
+        now.set(1_000);
+
+        // when
+        tokenCache.put("new", new VerifiedToken("3", Role.STUDENT, 0L, 60_000));
+
+        // then
+        assertThat(tokenCache.size()).isEqualTo(2);
+        assertThat(tokenCache.getToken("alive")).isNotNull();
+        assertThat(tokenCache.getToken("new")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("살아 있는 토큰으로 가득 차면 전체를 비우지 않고 만료가 가장 가까운 토큰만 지운다.")
+    void evictOldestWhenFullOfLiveEntries() {
+        // given
+        tokenCache.put("first", new VerifiedToken("1", Role.STUDENT, 0L, 60_000));
+        now.set(1_000);
+        tokenCache.put("second", new VerifiedToken("2", Role.STUDENT, 0L, 60_000));
+        now.set(2_000);
+
+        // when
+        tokenCache.put("third", new VerifiedToken("3", Role.STUDENT, 0L, 60_000));
+
+        // then
+        assertThat(tokenCache.size()).isEqualTo(2);
+        assertThat(tokenCache.getToken("first")).isNull();
+        assertThat(tokenCache.getToken("second")).isNotNull();
+        assertThat(tokenCache.getToken("third")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 캐시에서 제거한다.")
+    void evict() {
+        // given
+        tokenCache.put("token", new VerifiedToken("1", Role.STUDENT, 0L, 60_000));
+
+        // when
+        tokenCache.evict("token");
+
+        // then
+        assertThat(tokenCache.getToken("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 토큰은 모두 캐시에서 제거한다.")
+    void evictAllByMemberId() {
+        // given
+        tokenCache.put("first", new VerifiedToken("1", Role.STUDENT, 0L, 60_000), new LoginMember(1L));
+        tokenCache.put("second", new VerifiedToken("2", Role.STUDENT, 0L, 60_000), new LoginMember(2L));
+
+        // when
+        tokenCache.evictAllByMemberId(1L);
+
+        // then
+        assertThat(tokenCache.getLoginMember("first")).isNull();
+        assertThat(tokenCache.getLoginMember("second")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 탈퇴한 회원의 토큰도 캐시에서 제거한다.")
+    void evictOnRemoteInvalidation() {
+        // given
+        tokenCache.put("token", new VerifiedToken("1", Role.STUDENT, 0L, 60_000), new LoginMember(1L));
+
+        // when
+        tokenCache.onInvalidation(new CacheInvalidation("other-node", CacheInvalidation.Target.MEMBER, 1L));
+
+        // then
+        assertThat(tokenCache.getToken("token")).isNull();
+    }
+}
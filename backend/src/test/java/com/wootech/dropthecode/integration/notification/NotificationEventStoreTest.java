@@ -0,0 +1,89 @@
+package com.wootech.dropthecode.integration.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.wootech.dropthecode.IntegrationTest;
+import com.wootech.dropthecode.dto.response.NotificationResponse;
+import com.wootech.dropthecode.repository.NotificationEventStore;
+import com.wootech.dropthecode.service.notification.NotificationMessage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationEventStoreTest extends IntegrationTest {
+
+    @Autowired
+    private NotificationEventStore notificationEventStore;
+
+    @BeforeEach
+    void setUp() {
+        notificationEventStore.deleteAllByMemberId(1L);
+        notificationEventStore.deleteAllByMemberId(2L);
+    }
+
+    @Test
+    @DisplayName("이벤트 id 는 회원과 관계없이 단조 증가하고, 마지막 수신 id 이후의 이벤트만 조회된다.")
+    void findAllAfter() {
+        // given
+        NotificationMessage first = notificationEventStore.append(1L, notification(1L));
+        NotificationMessage second = notificationEventStore.append(2L, notification(2L));
+        NotificationMessage third = notificationEventStore.append(1L, notification(3L));
+
+        // when
+        List<NotificationMessage> messages = notificationEventStore.findAllAfter(1L, first.getEventId());
+
+        // then
+        assertThat(first.getEventId()).isLessThan(second.getEventId());
+        assertThat(second.getEventId()).isLessThan(third.getEventId());
+        assertThat(messages).extracting(NotificationMessage::getEventId)
+                            .containsExactly(third.getEventId());
+        assertThat(messages.get(0).getNotification().getId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("회원별로 최대 개수를 넘는 오래된 이벤트는 제거된다.")
+    void appendOverMaxSize() {
+        // given
+        IntStream.rangeClosed(1, 101)
+                 .forEach(id -> notificationEventStore.append(1L, notification((long) id)));
+
+        // when
+        List<NotificationMessage> messages = notificationEventStore.findAllAfter(1L, 0L);
+
+        // then
+        assertThat(messages).hasSize(100);
+        assertThat(messages.get(0).getNotification().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("회원의 이벤트 삭제")
+    void deleteAllByMemberId() {
+        // given
+        notificationEventStore.append(1L, notification(1L));
+        notificationEventStore.append(2L, notification(2L));
+
+        // when
+        notificationEventStore.deleteAllByMemberId(1L);
+
+        // then
+        assertThat(notificationEventStore.findAllAfter(1L, 0L)).isEmpty();
+        assertThat(notificationEventStore.findAllAfter(2L, 0L)).hasSize(1);
+    }
+
+    private NotificationResponse notification(Long id) {
+        return NotificationResponse.builder()
+                                   .id(id)
+                                   .content("새로운 리뷰 요청이 도착했습니다!")
+                                   .url("/reviews/" + id)
+                                   .read(false)
+                                   .createdAt(LocalDateTime.now())
+                                   .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.wootech.dropthecode.integration.statistics;
+
+import java.time.Duration;
+
+import com.wootech.dropthecode.IntegrationTest;
+import com.wootech.dropthecode.domain.LoginMember;
+import com.wootech.dropthecode.domain.Member;
+import com.wootech.dropthecode.domain.Progress;
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.TeacherStatistics;
+import com.wootech.dropthecode.dto.request.FeedbackRequest;
+import com.wootech.dropthecode.dto.request.ReviewRequest;
+import com.wootech.dropthecode.repository.MemberRepository;
+import com.wootech.dropthecode.repository.ReviewRepository;
+import com.wootech.dropthecode.repository.TeacherStatisticsRepository;
+import com.wootech.dropthecode.service.ReviewService;
+import com.wootech.dropthecode.service.TeacherStatisticsReconciler;
+import com.wootech.dropthecode.service.TeacherStatisticsService;
+import com.wootech.dropthecode.util.DatabaseCleanup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.wootech.dropthecode.builder.MemberBuilder.dummyMember;
+import static com.wootech.dropthecode.builder.ReviewBuilder.dummyReview;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeacherStatisticsIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private TeacherStatisticsService teacherStatisticsService;
+
+    @Autowired
+    private TeacherStatisticsRepository teacherStatisticsRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private TeacherStatisticsReconciler teacherStatisticsReconciler;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Member teacher;
+    private Member student;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        teacher = memberRepository.save(dummyMember("1", "air.junseo@gmail.com", "air", "s3://image1", "github url1", Role.TEACHER));
+        student = memberRepository.save(dummyMember("2", "max9106@naver.com", "max", "s3://image2", "github url2", Role.STUDENT));
+    }
+
+    @Test
+    @DisplayName("리뷰 상태 변경과 피드백 작성 시 통계 갱신")
+    void updateStatisticsByReviewTransition() {
+        // given
+        LoginMember studentLogin = new LoginMember(student.getId());
+        LoginMember teacherLogin = new LoginMember(teacher.getId());
+        ReviewRequest request = new ReviewRequest(student.getId(), teacher.getId(), "title", "content", "prUrl");
+        Long reviewId = reviewService.create(studentLogin, request);
+
+        // when
+        reviewService.acceptReview(teacherLogin, reviewId);
+        TeacherStatistics accepted = teacherStatisticsService.findByTeacherId(teacher.getId());
+
+        // then
+        assertThat(accepted.countOf(Progress.PENDING)).isZero();
+        assertThat(accepted.countOf(Progress.ON_GOING)).isEqualTo(1L);
+        assertThat(accepted.getLastActivityAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("리뷰 완료 후 피드백 별점 반영")
+    void addStarByFeedback() {
+        // given
+        LoginMember studentLogin = new LoginMember(student.getId());
+        reviewRepository.save(dummyReview(teacher, student, "title", "content", "prUrl", 0L, Progress.TEACHER_COMPLETED));
+        Long reviewId = reviewRepository.findAll().get(0).getId();
+
+        // when
+        reviewService.updateToFinishReview(studentLogin, reviewId, new FeedbackRequest(4, "좋은 리뷰 감사합니다."));
+        TeacherStatistics finished = teacherStatisticsService.findByTeacherId(teacher.getId());
+
+        // then
+        assertThat(finished.countOf(Progress.FINISHED)).isEqualTo(1L);
+        assertThat(finished.countOf(Progress.TEACHER_COMPLETED)).isZero();
+        assertThat(finished.getStarCount()).isEqualTo(1L);
+        assertThat(finished.averageStar()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("원본 데이터와 어긋난 통계 보정")
+    void reconcile() {
+        // given
+        reviewRepository.save(dummyReview(teacher, student, "title1", "content1", "prUrl1", 0L, Progress.PENDING));
+        reviewRepository.save(dummyReview(teacher, student, "title2", "content2", "prUrl2", 0L, Progress.ON_GOING));
+        teacherStatisticsRepository.save(new TeacherStatistics(teacher.getId()));
+
+        // when
+        int repaired = teacherStatisticsService.reconcile();
+        TeacherStatistics reconciled = teacherStatisticsService.findByTeacherId(teacher.getId());
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(reconciled.countOf(Progress.PENDING)).isEqualTo(1L);
+        assertThat(reconciled.countOf(Progress.ON_GOING)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 잠금을 가지고 있으면 보정하지 않는다")
+    void reconcileWhenLocked() {
+        // given
+        reviewRepository.save(dummyReview(teacher, student, "title1", "content1", "prUrl1", 0L, Progress.PENDING));
+        teacherStatisticsRepository.save(new TeacherStatistics(teacher.getId()));
+        redisTemplate.opsForValue().set("lock:teacher-statistics:reconcile", "other", Duration.ofMinutes(1));
+
+        // when
+        try {
+            teacherStatisticsReconciler.reconcile();
+        } finally {
+            redisTemplate.delete("lock:teacher-statistics:reconcile");
+        }
+
+        // then
+        TeacherStatistics stored = teacherStatisticsService.findByTeacherId(teacher.getId());
+        assertThat(stored.countOf(Progress.PENDING)).isZero();
+    }
+}
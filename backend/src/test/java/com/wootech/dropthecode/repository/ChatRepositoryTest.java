@@ -0,0 +1,104 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.wootech.dropthecode.config.JpaConfig;
+import com.wootech.dropthecode.domain.Member;
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.chatting.Chat;
+import com.wootech.dropthecode.domain.chatting.Room;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.wootech.dropthecode.builder.MemberBuilder.dummyMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(JpaConfig.class)
+@DataJpaTest
+class ChatRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    private Room room;
+    private final List<Chat> chats = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member teacher = em.persist(dummyMember("oauth1", "email1@gmail.com", "air", "s3://imageUrl1", "github url1", Role.TEACHER));
+        Member student = em.persist(dummyMember("oauth2", "email2@gmail.com", "seed", "s3://imageUrl2", "github url2", Role.STUDENT));
+        room = em.persist(new Room(teacher, student));
+        Room otherRoom = em.persist(new Room(student, teacher));
+
+        for (int i = 1; i <= 5; i++) {
+            chats.add(em.persist(new Chat(room, student, teacher, "message" + i)));
+            em.persist(new Chat(otherRoom, teacher, student, "other message" + i));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("채팅방의 최신 메시지 조회")
+    void findLatest() {
+        // when
+        List<Chat> result = chatRepository.findLatest(room.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(result).extracting(Chat::getContent)
+                          .containsExactly("message5", "message4");
+    }
+
+    @Test
+    @DisplayName("커서 메시지 이전의 메시지 조회")
+    void findAllBefore() {
+        // given
+        Chat cursor = chats.get(3);
+        LocalDateTime createdAt = chatRepository.findCreatedAtByIdAndRoomId(cursor.getId(), room.getId()).get();
+
+        // when
+        List<Chat> result = chatRepository.findAllBefore(room.getId(), createdAt, cursor.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(result).extracting(Chat::getContent)
+                          .containsExactly("message3", "message2");
+    }
+
+    @Test
+    @DisplayName("커서 메시지 이후의 메시지 조회")
+    void findAllAfter() {
+        // given
+        Chat cursor = chats.get(1);
+        LocalDateTime createdAt = chatRepository.findCreatedAtByIdAndRoomId(cursor.getId(), room.getId()).get();
+
+        // when
+        List<Chat> result = chatRepository.findAllAfter(room.getId(), createdAt, cursor.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(result).extracting(Chat::getContent)
+                          .containsExactly("message3", "message4");
+    }
+
+    @Test
+    @DisplayName("다른 채팅방의 메시지는 커서로 사용할 수 없다.")
+    void findCreatedAtByIdAndRoomIdWithOtherRoom() {
+        // when
+        Long otherRoomId = room.getId() + 1;
+
+        // then
+        assertThat(chatRepository.findCreatedAtByIdAndRoomId(chats.get(0).getId(), otherRoomId)).isEmpty();
+    }
+}
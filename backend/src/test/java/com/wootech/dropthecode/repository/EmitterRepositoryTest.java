@@ -0,0 +1,87 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmitterRepositoryTest {
+
+    private EmitterRepository emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository();
+    }
+
+    @Test
+    @DisplayName("회원 id 로 emitter 조회 - 다른 회원의 id 가 접두사로 겹쳐도 조회되지 않는다.")
+    void findAllByMemberId() {
+        // given
+        emitterRepository.save(1L, "1_1000", new SseEmitter());
+        emitterRepository.save(1L, "1_2000", new SseEmitter());
+        emitterRepository.save(12L, "12_1000", new SseEmitter());
+
+        // when
+        int count = emitterRepository.findAllByMemberId(1L).size();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(emitterRepository.findAllByMemberId(12L)).containsOnlyKeys("12_1000");
+    }
+
+    @Test
+    @DisplayName("emitter 삭제 - 마지막 emitter 가 삭제되면 회원도 제거된다.")
+    void deleteById() {
+        // given
+        emitterRepository.save(1L, "1_1000", new SseEmitter());
+
+        // when
+        emitterRepository.deleteById(1L, "1_1000");
+
+        // then
+        assertThat(emitterRepository.findAllByMemberId(1L)).isEmpty();
+        assertThat(emitterRepository.countMembers()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원의 모든 emitter 삭제")
+    void deleteAllByMemberId() {
+        // given
+        emitterRepository.save(1L, "1_1000", new SseEmitter());
+        emitterRepository.save(1L, "1_2000", new SseEmitter());
+        emitterRepository.save(12L, "12_1000", new SseEmitter());
+
+        // when
+        emitterRepository.deleteAllByMemberId(1L);
+
+        // then
+        assertThat(emitterRepository.countMembers()).isEqualTo(1);
+        assertThat(emitterRepository.countEmitters()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 emitter 삭제와 새 emitter 저장이 겹쳐도 새 emitter 는 남는다.")
+    void saveWhileDeletingLastEmitter() {
+        for (int i = 0; i < 1_000; i++) {
+            // given
+            String oldId = "1_" + i;
+            String newId = "1_" + (i + 1_000_000);
+            emitterRepository.save(1L, oldId, new SseEmitter());
+
+            // when
+            CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> emitterRepository.deleteById(1L, oldId));
+            CompletableFuture<Void> save = CompletableFuture.runAsync(() -> emitterRepository.save(1L, newId, new SseEmitter()));
+            CompletableFuture.allOf(delete, save).join();
+
+            // then
+            assertThat(emitterRepository.findAllByMemberId(1L)).containsOnlyKeys(newId);
+            emitterRepository.deleteAllByMemberId(1L);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.wootech.dropthecode.domain.Member;
 import com.wootech.dropthecode.domain.Progress;
 import com.wootech.dropthecode.domain.Role;
 import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.domain.TeacherStatistics;
 import com.wootech.dropthecode.domain.review.Review;
 import com.wootech.dropthecode.dto.ReviewSummary;
 import com.wootech.dropthecode.dto.request.ReviewSearchCondition;
@@ -316,6 +317,28 @@ class ReviewRepositoryCustomImplTest {
                                             .contains(airSeed1.getTitle(), airFafi1.getTitle(), airSeed2.getTitle());
         }
 
+        @Test
+        @DisplayName("선생님 통계가 있으면 리뷰 상태별 카운터로 전체 페이지 수를 구한다")
+        void countFromStatistics() {
+            // given
+            TeacherStatistics statistics = new TeacherStatistics(airTe.getId());
+            statistics.increase(Progress.ON_GOING, 10);
+            statistics.increase(Progress.FINISHED, 2);
+            em.persist(statistics);
+
+            Pageable pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "createdAt"));
+            ReviewSearchCondition condition = new ReviewSearchCondition(
+                    Arrays.asList(Progress.ON_GOING, Progress.FINISHED),
+                    null);
+
+            // when
+            Page<ReviewSummary> results = reviewRepository.searchPageByTeacherId(airTe.getId(), condition, pageable);
+
+            // then
+            assertThat(results.getTotalElements()).isEqualTo(12);
+            assertThat(results.getTotalPages()).isEqualTo(4);
+        }
+
         @Test
         @DisplayName("학생 이름 & 리뷰 상태로 필터 - /reviews/teacher/{id}?page=0&size=3&name={studentName}&progress=ON_GOING,FINISHED&sort=createdAt,asc")
         void filterStudentNameAndProgress() {
@@ -0,0 +1,117 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.wootech.dropthecode.config.JpaConfig;
+import com.wootech.dropthecode.domain.Member;
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.chatting.Chat;
+import com.wootech.dropthecode.domain.chatting.Room;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.wootech.dropthecode.builder.MemberBuilder.dummyMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(JpaConfig.class)
+@DataJpaTest
+class RoomRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    private Member air;
+    private Member seed;
+    private Member fafi;
+
+    @BeforeEach
+    void setUp() {
+        air = em.persist(dummyMember("oauth1", "email1@gmail.com", "air", "s3://imageUrl1", "github url1", Role.TEACHER));
+        seed = em.persist(dummyMember("oauth2", "email2@gmail.com", "seed", "s3://imageUrl2", "github url2", Role.STUDENT));
+        fafi = em.persist(dummyMember("oauth3", "email3@gmail.com", "fafi", "s3://imageUrl3", "github url3", Role.STUDENT));
+    }
+
+    @Test
+    @DisplayName("메시지가 있는 채팅방만 마지막 메시지 시간의 역순으로 조회")
+    void findAllWithLastChatByMemberId() {
+        // given
+        Room airSeed = em.persist(new Room(air, seed));
+        Room airFafi = em.persist(new Room(air, fafi));
+        em.persist(new Room(fafi, seed));
+        Room empty = em.persist(new Room(seed, air));
+
+        LocalDateTime now = LocalDateTime.now();
+        roomRepository.updateLastChat(airSeed.getId(), 1L, "hi seed", air.getId(), now.minusMinutes(1));
+        roomRepository.updateLastChat(airFafi.getId(), 2L, "hi fafi", air.getId(), now);
+        em.clear();
+
+        // when
+        List<Room> rooms = roomRepository.findAllWithLastChatByMemberId(air.getId(), PageRequest.of(0, 20));
+
+        // then
+        assertThat(rooms).extracting(Room::getId)
+                         .containsExactly(airFafi.getId(), airSeed.getId())
+                         .doesNotContain(empty.getId());
+        assertThat(rooms.get(0).getLastChatContent()).isEqualTo("hi fafi");
+    }
+
+    @Test
+    @DisplayName("더 오래된 메시지로는 마지막 메시지가 갱신되지 않는다.")
+    void updateLastChatWithOlderChat() {
+        // given
+        Room room = em.persist(new Room(air, seed));
+        LocalDateTime now = LocalDateTime.now();
+        roomRepository.updateLastChat(room.getId(), 2L, "latest", seed.getId(), now);
+
+        // when
+        int updated = roomRepository.updateLastChat(room.getId(), 1L, "older", air.getId(), now.minusSeconds(1));
+        em.clear();
+
+        // then
+        Room found = roomRepository.findById(room.getId()).get();
+        assertThat(updated).isZero();
+        assertThat(found.getLastChatId()).isEqualTo(2L);
+        assertThat(found.getLastChatSenderId()).isEqualTo(seed.getId());
+    }
+
+    @Test
+    @DisplayName("메시지 요약은 최대 길이까지만 저장된다.")
+    void snippet() {
+        // given
+        Room room = em.persist(new Room(air, seed));
+        Chat chat = new Chat(room, air, seed, "a".repeat(Chat.SNIPPET_LENGTH + 10));
+
+        // when
+        String snippet = chat.getSnippet();
+
+        // then
+        assertThat(snippet).hasSize(Chat.SNIPPET_LENGTH);
+    }
+
+    @Test
+    @DisplayName("같은 선생님과 학생의 채팅방은 하나만 만들 수 있다.")
+    void uniqueTeacherAndStudent() {
+        // given
+        em.persist(new Room(air, seed));
+        em.flush();
+
+        // when
+        // then
+        assertThatThrownBy(() -> roomRepository.saveAndFlush(new Room(air, seed)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,181 @@
+package com.wootech.dropthecode.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.wootech.dropthecode.config.JpaConfig;
+import com.wootech.dropthecode.domain.Language;
+import com.wootech.dropthecode.domain.Member;
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.Skill;
+import com.wootech.dropthecode.domain.TeacherProfile;
+import com.wootech.dropthecode.domain.bridge.TeacherLanguage;
+import com.wootech.dropthecode.domain.bridge.TeacherSkill;
+import com.wootech.dropthecode.dto.TeacherCursor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static com.wootech.dropthecode.builder.MemberBuilder.dummyMember;
+import static com.wootech.dropthecode.builder.TeacherProfileBuilder.dummyTeacherProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(JpaConfig.class)
+@DataJpaTest
+class TeacherFilterRepositoryImplTest {
+    private static final int MAX_PAGES = 10;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TeacherProfileRepository teacherProfileRepository;
+
+    private Statistics statistics;
+    private TeacherProfile airTe;
+    private TeacherProfile allieTe;
+    private TeacherProfile threeReviewsTe;
+    private TeacherProfile otherThreeReviewsTe;
+    private TeacherProfile zeroReviewsTe;
+    private TeacherProfile fiveReviewsTe;
+    private Language java;
+
+    @BeforeEach
+    void setUp() {
+        List<Language> languages = Arrays.asList(
+                Language.builder().name("java").build(),
+                Language.builder().name("javascript").build()
+        );
+        List<Skill> skills = Arrays.asList(
+                Skill.builder().name("spring").build(),
+                Skill.builder().name("vue").build(),
+                Skill.builder().name("react").build()
+        );
+        languages.forEach(em::persist);
+        skills.forEach(em::persist);
+
+        java = languages.get(0);
+        airTe = persistTeacher("oauth1", "name1", 10, languages, skills);
+        allieTe = persistTeacher("oauth2", "name2", 20, languages, skills);
+        threeReviewsTe = persistTeacher("oauth3", "name3", 1, 3, languages, skills);
+        otherThreeReviewsTe = persistTeacher("oauth4", "name4", 1, 3, languages, skills);
+        zeroReviewsTe = persistTeacher("oauth5", "name5", 1, 0, languages, skills);
+        fiveReviewsTe = persistTeacher("oauth6", "name6", 1, 5, languages, skills);
+
+        em.flush();
+        em.clear();
+
+        SessionFactory sessionFactory = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAll();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    private TeacherProfile persistTeacher(String oauthId, String name, int career, List<Language> languages, List<Skill> skills) {
+        return persistTeacher(oauthId, name, career, null, languages, skills);
+    }
+
+    private TeacherProfile persistTeacher(String oauthId, String name, int career, Integer sumReviewCount,
+                                          List<Language> languages, List<Skill> skills) {
+        Member member = dummyMember(oauthId, oauthId + "@gmail.com", name, "s3://" + name, "github " + name,
+                Role.TEACHER, LocalDateTime.now());
+        TeacherProfile teacherProfile = dummyTeacherProfile("title", "content", career, member, LocalDateTime.now(), sumReviewCount);
+        em.persist(member);
+        em.persist(teacherProfile);
+        languages.forEach(language -> em.persist(new TeacherLanguage(teacherProfile, language)));
+        skills.forEach(skill -> em.persist(new TeacherSkill(teacherProfile, skill)));
+        return teacherProfile;
+    }
+
+    @Test
+    @DisplayName("리뷰어 목록은 리뷰어, 언어, 기술을 각각 한 번씩만 조회해 채운다")
+    void findAllByIdsWithoutCartesianProduct() {
+        // given
+        List<Long> ids = Arrays.asList(allieTe.getId(), airTe.getId());
+
+        // when
+        List<TeacherProfile> teacherProfiles = teacherProfileRepository.findAllByIds(ids);
+        teacherProfiles.forEach(teacherProfile -> {
+            teacherProfile.getMember().getName();
+            teacherProfile.getLanguages().forEach(teacherLanguage -> teacherLanguage.getLanguage().getName());
+            teacherProfile.getSkills().forEach(teacherSkill -> teacherSkill.getSkill().getName());
+        });
+
+        // then
+        assertThat(teacherProfiles).extracting(TeacherProfile::getId).containsExactlyElementsOf(ids);
+        assertThat(teacherProfiles).allSatisfy(teacherProfile -> {
+            assertThat(Hibernate.isInitialized(teacherProfile.getLanguages())).isTrue();
+            assertThat(Hibernate.isInitialized(teacherProfile.getSkills())).isTrue();
+            assertThat(teacherProfile.getLanguages()).hasSize(2);
+            assertThat(teacherProfile.getSkills()).hasSize(3);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("리뷰 수 오름차순 커서로 끝까지 조회하면 null 은 0 으로, 같은 값은 id 순서로 빠짐없이 한 번씩 조회한다")
+    void findAllByCursorAscending() {
+        // given
+        List<Boolean> hasNexts = new ArrayList<>();
+
+        // when
+        List<Long> ids = findAllByCursor(Sort.by(Sort.Direction.ASC, TeacherCursor.SUM_REVIEW_COUNT), hasNexts);
+
+        // then
+        assertThat(ids).containsExactly(airTe.getId(), allieTe.getId(), zeroReviewsTe.getId(),
+                threeReviewsTe.getId(), otherThreeReviewsTe.getId(), fiveReviewsTe.getId());
+        assertThat(hasNexts).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("리뷰 수 내림차순 커서로 끝까지 조회하면 null 은 0 으로, 같은 값은 id 역순으로 빠짐없이 한 번씩 조회한다")
+    void findAllByCursorDescending() {
+        // given
+        List<Boolean> hasNexts = new ArrayList<>();
+
+        // when
+        List<Long> ids = findAllByCursor(Sort.by(Sort.Direction.DESC, TeacherCursor.SUM_REVIEW_COUNT), hasNexts);
+
+        // then
+        assertThat(ids).containsExactly(fiveReviewsTe.getId(), otherThreeReviewsTe.getId(), threeReviewsTe.getId(),
+                zeroReviewsTe.getId(), allieTe.getId(), airTe.getId());
+        assertThat(hasNexts).containsExactly(true, true, false);
+    }
+
+    /**
+     * 마지막으로 조회한 리뷰어를 커서로 다음 페이지를 조회한다. 커서가 잘못되어 끝나지 않는 경우를 막기 위해 페이지 수를 제한한다.
+     */
+    private List<Long> findAllByCursor(Sort sort, List<Boolean> hasNexts) {
+        List<Long> ids = new ArrayList<>();
+        TeacherCursor cursor = null;
+        for (int page = 0; page < MAX_PAGES; page++) {
+            Slice<TeacherProfile> slice = teacherProfileRepository.findAllByCursor(java, Collections.emptyList(), 0, cursor,
+                    PageRequest.of(0, 2, sort));
+            slice.forEach(teacherProfile -> ids.add(teacherProfile.getId()));
+            hasNexts.add(slice.hasNext());
+            if (!slice.hasNext()) {
+                break;
+            }
+
+            List<TeacherProfile> content = slice.getContent();
+            cursor = TeacherCursor.of(TeacherCursor.SUM_REVIEW_COUNT, content.get(content.size() - 1));
+        }
+        return ids;
+    }
+}
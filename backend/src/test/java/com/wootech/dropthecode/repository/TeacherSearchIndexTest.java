@@ -0,0 +1,226 @@
+package com.wootech.dropthecode.repository;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import com.wootech.dropthecode.dto.TeacherSortKey;
+import com.wootech.dropthecode.dto.TeacherTag;
+import com.wootech.dropthecode.repository.bridge.TeacherLanguageRepository;
+import com.wootech.dropthecode.repository.bridge.TeacherSkillRepository;
+import com.wootech.dropthecode.service.cache.CacheInvalidation;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TeacherSearchIndex 테스트")
+class TeacherSearchIndexTest {
+
+    private static final long JAVA = 1L;
+    private static final long JAVASCRIPT = 2L;
+    private static final long SPRING = 10L;
+    private static final long REACT = 20L;
+
+    private TeacherProfileRepository teacherProfileRepository;
+    private TeacherLanguageRepository teacherLanguageRepository;
+    private TeacherSkillRepository teacherSkillRepository;
+    private TeacherSearchIndex teacherSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        teacherProfileRepository = mock(TeacherProfileRepository.class);
+        teacherLanguageRepository = mock(TeacherLanguageRepository.class);
+        teacherSkillRepository = mock(TeacherSkillRepository.class);
+
+        given(teacherProfileRepository.findAllSortKeys()).willReturn(Arrays.asList(
+                sortKey(1L, 3, 10, 2.0),
+                sortKey(2L, 5, 3, null),
+                sortKey(3L, 1, 7, 1.5)
+        ));
+        given(teacherLanguageRepository.findAllTeacherTags()).willReturn(Arrays.asList(
+                tag(1L, JAVA), tag(2L, JAVA), tag(3L, JAVA), tag(3L, JAVASCRIPT)
+        ));
+        given(teacherSkillRepository.findAllTeacherTags()).willReturn(Arrays.asList(
+                tag(1L, SPRING), tag(2L, SPRING), tag(3L, REACT)
+        ));
+
+        teacherSearchIndex = new TeacherSearchIndex(teacherProfileRepository, teacherLanguageRepository, teacherSkillRepository, true);
+        teacherSearchIndex.build();
+    }
+
+    @Test
+    @DisplayName("언어, 기술, 연차로 필터링하고 정렬 조건대로 페이지를 반환한다")
+    void search() {
+        // when
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.singletonList(SPRING), 3,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "career")));
+
+        // then
+        assertThat(ids.getContent()).containsExactly(2L, 1L);
+        assertThat(ids.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오프셋과 페이지 크기에 맞는 id만 반환한다")
+    void searchPage() {
+        // when
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.emptyList(), 0,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "sumReviewCount")));
+
+        // then
+        assertThat(ids.getContent()).containsExactly(2L);
+        assertThat(ids.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정렬 값이 같으면 id 오름차순으로 반환하고, 리뷰 수가 바뀌면 정렬 순서도 바뀐다")
+    void searchAfterUpdateSortKeys() {
+        // when
+        teacherSearchIndex.updateSortKeys(3L, 10, 1.5);
+
+        // then
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.emptyList(), 0,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "sumReviewCount")));
+        assertThat(ids.getContent()).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("id 내림차순으로 정렬한다")
+    void searchByIdDescending() {
+        // when
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.emptyList(), 0,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        // then
+        assertThat(ids.getContent()).containsExactly(3L, 2L);
+        assertThat(ids.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("리뷰어를 삭제하면 검색 결과에서 제외된다")
+    void remove() {
+        // when
+        teacherSearchIndex.remove(1L);
+
+        // then
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.singletonList(SPRING), 0, PageRequest.of(0, 10));
+        assertThat(ids.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("리뷰어 정보를 수정하면 색인이 갱신된다")
+    void put() {
+        // when
+        teacherSearchIndex.put(3L, 10, 7, 1.5, Collections.singletonList(JAVA), Collections.singletonList(SPRING));
+
+        // then
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.singletonList(SPRING), 4, PageRequest.of(0, 10));
+        assertThat(ids.getContent()).containsExactly(2L, 3L);
+        assertThat(teacherSearchIndex.search(JAVASCRIPT, Collections.emptyList(), 0, PageRequest.of(0, 10))
+                                     .getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 리뷰어가 바뀌면 DB 에서 다시 읽어 색인을 갱신한다")
+    void reloadOnRemoteInvalidation() {
+        // given
+        given(teacherProfileRepository.findSortKeyById(3L)).willReturn(Optional.of(sortKey(3L, 10, 7, 1.5)));
+        given(teacherLanguageRepository.findTagIdsByTeacherId(3L)).willReturn(Collections.singletonList(JAVA));
+        given(teacherSkillRepository.findTagIdsByTeacherId(3L)).willReturn(Collections.singletonList(SPRING));
+
+        // when
+        teacherSearchIndex.onInvalidation(new CacheInvalidation("other", CacheInvalidation.Target.TEACHER, 3L));
+
+        // then
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.singletonList(SPRING), 4, PageRequest.of(0, 10));
+        assertThat(ids.getContent()).containsExactly(2L, 3L);
+        assertThat(teacherSearchIndex.search(JAVASCRIPT, Collections.emptyList(), 0, PageRequest.of(0, 10))
+                                     .getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제된 리뷰어는 색인에서 제외된다")
+    void removeOnRemoteInvalidation() {
+        // given
+        given(teacherProfileRepository.findSortKeyById(1L)).willReturn(Optional.empty());
+
+        // when
+        teacherSearchIndex.onInvalidation(new CacheInvalidation("other", CacheInvalidation.Target.TEACHER, 1L));
+
+        // then
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.singletonList(SPRING), 0, PageRequest.of(0, 10));
+        assertThat(ids.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("색인을 다시 만드는 동안 반영된 변경은 새 색인에도 남는다")
+    void removeWhileRebuilding() {
+        // given
+        given(teacherProfileRepository.findAllSortKeys()).willAnswer(invocation -> {
+            teacherSearchIndex.remove(1L);
+            return Arrays.asList(sortKey(1L, 3, 10, 2.0), sortKey(2L, 5, 3, null), sortKey(3L, 1, 7, 1.5));
+        });
+
+        // when
+        teacherSearchIndex.build();
+
+        // then
+        Page<Long> ids = teacherSearchIndex.search(JAVA, Collections.singletonList(SPRING), 0, PageRequest.of(0, 10));
+        assertThat(ids.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 조건은 색인을 사용하지 않는다")
+    void supports() {
+        assertThat(teacherSearchIndex.supports(Sort.by("career"))).isTrue();
+        assertThat(teacherSearchIndex.supports(Sort.by("title"))).isFalse();
+        assertThat(teacherSearchIndex.supports(Sort.by("career", "sumReviewCount"))).isFalse();
+    }
+
+    private TeacherSortKey sortKey(Long id, Integer career, Integer sumReviewCount, Double averageReviewTime) {
+        return new TeacherSortKey() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getCareer() {
+                return career;
+            }
+
+            @Override
+            public Integer getSumReviewCount() {
+                return sumReviewCount;
+            }
+
+            @Override
+            public Double getAverageReviewTime() {
+                return averageReviewTime;
+            }
+        };
+    }
+
+    private TeacherTag tag(Long teacherId, Long tagId) {
+        return new TeacherTag() {
+            @Override
+            public Long getTeacherId() {
+                return teacherId;
+            }
+
+            @Override
+            public Long getTagId() {
+                return tagId;
+            }
+        };
+    }
+}
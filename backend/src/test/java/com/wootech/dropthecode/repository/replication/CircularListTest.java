@@ -2,6 +2,13 @@ package com.wootech.dropthecode.repository.replication;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,4 +35,49 @@ class CircularListTest {
         assertThat(third).isEqualTo("slave2");
     }
 
+    @Test
+    @DisplayName("카운터가 int 범위를 넘어도 slave가 번갈아 호출되는지 확인")
+    void getOneAfterOverflow() {
+        // given
+        List<String> slaves = Arrays.asList("slave1", "slave2");
+        CircularList<String> circularList = new CircularList<>(slaves, Integer.MAX_VALUE - 1);
+
+        // when
+        String beforeOverflow = circularList.getOne();
+        String afterOverflow = circularList.getOne();
+        String next = circularList.getOne();
+
+        // then
+        assertThat(beforeOverflow).isEqualTo("slave2");
+        assertThat(afterOverflow).isEqualTo("slave1");
+        assertThat(next).isEqualTo("slave2");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 호출해도 고르게 나뉘는지 확인")
+    void getOneConcurrently() throws InterruptedException {
+        // given
+        List<String> slaves = Arrays.asList("slave1", "slave2");
+        CircularList<String> circularList = new CircularList<>(slaves);
+        Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(10_000);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> {
+                counts.computeIfAbsent(circularList.getOne(), ignored -> new AtomicInteger()).incrementAndGet();
+                latch.countDown();
+            });
+        }
+        boolean completed = latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(terminated).isTrue();
+        assertThat(counts.get("slave1").get()).isEqualTo(5_000);
+        assertThat(counts.get("slave2").get()).isEqualTo(5_000);
+    }
 }
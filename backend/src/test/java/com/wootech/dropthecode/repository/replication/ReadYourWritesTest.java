@@ -0,0 +1,53 @@
+package com.wootech.dropthecode.repository.replication;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTest {
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), now::get);
+
+    @Test
+    @DisplayName("window 안에서는 회원의 마지막 쓰기 시각을 반환한다.")
+    void lastWriteAtWithinWindow() {
+        // given
+        readYourWrites.recordWrite(1L);
+
+        // when
+        now.set(5_999);
+
+        // then
+        assertThat(readYourWrites.lastWriteAt(1L)).isEqualTo(1_000L);
+        assertThat(readYourWrites.lastWriteAt(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 쓰기 기록을 지운다.")
+    void lastWriteAtAfterWindow() {
+        // given
+        readYourWrites.recordWrite(1L);
+
+        // when
+        now.set(6_000);
+
+        // then
+        assertThat(readYourWrites.lastWriteAt(1L)).isZero();
+        assertThat(readYourWrites.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원이 없는 요청은 기록하지 않는다.")
+    void recordWriteWithoutMember() {
+        // when
+        readYourWrites.recordWrite(null);
+
+        // then
+        assertThat(readYourWrites.size()).isZero();
+        assertThat(readYourWrites.lastWriteAt(null)).isZero();
+    }
+}
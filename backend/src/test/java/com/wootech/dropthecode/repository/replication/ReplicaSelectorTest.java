@@ -0,0 +1,154 @@
+package com.wootech.dropthecode.repository.replication;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaSelectorTest {
+    private static final String LAG_QUERY = "SELECT seconds AS Seconds_Behind_Master FROM replication_lag";
+
+    private DataSource slave1;
+    private DataSource slave2;
+    private CustomDataSourceProperties.Probe probe;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        slave1 = replica("slave1");
+        slave2 = replica("slave2");
+
+        probe = new CustomDataSourceProperties.Probe();
+        probe.setLagQuery(LAG_QUERY);
+        probe.setMaxLag(Duration.ofSeconds(10));
+        probe.setFailureThreshold(1);
+        probe.setRecoveryThreshold(2);
+    }
+
+    @Test
+    @DisplayName("가중치만큼 slave 를 번갈아 고른다.")
+    void selectByWeight() {
+        // given
+        ReplicaSelector replicaSelector = new ReplicaSelector(
+                Arrays.asList(new Replica("slave1", slave1, slave1, 2), new Replica("slave2", slave2, slave2, 1)), probe);
+
+        // when
+        List<String> selected = IntStream.range(0, 6)
+                                         .mapToObj(i -> replicaSelector.select().orElseThrow())
+                                         .collect(Collectors.toList());
+
+        // then
+        assertThat(selected).filteredOn("slave1"::equals).hasSize(4);
+        assertThat(selected).filteredOn("slave2"::equals).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘은 slave 는 제외하고, 회복되면 다시 포함한다.")
+    void ejectLaggingReplica() throws SQLException {
+        // given
+        ReplicaSelector replicaSelector = new ReplicaSelector(
+                Arrays.asList(new Replica("slave1", slave1, slave1, 1), new Replica("slave2", slave2, slave2, 1)), probe);
+        updateLag(slave1, 60);
+
+        // when
+        replicaSelector.probe();
+        List<String> whileLagging = IntStream.range(0, 4)
+                                             .mapToObj(i -> replicaSelector.select().orElseThrow())
+                                             .collect(Collectors.toList());
+
+        updateLag(slave1, 0);
+        replicaSelector.probe();
+        boolean afterOneSuccess = replicaSelector.getReplicas().get(0).isAvailable();
+        replicaSelector.probe();
+
+        // then
+        assertThat(whileLagging).containsOnly("slave2");
+        assertThat(afterOneSuccess).isFalse();
+        assertThat(replicaSelector.getReplicas().get(0).isAvailable()).isTrue();
+        assertThat(replicaSelector.getReplicas().get(0).getLagSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 이후까지 복제된 것이 확인된 slave 만 고른다.")
+    void selectCaughtUpReplica() {
+        // given
+        ReplicaSelector replicaSelector = new ReplicaSelector(List.of(new Replica("slave1", slave1, slave1, 1)), probe);
+        long oldWrite = System.currentTimeMillis() - 5_000;
+        long recentWrite = System.currentTimeMillis();
+
+        // when
+        Optional<String> beforeProbe = replicaSelector.select(oldWrite);
+        replicaSelector.probe();
+        Optional<String> afterOldWrite = replicaSelector.select(oldWrite);
+        Optional<String> afterRecentWrite = replicaSelector.select(recentWrite);
+
+        // then
+        assertThat(beforeProbe).isEmpty();
+        assertThat(afterOldWrite).contains("slave1");
+        assertThat(afterRecentWrite).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용할 수 있는 slave 가 없으면 master 로 보낸다.")
+    void fallbackToMaster() {
+        // given
+        JdbcDataSource unreachable = new JdbcDataSource();
+        unreachable.setURL("jdbc:h2:tcp://localhost:1/unreachable");
+        ReplicaSelector replicaSelector = new ReplicaSelector(List.of(new Replica("slave1", unreachable, unreachable, 1)), probe);
+
+        // when
+        replicaSelector.probe();
+        Optional<String> selected = replicaSelector.select();
+
+        // then
+        assertThat(selected).isEmpty();
+        assertThat(replicaSelector.countFallback()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("헬스 체크는 읽기용 DataSource 가 아닌 헬스 체크용 DataSource 로 한다.")
+    void probeWithProbeDataSource() {
+        // given
+        JdbcDataSource unreachable = new JdbcDataSource();
+        unreachable.setURL("jdbc:h2:tcp://localhost:1/unreachable");
+        ReplicaSelector replicaSelector = new ReplicaSelector(List.of(new Replica("slave1", unreachable, slave1, 1)), probe);
+
+        // when
+        replicaSelector.probe();
+
+        // then
+        assertThat(replicaSelector.getReplicas().get(0).isAvailable()).isTrue();
+        assertThat(replicaSelector.getReplicas().get(0).getLagSeconds()).isZero();
+    }
+
+    private DataSource replica(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS replication_lag");
+            statement.execute("CREATE TABLE replication_lag (seconds BIGINT)");
+            statement.execute("INSERT INTO replication_lag VALUES (0)");
+        }
+        return dataSource;
+    }
+
+    private void updateLag(DataSource dataSource, long seconds) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE replication_lag SET seconds = " + seconds);
+        }
+    }
+}
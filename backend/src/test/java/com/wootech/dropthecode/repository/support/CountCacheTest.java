@@ -0,0 +1,58 @@
+package com.wootech.dropthecode.repository.support;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountCacheTest {
+    private final AtomicLong now = new AtomicLong(0);
+    private final CountCache countCache = new CountCache(Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("TTL 이 지나기 전에는 캐시된 count 를 반환한다.")
+    void getBeforeExpired() {
+        // given
+        AtomicLong loadCount = new AtomicLong(0);
+        countCache.get("key", () -> 3L + loadCount.getAndIncrement());
+
+        // when
+        now.set(9_999);
+        long count = countCache.get("key", () -> 3L + loadCount.getAndIncrement());
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        assertThat(loadCount.get()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 count 를 다시 조회한다.")
+    void getAfterExpired() {
+        // given
+        countCache.get("key", () -> 3L);
+
+        // when
+        now.set(10_000);
+        long count = countCache.get("key", () -> 5L);
+
+        // then
+        assertThat(count).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 count 를 다시 조회한다.")
+    void evict() {
+        // given
+        countCache.get("key", () -> 3L);
+
+        // when
+        countCache.evict("key");
+        long count = countCache.get("key", () -> 5L);
+
+        // then
+        assertThat(count).isEqualTo(5L);
+    }
+}
@@ -1,27 +1,40 @@
 package com.wootech.dropthecode.service;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import com.wootech.dropthecode.controller.auth.util.JwtTokenProvider;
 import com.wootech.dropthecode.controller.auth.util.RedisUtil;
+import com.wootech.dropthecode.controller.auth.util.TokenCache;
 import com.wootech.dropthecode.domain.LoginMember;
 import com.wootech.dropthecode.domain.Role;
 import com.wootech.dropthecode.domain.Token;
+import com.wootech.dropthecode.domain.VerifiedToken;
 import com.wootech.dropthecode.dto.request.RefreshTokenRequest;
 import com.wootech.dropthecode.dto.response.AccessTokenResponse;
 import com.wootech.dropthecode.exception.AuthenticationException;
+import com.wootech.dropthecode.repository.EmitterRepository;
+import com.wootech.dropthecode.repository.NotificationEventStore;
+import com.wootech.dropthecode.repository.RevokedMemberStore;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.wootech.dropthecode.builder.MemberBuilder.dummyMember;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @DisplayName("AuthService")
 @ExtendWith(MockitoExtension.class)
@@ -36,16 +49,32 @@ class AuthServiceTest {
     @Mock
     private RedisUtil redisUtil;
 
-    @InjectMocks
+    @Mock
+    private EmitterRepository emitterRepository;
+
+    @Mock
+    private NotificationEventStore notificationEventStore;
+
+    @Mock
+    private RevokedMemberStore revokedMemberStore;
+
+    private TokenCache tokenCache;
+
     private AuthService authService;
 
+    @BeforeEach
+    void setUp() {
+        tokenCache = new TokenCache(Duration.ofSeconds(30), 100);
+        authService = new AuthService(jwtTokenProvider, memberService, redisUtil, emitterRepository,
+                notificationEventStore, tokenCache, revokedMemberStore, true, true);
+    }
 
     @Test
     @DisplayName("access token이 유효한지 검증")
     void validatesAccessToken() {
         // given
         String invalidAccessToken = "invalid.access.token";
-        given(jwtTokenProvider.validateToken(invalidAccessToken)).willReturn(false);
+        given(jwtTokenProvider.verify(invalidAccessToken)).willReturn(Optional.empty());
 
         // when
         // then
@@ -54,20 +83,69 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("유효한 토큰으로 Member 찾기")
+    @DisplayName("유효한 토큰의 클레임으로 Member 찾기")
     void findMemberByValidToken() {
         // given
         String validAccessToken = "valid.access.token";
-        given(jwtTokenProvider.validateToken(validAccessToken)).willReturn(true);
-        given(jwtTokenProvider.getPayload(validAccessToken)).willReturn("1");
-        given(memberService.findById(1L))
-                .willReturn(dummyMember(1L, "oauthId", "air", "air.junseo@gmail.com", "s3://image", "github url", Role.STUDENT, null));
+        given(jwtTokenProvider.verify(validAccessToken)).willReturn(Optional.of(validToken("1")));
 
         // when
         LoginMember loginMember = authService.findMemberByToken(validAccessToken);
 
         // then
         assertThat(loginMember.getId()).isEqualTo(1L);
+        then(memberService).should(never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("role 클레임이 없는 이전 토큰은 회원을 조회해 Member 찾기")
+    void findMemberByLegacyToken() {
+        // given
+        String legacyAccessToken = "legacy.access.token";
+        VerifiedToken legacyToken = new VerifiedToken("1", null, 0L, System.currentTimeMillis() + 60_000);
+        given(jwtTokenProvider.verify(legacyAccessToken)).willReturn(Optional.of(legacyToken));
+        given(memberService.findById(1L))
+                .willReturn(dummyMember(1L, "oauthId", "air", "air.junseo@gmail.com", "s3://image", "github url", Role.TEACHER, null));
+
+        // when
+        LoginMember loginMember = authService.findMemberByToken(legacyAccessToken);
+
+        // then
+        assertThat(loginMember.getId()).isEqualTo(1L);
+        then(memberService).should().findById(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 토큰으로 Member 찾기")
+    void findMemberByRevokedToken() {
+        // given
+        String revokedAccessToken = "revoked.access.token";
+        given(jwtTokenProvider.verify(revokedAccessToken)).willReturn(Optional.of(validToken("1")));
+        given(revokedMemberStore.isRevoked(any(), anyLong())).willReturn(true);
+
+        // when
+        LoginMember loginMember = authService.findMemberByToken(revokedAccessToken);
+
+        // then
+        assertThat(loginMember).isEqualTo(LoginMember.anonymous());
+        assertThatThrownBy(() -> authService.validatesAccessToken(revokedAccessToken))
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    @DisplayName("회원을 조회하지 않고 토큰의 회원 id 만 찾기")
+    void findMemberIdByToken() {
+        // given
+        String validAccessToken = "valid.access.token";
+        given(jwtTokenProvider.verify(validAccessToken)).willReturn(Optional.of(validToken("1")));
+
+        // when
+        Long memberId = authService.findMemberIdByToken(validAccessToken);
+
+        // then
+        assertThat(memberId).isEqualTo(1L);
+        assertThat(authService.findMemberIdByToken(null)).isNull();
+        then(memberService).should(never()).findById(anyLong());
     }
 
     @Test
@@ -75,7 +153,7 @@ class AuthServiceTest {
     void findMemberByInvalidToken() {
         // given
         String invalidAccessToken = "invalid.access.token";
-        given(jwtTokenProvider.validateToken(invalidAccessToken)).willReturn(false);
+        given(jwtTokenProvider.verify(invalidAccessToken)).willReturn(Optional.empty());
 
         // when
         LoginMember loginMember = authService.findMemberByToken(invalidAccessToken);
@@ -84,6 +162,40 @@ class AuthServiceTest {
         assertThat(loginMember).isEqualTo(LoginMember.anonymous());
     }
 
+    @Test
+    @DisplayName("한 번 검증한 토큰은 서명을 다시 검증하지 않고 Member 찾기")
+    void findMemberByCachedToken() {
+        // given
+        String validAccessToken = "valid.access.token";
+        given(jwtTokenProvider.verify(validAccessToken)).willReturn(Optional.of(validToken("1")));
+        authService.validatesAccessToken(validAccessToken);
+
+        // when
+        authService.findMemberByToken(validAccessToken);
+        LoginMember loginMember = authService.findMemberByToken(validAccessToken);
+
+        // then
+        assertThat(loginMember.getId()).isEqualTo(1L);
+        then(jwtTokenProvider).should(times(1)).verify(validAccessToken);
+        then(revokedMemberStore).should(times(1)).isRevoked(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 캐시에서 제거")
+    void logoutEvictsCachedToken() {
+        // given
+        String validAccessToken = "valid.access.token";
+        given(jwtTokenProvider.verify(validAccessToken)).willReturn(Optional.of(validToken("1")));
+        given(jwtTokenProvider.getPayload(validAccessToken)).willReturn("1");
+        authService.validatesAccessToken(validAccessToken);
+
+        // when
+        authService.logout(validAccessToken);
+
+        // then
+        assertThat(tokenCache.getToken(validAccessToken)).isNull();
+    }
+
     @Test
     @DisplayName("만료된 access token을 만료되지 않은 refresh 토큰으로 갱신")
     void refreshAccessTokenCaseOne() {
@@ -94,7 +206,9 @@ class AuthServiceTest {
         given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
         given(jwtTokenProvider.getPayload(anyString())).willReturn("1");
         given(redisUtil.getData(anyString())).willReturn(refreshToken);
-        given(jwtTokenProvider.createAccessToken(anyString())).willReturn(new Token(newAccessToken, 1L));
+        given(memberService.findById(1L))
+                .willReturn(dummyMember(1L, "oauthId", "air", "air.junseo@gmail.com", "s3://image", "github url", Role.STUDENT, null));
+        given(jwtTokenProvider.createAccessToken(anyString(), any())).willReturn(new Token(newAccessToken, 1L));
 
         // when
         AccessTokenResponse response = authService.refreshAccessToken(accessToken, new RefreshTokenRequest(refreshToken));
@@ -141,7 +255,9 @@ class AuthServiceTest {
         given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
         given(jwtTokenProvider.getPayload(anyString())).willReturn("1");
         given(redisUtil.getData(anyString())).willReturn(refreshToken);
-        given(jwtTokenProvider.createAccessToken(anyString())).willReturn(new Token(newAccessToken, 1L));
+        given(memberService.findById(1L))
+                .willReturn(dummyMember(1L, "oauthId", "air", "air.junseo@gmail.com", "s3://image", "github url", Role.STUDENT, null));
+        given(jwtTokenProvider.createAccessToken(anyString(), any())).willReturn(new Token(newAccessToken, 1L));
 
         // when
         AccessTokenResponse response = authService.refreshAccessToken(accessToken, new RefreshTokenRequest(refreshToken));
@@ -149,4 +265,8 @@ class AuthServiceTest {
         // then
         assertThat(response.getAccessToken()).isEqualTo(newAccessToken);
     }
+
+    private static VerifiedToken validToken(String subject) {
+        return new VerifiedToken(subject, Role.STUDENT, 0L, System.currentTimeMillis() + 60_000);
+    }
 }
@@ -0,0 +1,45 @@
+package com.wootech.dropthecode.service;
+
+import com.wootech.dropthecode.domain.Notification;
+import com.wootech.dropthecode.domain.review.ReviewEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("NotificationEventListener Test")
+@ExtendWith(MockitoExtension.class)
+class NotificationEventListenerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private NotificationEventListener notificationEventListener;
+
+    @Test
+    @DisplayName("리뷰 이벤트를 받으면 알림을 저장한 뒤 전송")
+    void handle() {
+        // given
+        Notification notification = mock(Notification.class);
+        ReviewEvent event = new ReviewEvent(1L, 2L, "새로운 리뷰 요청이 도착했습니다!");
+        given(notificationService.save(1L, 2L, "새로운 리뷰 요청이 도착했습니다!")).willReturn(notification);
+
+        // when
+        notificationEventListener.handle(event);
+
+        // then
+        InOrder inOrder = inOrder(notificationService);
+        inOrder.verify(notificationService).save(1L, 2L, "새로운 리뷰 요청이 도착했습니다!");
+        inOrder.verify(notificationService).push(1L, notification);
+    }
+}
@@ -0,0 +1,82 @@
+package com.wootech.dropthecode.service;
+
+import java.util.Optional;
+
+import com.wootech.dropthecode.domain.Member;
+import com.wootech.dropthecode.domain.Role;
+import com.wootech.dropthecode.domain.chatting.Room;
+import com.wootech.dropthecode.dto.request.RoomRequest;
+import com.wootech.dropthecode.dto.response.RoomIdResponse;
+import com.wootech.dropthecode.repository.RoomRepository;
+import com.wootech.dropthecode.service.chat.RoomParticipantCache;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.wootech.dropthecode.builder.MemberBuilder.dummyMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RoomService")
+@ExtendWith(MockitoExtension.class)
+class RoomServiceTest {
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomParticipantCache roomParticipantCache;
+
+    @InjectMocks
+    private RoomService roomService;
+
+    @Test
+    @DisplayName("같은 채팅방이 동시에 만들어져 유니크 인덱스에 걸리면 먼저 만들어진 방을 반환한다.")
+    void getOrCreateWhenCreatedConcurrently() {
+        // given
+        Member teacher = dummyMember(1L, "oauth1", "email1@gmail.com", "air", "s3://imageUrl1", "github url1", Role.TEACHER, null);
+        Member student = dummyMember(2L, "oauth2", "email2@gmail.com", "seed", "s3://imageUrl2", "github url2", Role.STUDENT, null);
+        Room existing = mock(Room.class);
+        given(existing.getId()).willReturn(7L);
+        given(roomRepository.findByTeacherIdAndStudentId(1L, 2L)).willReturn(Optional.empty(), Optional.of(existing));
+        given(memberService.findById(1L)).willReturn(teacher);
+        given(memberService.findById(2L)).willReturn(student);
+        given(roomRepository.save(any(Room.class))).willThrow(new DataIntegrityViolationException("room_teacherId_studentId"));
+
+        // when
+        RoomIdResponse result = roomService.getOrCreate(new RoomRequest(2L, 1L));
+
+        // then
+        assertThat(result.getRoomId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("insert 에 실패했는데 다시 조회해도 방이 없으면 예외를 그대로 던진다.")
+    void getOrCreateWhenInsertFailedWithoutRoom() {
+        // given
+        Member teacher = dummyMember(1L, "oauth1", "email1@gmail.com", "air", "s3://imageUrl1", "github url1", Role.TEACHER, null);
+        Member student = dummyMember(2L, "oauth2", "email2@gmail.com", "seed", "s3://imageUrl2", "github url2", Role.STUDENT, null);
+        given(roomRepository.findByTeacherIdAndStudentId(1L, 2L)).willReturn(Optional.empty());
+        given(memberService.findById(1L)).willReturn(teacher);
+        given(memberService.findById(2L)).willReturn(student);
+        given(roomRepository.save(any(Room.class))).willThrow(new DataIntegrityViolationException("fk_room_to_student"));
+
+        // when
+        // then
+        assertThatThrownBy(() -> roomService.getOrCreate(new RoomRequest(2L, 1L)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
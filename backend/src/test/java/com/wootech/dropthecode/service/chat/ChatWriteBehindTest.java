@@ -0,0 +1,152 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.wootech.dropthecode.exception.ChattingException;
+import com.wootech.dropthecode.service.ChattingService;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindTest {
+
+    @Mock
+    private ChattingService chattingService;
+
+    private ChatWriteBehind chatWriteBehind;
+
+    @BeforeEach
+    void setUp() {
+        chatWriteBehind = new ChatWriteBehind(chattingService, 2, 10, Duration.ofMillis(50), Duration.ofMillis(10), Duration.ofSeconds(5),
+                Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 메시지를 모두 저장한다.")
+    @SuppressWarnings("unchecked")
+    void stop() {
+        // given
+        chatWriteBehind.start();
+        chatWriteBehind.append(new RedisChat(1L, 1L, 2L, "hi"));
+        chatWriteBehind.append(new RedisChat(1L, 2L, 1L, "hello"));
+
+        // when
+        chatWriteBehind.stop();
+
+        // then
+        ArgumentCaptor<List<RedisChat>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chattingService, atLeastOnce()).saveAll(captor.capture());
+        assertThat(captor.getAllValues()).flatExtracting(chats -> chats)
+                                         .extracting(RedisChat::getMessage)
+                                         .containsExactly("hi", "hello");
+        assertThat(chatWriteBehind.countQueued()).isZero();
+        assertThat(chatWriteBehind.countPersisted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 메시지를 거절한다.")
+    void appendOverCapacity() throws InterruptedException {
+        // given
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            saving.countDown();
+            release.await();
+            return null;
+        }).given(chattingService).saveAll(anyList());
+        chatWriteBehind.start();
+        chatWriteBehind.append(new RedisChat(1L, 1L, 2L, "message1"));
+        saving.await(5, TimeUnit.SECONDS);
+        chatWriteBehind.append(new RedisChat(1L, 1L, 2L, "message2"));
+        chatWriteBehind.append(new RedisChat(1L, 1L, 2L, "message3"));
+
+        // when // then
+        try {
+            assertThatThrownBy(() -> chatWriteBehind.append(new RedisChat(1L, 1L, 2L, "message4")))
+                    .isInstanceOf(ChattingException.class);
+            assertThat(chatWriteBehind.countRejected()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            chatWriteBehind.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 전이나 종료 후에는 메시지를 거절한다.")
+    void appendWhenNotRunning() {
+        // given
+        chatWriteBehind.start();
+        chatWriteBehind.stop();
+
+        // when // then
+        assertThatThrownBy(() -> chatWriteBehind.append(new RedisChat(1L, 1L, 2L, "message")))
+                .isInstanceOf(ChattingException.class);
+        assertThat(chatWriteBehind.countRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제약 조건을 어긴 메시지가 섞여 있으면 하나씩 다시 저장하고 그 메시지만 버린다.")
+    void flushOneByOne() {
+        // given
+        RedisChat valid = new RedisChat(1L, 1L, 2L, "valid");
+        RedisChat invalid = new RedisChat(1L, 1L, 3L, "invalid");
+        willThrow(new DataIntegrityViolationException("fk")).given(chattingService).saveAll(List.of(valid, invalid));
+        willThrow(new DataIntegrityViolationException("fk")).given(chattingService).saveAll(List.of(invalid));
+        chatWriteBehind.start();
+        chatWriteBehind.append(valid);
+        chatWriteBehind.append(invalid);
+
+        // when
+        chatWriteBehind.stop();
+
+        // then
+        verify(chattingService).saveAll(List.of(valid));
+        verify(chattingService, atLeastOnce()).saveAll(anyList());
+        assertThat(chatWriteBehind.countPersisted()).isEqualTo(1);
+        assertThat(chatWriteBehind.countFailed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 저장에 실패하면 버리지 않고 다시 저장한다.")
+    void retryTransientFailure() {
+        // given
+        RedisChat chat = new RedisChat(1L, 1L, 2L, "message");
+        willThrow(new QueryTimeoutException("timeout"))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willDoNothing()
+                .given(chattingService).saveAll(anyList());
+        chatWriteBehind.start();
+        chatWriteBehind.append(chat);
+
+        // when
+        chatWriteBehind.stop();
+
+        // then
+        verify(chattingService, times(3)).saveAll(List.of(chat));
+        assertThat(chatWriteBehind.countPersisted()).isEqualTo(1);
+        assertThat(chatWriteBehind.countRetried()).isEqualTo(2);
+        assertThat(chatWriteBehind.countFailed()).isZero();
+    }
+}
@@ -0,0 +1,45 @@
+package com.wootech.dropthecode.service.chat;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisChatSerializerTest {
+
+    private final RedisChatSerializer redisChatSerializer = new RedisChatSerializer();
+
+    @Test
+    @DisplayName("직렬화한 채팅 메시지를 그대로 복원한다.")
+    void serialize() {
+        // given
+        RedisChat chat = new RedisChat(1L, 2L, 3L, "안녕하세요 😀 hello");
+
+        // when
+        RedisChat result = redisChatSerializer.deserialize(redisChatSerializer.serialize(chat));
+
+        // then
+        assertThat(result).usingRecursiveComparison()
+                          .isEqualTo(chat);
+    }
+
+    @Test
+    @DisplayName("형식이 다른 메시지는 역직렬화할 수 없다.")
+    void deserializeInvalidFormat() {
+        // given
+        byte[] json = "{\"roomId\":1,\"senderId\":2,\"receiverId\":3,\"message\":\"hi\"}".getBytes();
+
+        // when // then
+        assertThatThrownBy(() -> redisChatSerializer.deserialize(json))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("빈 메시지는 null 로 역직렬화한다.")
+    void deserializeEmpty() {
+        assertThat(redisChatSerializer.deserialize(new byte[0])).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package com.wootech.dropthecode.service.chat;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomParticipantCacheTest {
+    private final AtomicLong now = new AtomicLong(0);
+    private final RoomParticipantCache roomParticipantCache = new RoomParticipantCache(Duration.ofSeconds(60), 2, now::get);
+
+    @Test
+    @DisplayName("TTL 이 지나면 참여자를 다시 조회하도록 비운다.")
+    void getAfterExpired() {
+        // given
+        roomParticipantCache.put(1L, Set.of(10L, 20L));
+
+        // when
+        now.set(59_999);
+        Set<Long> beforeExpired = roomParticipantCache.get(1L);
+        now.set(60_000);
+
+        // then
+        assertThat(beforeExpired).containsOnly(10L, 20L);
+        assertThat(roomParticipantCache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("가득 차면 전체를 비우지 않고 만료가 가장 가까운 채팅방만 지운다.")
+    void evictOldestWhenFull() {
+        // given
+        roomParticipantCache.put(1L, Set.of(10L, 20L));
+        now.set(1_000);
+        roomParticipantCache.put(2L, Set.of(10L, 30L));
+        now.set(2_000);
+
+        // when
+        roomParticipantCache.put(3L, Set.of(20L, 30L));
+
+        // then
+        assertThat(roomParticipantCache.size()).isEqualTo(2);
+        assertThat(roomParticipantCache.get(1L)).isNull();
+        assertThat(roomParticipantCache.get(2L)).isNotNull();
+        assertThat(roomParticipantCache.get(3L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("회원이 삭제되면 그 회원이 참여한 채팅방을 지운다.")
+    void evictAllByMemberId() {
+        // given
+        roomParticipantCache.put(1L, Set.of(10L, 20L));
+        roomParticipantCache.put(2L, Set.of(20L, 30L));
+
+        // when
+        roomParticipantCache.evictAllByMemberId(10L);
+
+        // then
+        assertThat(roomParticipantCache.get(1L)).isNull();
+        assertThat(roomParticipantCache.get(2L)).containsOnly(20L, 30L);
+    }
+}
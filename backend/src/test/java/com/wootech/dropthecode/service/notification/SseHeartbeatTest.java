@@ -0,0 +1,93 @@
+package com.wootech.dropthecode.service.notification;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+
+import com.wootech.dropthecode.repository.EmitterRepository;
+
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SseHeartbeatTest {
+
+    private EmitterRepository emitterRepository;
+    private SseHeartbeat sseHeartbeat;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository();
+        sseHeartbeat = new SseHeartbeat(emitterRepository, new SyncTaskExecutor(), Duration.ofSeconds(30), Duration.ofSeconds(5), 2);
+    }
+
+    @Test
+    @DisplayName("하트비트 전송에 실패한 emitter 만 제거된다.")
+    void beat() throws IOException {
+        // given
+        SseEmitter alive1 = mock(SseEmitter.class);
+        SseEmitter alive2 = mock(SseEmitter.class);
+        SseEmitter dead = mock(SseEmitter.class);
+        willThrow(new IOException("Broken pipe")).given(dead).send(any(SseEmitter.SseEventBuilder.class));
+
+        emitterRepository.save(1L, "1_1000", alive1);
+        emitterRepository.save(1L, "1_2000", dead);
+        emitterRepository.save(2L, "2_1000", alive2);
+
+        // when
+        sseHeartbeat.beat();
+
+        // then
+        verify(alive1, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(alive2, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(emitterRepository.findAllByMemberId(1L)).containsOnlyKeys("1_1000");
+        assertThat(emitterRepository.countEmitters()).isEqualTo(2);
+        assertThat(sseHeartbeat.countEvicted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료된 emitter 도 제거된다.")
+    void beatCompletedEmitter() throws IOException {
+        // given
+        SseEmitter completed = mock(SseEmitter.class);
+        willThrow(new IllegalStateException("ResponseBodyEmitter has already completed"))
+                .given(completed).send(any(SseEmitter.SseEventBuilder.class));
+        emitterRepository.save(1L, "1_1000", completed);
+
+        // when
+        sseHeartbeat.beat();
+
+        // then
+        assertThat(emitterRepository.countMembers()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연 폭이 1ms 보다 작으면 지연 없이 다음 하트비트 시각을 정한다.")
+    void nextBeatWithSubMillisecondJitter() {
+        // given
+        SseHeartbeat heartbeat = new SseHeartbeat(emitterRepository, new SyncTaskExecutor(), Duration.ofSeconds(30), Duration.ofNanos(500), 2);
+        ScheduledTaskRegistrar taskRegistrar = new ScheduledTaskRegistrar();
+        heartbeat.configureTasks(taskRegistrar);
+        Trigger trigger = taskRegistrar.getTriggerTaskList().get(0).getTrigger();
+        SimpleTriggerContext triggerContext = new SimpleTriggerContext(new Date(0), new Date(0), new Date(1_000));
+
+        // when
+        Date next = trigger.nextExecutionTime(triggerContext);
+
+        // then
+        assertThat(next).isEqualTo(new Date(31_000));
+    }
+}
@@ -22,7 +22,7 @@ public class DatabaseCleanup implements InitializingBean {
     private List<String> tableNames;
 
     private final List<String> excludeTableNames = Arrays.asList(
-            "teacher_profile", "feedback"
+            "teacher_profile", "feedback", "teacher_statistics"
     );
 
     @Override
@@ -12,8 +12,10 @@ import com.wootech.dropthecode.domain.bridge.LanguageSkill;
 import com.wootech.dropthecode.repository.LanguageRepository;
 import com.wootech.dropthecode.repository.SkillRepository;
 import com.wootech.dropthecode.repository.bridge.LanguageSkillRepository;
+import com.wootech.dropthecode.service.LanguageCatalogChangedEvent;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,9 @@ public class DatabaseDefaultInsert {
     @Autowired
     private LanguageSkillRepository languageSkillRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public void insertDefaultLanguageAndSkill() {
         Map<Long, Language> languageMap = insertLanguage()
@@ -40,6 +45,7 @@ public class DatabaseDefaultInsert {
                 .collect(Collectors.toMap(Skill::getId, Function.identity()));
 
         insertLanguageSkill(languageMap, skillMap);
+        eventPublisher.publishEvent(new LanguageCatalogChangedEvent());
     }
 
     private List<Language> insertLanguage() {